@@ -0,0 +1,29 @@
+package com.todoapp.backend.config;
+
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * CBOR (application/cbor) for callers that ask for it with Accept or send it as
+ * Content-Type, on every endpoint that takes or returns a DTO, errors included;
+ * JSON stays the default. Built from the Jackson settings Spring Boot applies to
+ * JSON, except that dates are written as numeric arrays, e.g.
+ * [2025, 1, 31, 9, 30, 0, 123456000], instead of ISO strings.
+ */
+@Configuration(proxyBeanMethods = false)
+public class CborConfiguration {
+
+    /**
+     * Replaces the converter Spring MVC would register with its own defaults.
+     */
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory())
+                .featuresToEnable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build());
+    }
+}
@@ -0,0 +1,40 @@
+package com.todoapp.backend.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.jdbc.JdbcConnectionDetails;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * JDBC pool of the reactive profile. Spring Boot skips its DataSource once an
+ * R2DBC ConnectionFactory exists, but Flyway, imports and archiving still use
+ * JPA; the pool is built here from spring.datasource, or from a service
+ * connection in tests.
+ */
+@Configuration(proxyBeanMethods = false)
+@Profile("reactive")
+@EnableConfigurationProperties(DataSourceProperties.class)
+public class ReactiveDataSourceConfiguration {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource dataSource(DataSourceProperties properties,
+                                       ObjectProvider<JdbcConnectionDetails> connectionDetails) {
+        DataSourceBuilder<HikariDataSource> builder =
+                properties.initializeDataSourceBuilder().type(HikariDataSource.class);
+        JdbcConnectionDetails details = connectionDetails.getIfAvailable();
+        if (details != null) {
+            builder.url(details.getJdbcUrl())
+                    .username(details.getUsername())
+                    .password(details.getPassword())
+                    .driverClassName(details.getDriverClassName());
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,105 @@
+package com.todoapp.backend.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Sends read-only transactions to replicas and everything else to spring.datasource.
+ * The application DataSource is a LazyConnectionDataSourceProxy, which fetches the
+ * physical connection only once the transaction's read-only flag is known. Each
+ * replica gets its own Hikari pool (replica-1, replica-2, ...), reported in the
+ * hikaricp.* metrics next to the primary pool. Caches shared across requests
+ * (RecentTaskIndex, RecentTaskSnapshot) are filled from the primary; the
+ * second-level cache (l2cache profile) is filled by every entity load and so
+ * cannot be combined with replicas. With todo.shards, ShardDataSourceConfiguration
+ * routes to the replicas of each shard instead.
+ * Enabled by todo.replicas.enabled.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnExpression("${todo.replicas.enabled:false} and !${todo.shards.enabled:false}")
+@EnableConfigurationProperties(ReplicaProperties.class)
+@Slf4j
+public class ReplicaDataSourceConfiguration {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaDataSource(HikariDataSource primaryDataSource,
+                                                      DataSourceProperties properties,
+                                                      ReplicaProperties replicaProperties,
+                                                      ObjectProvider<MeterRegistry> meterRegistry,
+                                                      Environment environment) {
+        rejectSecondLevelCache(environment);
+        ReplicaRoutingDataSource replicaDataSource = replicaRouting(primaryDataSource, "replica-",
+                replicaProperties.getUrls(), properties, replicaProperties, meterRegistry);
+        log.info("Routing read-only transactions to {} replica(s), ejection time {}",
+                replicaProperties.getUrls().size(), replicaProperties.getEjectionTime());
+        return replicaDataSource;
+    }
+
+    @Bean
+    @Primary
+    public LazyConnectionDataSourceProxy dataSource(HikariDataSource primaryDataSource,
+                                                    ReplicaRoutingDataSource replicaDataSource) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primaryDataSource);
+        dataSource.setReadOnlyDataSource(replicaDataSource);
+        return dataSource;
+    }
+
+    static void rejectSecondLevelCache(Environment environment) {
+        if (environment.getProperty("spring.jpa.properties.hibernate.cache.use_second_level_cache",
+                Boolean.class, false)) {
+            throw new IllegalStateException("todo.replicas cannot be combined with the second-level cache");
+        }
+    }
+
+    /**
+     * Routes the read-only connections of the primary to the replica urls, one
+     * pool per replica named poolPrefix 1, 2, ...
+     */
+    static ReplicaRoutingDataSource replicaRouting(DataSource primary, String poolPrefix, List<String> urls,
+                                                   DataSourceProperties properties,
+                                                   ReplicaProperties replicaProperties,
+                                                   ObjectProvider<MeterRegistry> meterRegistry) {
+        List<DataSource> replicas = new ArrayList<>();
+        for (String url : urls) {
+            HikariDataSource replica = new HikariDataSource();
+            replica.setPoolName(poolPrefix + (replicas.size() + 1));
+            replica.setJdbcUrl(url);
+            replica.setUsername(properties.determineUsername());
+            replica.setPassword(properties.determinePassword());
+            replica.setDriverClassName(properties.determineDriverClassName());
+            replica.setMaximumPoolSize(replicaProperties.getMaximumPoolSize());
+            replica.setConnectionTimeout(replicaProperties.getConnectionTimeout().toMillis());
+            replica.setReadOnly(true);
+            // Start even while the replica is down; it is ejected on its first failed checkout.
+            replica.setInitializationFailTimeout(-1);
+            meterRegistry.ifAvailable(registry ->
+                    replica.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry)));
+            replicas.add(replica);
+        }
+        return new ReplicaRoutingDataSource(primary, replicas, replicaProperties.getEjectionTime());
+    }
+}
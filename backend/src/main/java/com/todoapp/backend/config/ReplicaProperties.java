@@ -0,0 +1,49 @@
+package com.todoapp.backend.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Settings for routing read-only transactions to replicas (todo.replicas.*).
+ * Replicas use the username and password of spring.datasource. With todo.shards,
+ * urls are the replicas of shard 0 and shardUrls those of the further shards.
+ */
+@Data
+@ConfigurationProperties("todo.replicas")
+public class ReplicaProperties {
+
+    private boolean enabled;
+
+    /**
+     * JDBC URLs of the replicas, used round-robin.
+     */
+    private List<String> urls = new ArrayList<>();
+
+    /**
+     * JDBC URLs of the replicas of shards 1, 2, ... by shard, used with todo.shards.
+     */
+    private Map<Integer, List<String>> shardUrls = new HashMap<>();
+
+    private int maximumPoolSize = 10;
+
+    /**
+     * How long to wait for a replica connection before trying the next one.
+     */
+    private Duration connectionTimeout = Duration.ofSeconds(1);
+
+    /**
+     * How long a replica that failed to hand out a connection is skipped.
+     */
+    private Duration ejectionTime = Duration.ofSeconds(30);
+
+    /**
+     * How long a client's reads stay on the primary after it wrote.
+     */
+    private Duration readYourWritesWindow = Duration.ofSeconds(5);
+}
@@ -0,0 +1,128 @@
+package com.todoapp.backend.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Hands out replica connections round-robin. A replica that fails to hand out a
+ * connection is ejected for the ejection time and the next one is tried; when none
+ * is available, or the current thread is pinned to the primary, the primary serves.
+ * Used as the read-only target of the LazyConnectionDataSourceProxy, so only
+ * read-only transactions get here.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+
+    private static final ThreadLocal<Boolean> PINNED_TO_PRIMARY = new ThreadLocal<>();
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final long ejectionNanos;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas, Duration ejectionTime) {
+        this.primary = primary;
+        this.replicas = replicas.stream().map(Replica::new).toList();
+        this.ejectionNanos = ejectionTime.toNanos();
+    }
+
+    /**
+     * Sends this thread's read-only transactions to the primary until unpin().
+     */
+    public static void pinToPrimary() {
+        PINNED_TO_PRIMARY.set(Boolean.TRUE);
+    }
+
+    public static void unpin() {
+        PINNED_TO_PRIMARY.remove();
+    }
+
+    /**
+     * Runs the action with this thread's read-only transactions on the primary,
+     * for reads that fill a cache shared by later requests, which must not keep
+     * what a lagging replica returned. Leaves an outer pin in place.
+     */
+    public static <T> T onPrimary(Supplier<T> action) {
+        if (PINNED_TO_PRIMARY.get() != null) {
+            return action.get();
+        }
+        pinToPrimary();
+        try {
+            return action.get();
+        } finally {
+            unpin();
+        }
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return connect(DataSource::getConnection);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return connect(dataSource -> dataSource.getConnection(username, password));
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    int getAvailableReplicas() {
+        long now = System.nanoTime();
+        return (int) replicas.stream().filter(replica -> replica.isAvailable(now)).count();
+    }
+
+    private Connection connect(ConnectionSource source) throws SQLException {
+        if (PINNED_TO_PRIMARY.get() == null && !replicas.isEmpty()) {
+            int start = Math.floorMod(next.getAndIncrement(), replicas.size());
+            for (int i = 0; i < replicas.size(); i++) {
+                Replica replica = replicas.get((start + i) % replicas.size());
+                if (!replica.isAvailable(System.nanoTime())) {
+                    continue;
+                }
+                try {
+                    return source.connect(replica.dataSource);
+                } catch (SQLException ex) {
+                    replica.ejectedUntil = System.nanoTime() + ejectionNanos;
+                    log.warn("Ejecting replica {} for {} ms: {}", replica.dataSource, ejectionNanos / 1_000_000,
+                            ex.getMessage());
+                }
+            }
+        }
+        return source.connect(primary);
+    }
+
+    @FunctionalInterface
+    private interface ConnectionSource {
+        Connection connect(DataSource dataSource) throws SQLException;
+    }
+
+    private static final class Replica {
+
+        private final DataSource dataSource;
+        // System.nanoTime() value; compared by difference since it may be negative.
+        private volatile long ejectedUntil = System.nanoTime();
+
+        private Replica(DataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+
+        private boolean isAvailable(long now) {
+            return now - ejectedUntil >= 0;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.todoapp.backend.config;
+
+import com.todoapp.backend.entity.Task;
+import com.todoapp.backend.repository.TaskRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+/**
+ * Publishes the statistics of the Hibernate cache regions as Micrometer's cache
+ * meters: cache.gets (result hit or miss), cache.puts, cache.evictions (size or
+ * expiry) and cache.removals, tagged with the region name. They are read from the
+ * CacheStatistics MXBeans the JCache provider registers for each region, since
+ * Hibernate's own statistics do not count evictions.
+ * Enabled together with the second-level cache (l2cache profile).
+ */
+@Component
+@ConditionalOnProperty(name = "spring.jpa.properties.hibernate.cache.use_second_level_cache", havingValue = "true")
+public class SecondLevelCacheMetrics implements MeterBinder {
+
+    static final List<String> REGIONS = List.of(
+            Task.CACHE_REGION, TaskRepository.RECENT_QUERY_REGION, "default-update-timestamps-region");
+
+    private final MBeanServer mBeanServer;
+
+    public SecondLevelCacheMetrics() {
+        this(ManagementFactory.getPlatformMBeanServer());
+    }
+
+    SecondLevelCacheMetrics(MBeanServer mBeanServer) {
+        this.mBeanServer = mBeanServer;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (String region : REGIONS) {
+            counter(registry, "cache.gets", region, "CacheHits", "hit");
+            counter(registry, "cache.gets", region, "CacheMisses", "miss");
+            counter(registry, "cache.puts", region, "CachePuts", null);
+            counter(registry, "cache.evictions", region, "CacheEvictions", null);
+            counter(registry, "cache.removals", region, "CacheRemovals", null);
+        }
+    }
+
+    private void counter(MeterRegistry registry, String name, String region, String attribute, String result) {
+        FunctionCounter.Builder<SecondLevelCacheMetrics> builder =
+                FunctionCounter.builder(name, this, metrics -> metrics.statistic(region, attribute))
+                        .tag("cache", region);
+        if (result != null) {
+            builder.tag("result", result);
+        }
+        builder.register(registry);
+    }
+
+    /**
+     * Sums the attribute over every cache manager holding the region; 0 until the
+     * region is first used.
+     */
+    private double statistic(String region, String attribute) {
+        try {
+            ObjectName pattern = new ObjectName("javax.cache:type=CacheStatistics,Cache=" + region + ",*");
+            double total = 0;
+            for (ObjectName name : mBeanServer.queryNames(pattern, null)) {
+                total += ((Number) mBeanServer.getAttribute(name, attribute)).doubleValue();
+            }
+            return total;
+        } catch (JMException ex) {
+            return Double.NaN;
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.todoapp.backend.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.Flyway;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Stores tasks on several databases, each owner's on one of them (see
+ * TaskShardRouter). The application DataSource is a LazyConnectionDataSourceProxy,
+ * which fetches the physical connection only at the first statement, by which
+ * time the task repository has bound the owner's shard. Each shard gets its own
+ * Hikari pool (shard-0, shard-1, ...) and is migrated by Flyway at startup,
+ * after which its task_id_seq is moved into the shard's id range (ShardIdRanges),
+ * so that ids are unique across shards and the second-level cache (l2cache
+ * profile) can be combined with sharding. With todo.replicas, read-only
+ * transactions go to the replicas of the bound shard (shard-1-replica-1, ...).
+ * Enabled by todo.shards.enabled.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "todo.shards.enabled", havingValue = "true")
+@EnableConfigurationProperties({ShardProperties.class, ReplicaProperties.class})
+@Slf4j
+public class ShardDataSourceConfiguration {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource shardZeroDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("shard-0");
+        return dataSource;
+    }
+
+    @Bean
+    public ShardRoutingDataSource shardDataSource(HikariDataSource shardZeroDataSource,
+                                                  DataSourceProperties properties,
+                                                  ShardProperties shardProperties,
+                                                  ObjectProvider<MeterRegistry> meterRegistry) {
+        if (shardProperties.getUrls().size() >= ShardIdRanges.MAX_SHARDS) {
+            throw new IllegalStateException("todo.shards supports at most " + ShardIdRanges.MAX_SHARDS + " shards");
+        }
+        List<DataSource> shards = new ArrayList<>();
+        shards.add(shardZeroDataSource);
+        for (String url : shardProperties.getUrls()) {
+            HikariDataSource shard = new HikariDataSource();
+            shard.setPoolName("shard-" + shards.size());
+            shard.setJdbcUrl(url);
+            shard.setUsername(properties.determineUsername());
+            shard.setPassword(properties.determinePassword());
+            shard.setDriverClassName(properties.determineDriverClassName());
+            shard.setMaximumPoolSize(shardProperties.getMaximumPoolSize());
+            meterRegistry.ifAvailable(registry ->
+                    shard.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry)));
+            shards.add(shard);
+        }
+        log.info("Storing tasks on {} shard(s) by owner", shards.size());
+        return new ShardRoutingDataSource(shards);
+    }
+
+    @Bean
+    @Primary
+    public LazyConnectionDataSourceProxy dataSource(ShardRoutingDataSource shardDataSource,
+                                                    DataSourceProperties properties,
+                                                    ReplicaProperties replicaProperties,
+                                                    ObjectProvider<MeterRegistry> meterRegistry,
+                                                    Environment environment) {
+        if (!replicaProperties.isEnabled()) {
+            return new LazyConnectionDataSourceProxy(shardDataSource);
+        }
+        ReplicaDataSourceConfiguration.rejectSecondLevelCache(environment);
+        List<DataSource> replicaDataSources = new ArrayList<>();
+        for (int shard = 0; shard < shardDataSource.getShardCount(); shard++) {
+            List<String> urls = shard == 0 ? replicaProperties.getUrls()
+                    : replicaProperties.getShardUrls().getOrDefault(shard, List.of());
+            replicaDataSources.add(ReplicaDataSourceConfiguration.replicaRouting(shardDataSource.getShard(shard),
+                    "shard-" + shard + "-replica-", urls, properties, replicaProperties, meterRegistry));
+        }
+        log.info("Routing read-only transactions to the replicas of each shard, ejection time {}",
+                replicaProperties.getEjectionTime());
+        return new ReplicatedShardDataSource(shardDataSource, new ShardRoutingDataSource(replicaDataSources));
+    }
+
+    /**
+     * Runs the migrations Flyway was configured with on every shard, shard 0
+     * first, and moves each shard's task_id_seq into its id range. Tasks stored
+     * before the ranges were introduced keep their ids, which may repeat across
+     * shards; the second-level cache is refused while any shard holds such ids.
+     */
+    @Bean
+    public FlywayMigrationStrategy shardMigrationStrategy(ShardRoutingDataSource shardDataSource,
+                                                          Environment environment) {
+        return flyway -> {
+            for (int shard = 0; shard < shardDataSource.getShardCount(); shard++) {
+                Flyway.configure(flyway.getConfiguration().getClassLoader())
+                        .configuration(flyway.getConfiguration())
+                        .dataSource(shardDataSource.getShard(shard))
+                        .load()
+                        .migrate();
+                if (ShardIdRanges.apply(shardDataSource.getShard(shard), shard)) {
+                    continue;
+                }
+                if (environment.getProperty("spring.jpa.properties.hibernate.cache.use_second_level_cache",
+                        Boolean.class, false)) {
+                    throw new IllegalStateException("todo.shards cannot be combined with the second-level cache "
+                            + "while shard " + shard + " holds task ids outside its range");
+                }
+                log.warn("Shard {} holds task ids outside its range {}..{}; they may repeat on other shards",
+                        shard, ShardIdRanges.first(shard), ShardIdRanges.last(shard));
+            }
+        };
+    }
+
+    /**
+     * Sends read-only connections to the replicas of the bound shard and closes
+     * their pools with the context.
+     */
+    private static final class ReplicatedShardDataSource extends LazyConnectionDataSourceProxy
+            implements AutoCloseable {
+
+        private final ShardRoutingDataSource replicaDataSource;
+
+        ReplicatedShardDataSource(ShardRoutingDataSource shardDataSource, ShardRoutingDataSource replicaDataSource) {
+            super(shardDataSource);
+            setReadOnlyDataSource(replicaDataSource);
+            this.replicaDataSource = replicaDataSource;
+        }
+
+        @Override
+        public void close() throws Exception {
+            replicaDataSource.close();
+        }
+    }
+}
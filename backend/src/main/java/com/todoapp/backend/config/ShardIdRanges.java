@@ -0,0 +1,83 @@
+package com.todoapp.backend.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Gives every shard its own range of task ids, so that ids are unique across
+ * shards and caches keyed by id, such as the second-level cache, stay correct.
+ * Shard k numbers its tasks from k * 2^40 + 1 to (k + 1) * 2^40, which keeps
+ * ids exact in JavaScript clients for up to 8192 shards.
+ */
+@Slf4j
+public final class ShardIdRanges {
+
+    static final long RANGE = 1L << 40;
+    static final int MAX_SHARDS = (int) ((1L << 53) / RANGE);
+
+    private ShardIdRanges() {
+    }
+
+    public static long first(int shard) {
+        return shard * RANGE + 1;
+    }
+
+    public static long last(int shard) {
+        return (shard + 1) * RANGE;
+    }
+
+    /**
+     * Moves the shard's task_id_seq into the shard's range unless it is there
+     * already, and caps it at the end of the range.
+     *
+     * @return Whether every task and archived task on the shard has an id in the range
+     */
+    static boolean apply(DataSource dataSource, int shard) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        Sequence sequence = readSequence(dataSource, jdbcTemplate);
+        // The pooled optimizer hands out the increment ids up to each sequence value.
+        long start = first(shard) + sequence.increment() - 1;
+        if (sequence.next() < start) {
+            log.info("Moving task_id_seq of shard {} to {}", shard, start);
+            jdbcTemplate.execute("ALTER SEQUENCE task_id_seq RESTART WITH " + start + " MAXVALUE " + last(shard));
+        } else if (sequence.next() <= last(shard)) {
+            jdbcTemplate.execute("ALTER SEQUENCE task_id_seq MAXVALUE " + last(shard));
+        }
+        Long outside = jdbcTemplate.queryForObject("SELECT (SELECT count(*) FROM task WHERE id NOT BETWEEN ? AND ?)"
+                        + " + (SELECT count(*) FROM task_archive WHERE id NOT BETWEEN ? AND ?)", Long.class,
+                first(shard), last(shard), first(shard), last(shard));
+        return outside == 0;
+    }
+
+    private static Sequence readSequence(DataSource dataSource, JdbcTemplate jdbcTemplate) {
+        String product;
+        try {
+            product = JdbcUtils.extractDatabaseMetaData(dataSource, "getDatabaseProductName");
+        } catch (MetaDataAccessException ex) {
+            throw new IllegalStateException("Could not determine the database of a shard", ex);
+        }
+        if ("H2".equals(product)) {
+            Map<String, Object> row = jdbcTemplate.queryForMap("SELECT BASE_VALUE, INCREMENT "
+                    + "FROM INFORMATION_SCHEMA.SEQUENCES WHERE SEQUENCE_NAME = 'TASK_ID_SEQ'");
+            return new Sequence(((Number) row.get("BASE_VALUE")).longValue(),
+                    ((Number) row.get("INCREMENT")).longValue());
+        }
+        Map<String, Object> row = jdbcTemplate.queryForMap("SELECT s.last_value, s.is_called, p.increment_by "
+                + "FROM task_id_seq s, pg_sequences p "
+                + "WHERE p.schemaname = current_schema() AND p.sequencename = 'task_id_seq'");
+        long increment = ((Number) row.get("increment_by")).longValue();
+        long lastValue = ((Number) row.get("last_value")).longValue();
+        return new Sequence(Boolean.TRUE.equals(row.get("is_called")) ? lastValue + increment : lastValue, increment);
+    }
+
+    /**
+     * @param next The value the sequence returns next
+     */
+    private record Sequence(long next, long increment) {
+    }
+}
@@ -0,0 +1,27 @@
+package com.todoapp.backend.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Settings for spreading task storage over several databases (todo.shards.*).
+ * spring.datasource is shard 0 and the urls are shards 1, 2, ...; they use its
+ * username and password. Owners are assigned to shards by hash modulo the
+ * number of shards, so that number must not change once tasks are stored.
+ */
+@Data
+@ConfigurationProperties("todo.shards")
+public class ShardProperties {
+
+    private boolean enabled;
+
+    /**
+     * JDBC URLs of the shards after spring.datasource, in shard order.
+     */
+    private List<String> urls = new ArrayList<>();
+
+    private int maximumPoolSize = 10;
+}
@@ -0,0 +1,80 @@
+package com.todoapp.backend.config;
+
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Hands out connections of the shard bound to the current thread, or of shard 0
+ * when none is bound (Flyway, health checks, database metadata at startup).
+ * Shards are bound by TaskShardRouter for the task repository calls of one owner.
+ */
+public class ShardRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+
+    private static final ThreadLocal<Integer> BOUND_SHARD = new ThreadLocal<>();
+
+    private final List<DataSource> shards;
+
+    public ShardRoutingDataSource(List<DataSource> shards) {
+        this.shards = List.copyOf(shards);
+    }
+
+    /**
+     * Sends this thread's new connections to the shard until unbind().
+     */
+    public static void bind(int shard) {
+        BOUND_SHARD.set(shard);
+    }
+
+    public static void unbind() {
+        BOUND_SHARD.remove();
+    }
+
+    /**
+     * @return The shard bound to this thread, or null
+     */
+    public static Integer boundShard() {
+        return BOUND_SHARD.get();
+    }
+
+    public int getShardCount() {
+        return shards.size();
+    }
+
+    public DataSource getShard(int shard) {
+        return shards.get(shard);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return currentShard().getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return currentShard().getConnection(username, password);
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (DataSource shard : shards) {
+            if (shard instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    private DataSource currentShard() {
+        Integer shard = BOUND_SHARD.get();
+        if (shard == null) {
+            return shards.get(0);
+        }
+        if (shard >= shards.size()) {
+            throw new IllegalStateException("Shard " + shard + " bound, but only " + shards.size() + " configured");
+        }
+        return shards.get(shard);
+    }
+}
@@ -0,0 +1,62 @@
+package com.todoapp.backend.controller;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes one access log line per sampled request to the com.todoapp.backend.access
+ * logger, with method, path, status and duration as key-value pairs (fields in
+ * structured output). Server errors are always logged; other requests with
+ * probability todo.access-log.sample-rate. For streaming responses the duration
+ * covers the initial dispatch only.
+ * Enabled by todo.access-log.enabled (on in the prod profile).
+ */
+@Component
+@ConditionalOnProperty(name = "todo.access-log.enabled", havingValue = "true")
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@Slf4j(topic = "com.todoapp.backend.access")
+public class AccessLogFilter extends OncePerRequestFilter {
+
+    private final double sampleRate;
+
+    public AccessLogFilter(@Value("${todo.access-log.sample-rate:1.0}") double sampleRate) {
+        this.sampleRate = sampleRate;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        long start = System.nanoTime();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            int status = response.getStatus();
+            if (log.isInfoEnabled() && (status >= 500 || sampled())) {
+                long durationMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start);
+                log.atInfo()
+                        .addKeyValue("http.method", request.getMethod())
+                        .addKeyValue("url.path", request.getRequestURI())
+                        .addKeyValue("http.status", status)
+                        .addKeyValue("duration.us", durationMicros)
+                        .log("{} {} {} {}us", request.getMethod(), request.getRequestURI(), status, durationMicros);
+            }
+        }
+    }
+
+    private boolean sampled() {
+        return sampleRate >= 1.0 || (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate);
+    }
+}
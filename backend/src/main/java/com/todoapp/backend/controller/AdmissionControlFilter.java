@@ -0,0 +1,127 @@
+package com.todoapp.backend.controller;
+
+import com.todoapp.backend.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * Admission control for task requests: reads (GET) and writes each get an
+ * AdmissionLimiter whose limit starts at todo.admission.max-limit (the pool
+ * size) and shrinks while admitted requests take longer than
+ * todo.admission.latency-tolerance times their usual latency, i.e. while more
+ * concurrency only adds waiting in the database. Requests over the limit wait up to
+ * todo.admission.max-wait in a queue of todo.admission.queue-size; beyond that
+ * they are answered with 503 and Retry-After at once, instead of holding a
+ * thread for Hikari's 30 s connection timeout while the database is slow.
+ * A slot is held until the response is complete, including a streamed export.
+ * Enabled by todo.admission.enabled.
+ */
+@Component
+@ConditionalOnProperty(name = "todo.admission.enabled", havingValue = "true")
+@Slf4j
+public class AdmissionControlFilter extends OncePerRequestFilter {
+
+    static final String REJECTED_COUNTER = "todo.admission.rejected";
+
+    private static final long RETRY_AFTER_SECONDS = 1;
+
+    private final AdmissionLimiter reads;
+    private final AdmissionLimiter writes;
+    private final long maxWaitNanos;
+    private final Counter readsRejected;
+    private final Counter writesRejected;
+    private final HandlerExceptionResolver handlerExceptionResolver;
+
+    public AdmissionControlFilter(@Value("${todo.admission.min-limit:1}") int minLimit,
+                                  @Value("${todo.admission.max-limit:${spring.datasource.hikari.maximum-pool-size:10}}") int maxLimit,
+                                  @Value("${todo.admission.queue-size:10}") int queueSize,
+                                  @Value("${todo.admission.max-wait:50ms}") Duration maxWait,
+                                  @Value("${todo.admission.latency-tolerance:1.5}") double latencyTolerance,
+                                  MeterRegistry meterRegistry,
+                                  @Qualifier("handlerExceptionResolver") HandlerExceptionResolver handlerExceptionResolver) {
+        this.reads = new AdmissionLimiter(minLimit, maxLimit, queueSize, latencyTolerance);
+        this.writes = new AdmissionLimiter(minLimit, maxLimit, queueSize, latencyTolerance);
+        this.maxWaitNanos = maxWait.toNanos();
+        this.readsRejected = register(meterRegistry, "read", reads);
+        this.writesRejected = register(meterRegistry, "write", writes);
+        this.handlerExceptionResolver = handlerExceptionResolver;
+        log.info("Admission control enabled: limits {}-{} per class, queue {}, {} max wait, {} latency tolerance",
+                minLimit, maxLimit, queueSize, maxWait, latencyTolerance);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !TaskRequests.usesDatabase(request);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        boolean read = "GET".equals(request.getMethod());
+        AdmissionLimiter limiter = read ? reads : writes;
+        if (!acquire(limiter)) {
+            (read ? readsRejected : writesRejected).increment();
+            handlerExceptionResolver.resolveException(request, response, null,
+                    new ServiceUnavailableException("Server is busy, please retry", RETRY_AFTER_SECONDS));
+            return;
+        }
+        // Exports and imports run as long as their data; their latency says nothing about load.
+        boolean bulk = TaskRequests.isBulk(request);
+        long start = System.nanoTime();
+        Runnable release = () -> limiter.release(bulk ? -1 : System.nanoTime() - start);
+        try {
+            chain.doFilter(request, response);
+        } catch (Throwable ex) {
+            release.run();
+            throw ex;
+        }
+        TaskRequests.whenFinished(request, release);
+    }
+
+    AdmissionLimiter getReads() {
+        return reads;
+    }
+
+    AdmissionLimiter getWrites() {
+        return writes;
+    }
+
+    private boolean acquire(AdmissionLimiter limiter) {
+        try {
+            return limiter.acquire(maxWaitNanos);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static Counter register(MeterRegistry meterRegistry, String requestClass, AdmissionLimiter limiter) {
+        Gauge.builder("todo.admission.limit", limiter, AdmissionLimiter::getLimit)
+                .description("Concurrent task requests admitted")
+                .tag("class", requestClass)
+                .register(meterRegistry);
+        Gauge.builder("todo.admission.in-flight", limiter, AdmissionLimiter::getInFlight)
+                .description("Task requests currently admitted")
+                .tag("class", requestClass)
+                .register(meterRegistry);
+        return Counter.builder(REJECTED_COUNTER)
+                .description("Task requests answered with 503 by admission control")
+                .tag("class", requestClass)
+                .register(meterRegistry);
+    }
+}
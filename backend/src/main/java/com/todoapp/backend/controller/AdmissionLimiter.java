@@ -0,0 +1,137 @@
+package com.todoapp.backend.controller;
+
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Concurrency limit for one class of requests with a short FIFO queue in front
+ * of it. The limit follows a latency gradient: each admitted request updates a
+ * short-term and a long-term average of its latency, and while the short-term
+ * average exceeds tolerance times the long-term one the limit shrinks in
+ * proportion (by at most half per step), otherwise it grows by one per step.
+ * Concurrency that only adds queueing in the database thus gets cut back, while
+ * a slowdown that persists becomes the new long-term latency and stops
+ * shrinking the limit instead of starving throughput. The limit is left alone
+ * while less than half of it is in use.
+ */
+class AdmissionLimiter {
+
+    private static final double SHORT_ALPHA = 0.1;
+    private static final double LONG_ALPHA = 0.002;
+    private static final double SMOOTHING = 0.2;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition released = lock.newCondition();
+    private final int minLimit;
+    private final int maxLimit;
+    private final int queueSize;
+    private final double tolerance;
+
+    private double limit;
+    private double shortLatency;
+    private double longLatency;
+    private int inFlight;
+    private int waiting;
+
+    AdmissionLimiter(int minLimit, int maxLimit, int queueSize, double tolerance) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.queueSize = queueSize;
+        this.tolerance = tolerance;
+        this.limit = maxLimit;
+    }
+
+    /**
+     * Admits the request at once if the limit allows and nobody is queued,
+     * otherwise queues it for up to maxWaitNanos.
+     * @return Whether the request was admitted; false when the queue is full or the wait ran out
+     */
+    boolean acquire(long maxWaitNanos) throws InterruptedException {
+        lock.lock();
+        try {
+            if (waiting == 0 && inFlight < getLimit()) {
+                inFlight++;
+                return true;
+            }
+            if (waiting >= queueSize) {
+                return false;
+            }
+            waiting++;
+            try {
+                long remaining = maxWaitNanos;
+                while (inFlight >= getLimit()) {
+                    if (remaining <= 0) {
+                        return false;
+                    }
+                    remaining = released.awaitNanos(remaining);
+                }
+                inFlight++;
+                return true;
+            } finally {
+                waiting--;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Releases an admitted request.
+     * @param latencyNanos Time from admission to completion, or a negative value to leave the limit unchanged
+     */
+    void release(long latencyNanos) {
+        lock.lock();
+        try {
+            int before = getLimit();
+            if (latencyNanos >= 0) {
+                adjust(latencyNanos);
+            }
+            inFlight--;
+            if (getLimit() > before) {
+                released.signalAll();
+            } else {
+                released.signal();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int getLimit() {
+        lock.lock();
+        try {
+            return (int) limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int getInFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void adjust(long latencyNanos) {
+        if (longLatency == 0) {
+            shortLatency = latencyNanos;
+            longLatency = latencyNanos;
+            return;
+        }
+        shortLatency += (latencyNanos - shortLatency) * SHORT_ALPHA;
+        longLatency += (latencyNanos - longLatency) * LONG_ALPHA;
+        // After a slowdown ends, pull the long-term average down faster so the limit recovers.
+        if (longLatency > 2 * shortLatency) {
+            longLatency *= 0.95;
+        }
+        if (inFlight * 2 < limit) {
+            return;
+        }
+        double gradient = Math.max(0.5, Math.min(1.0, tolerance * longLatency / shortLatency));
+        double target = limit * gradient + 1;
+        limit = Math.max(minLimit, Math.min(maxLimit, limit * (1 - SMOOTHING) + target * SMOOTHING));
+    }
+}
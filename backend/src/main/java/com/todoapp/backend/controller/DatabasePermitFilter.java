@@ -0,0 +1,125 @@
+package com.todoapp.backend.controller;
+
+import com.todoapp.backend.config.ReplicaProperties;
+import com.todoapp.backend.config.ShardProperties;
+import com.todoapp.backend.exception.ServiceUnavailableException;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lets at most as many task requests run as the connection pools have connections.
+ * With many more web threads than connections, bursts would otherwise all pile
+ * into Hikari's wait queue; here they wait in FIFO order and are answered with
+ * 503 once they have waited the pool's connection timeout.
+ * Writes share the primary pool, or all shard pools with todo.shards; reads
+ * may also use the replica pools of todo.replicas. A permit is held until the
+ * response is complete, including a streamed export. Requests that do not use
+ * the database, and GET /api/tasks while the RecentTaskIndex serves it, pass
+ * without a permit.
+ * Enabled by todo.request-permits.enabled.
+ */
+@Component
+@ConditionalOnProperty(name = "todo.request-permits.enabled", havingValue = "true")
+@Slf4j
+public class DatabasePermitFilter extends OncePerRequestFilter {
+
+    private static final long RETRY_AFTER_SECONDS = 1;
+
+    private final Semaphore writePermits;
+    private final Semaphore readPermits;
+    private final long timeoutMillis;
+    private final boolean recentListInMemory;
+    private final HandlerExceptionResolver handlerExceptionResolver;
+
+    @Autowired
+    public DatabasePermitFilter(@Value("${spring.datasource.hikari.maximum-pool-size:10}") int poolSize,
+                                @Value("${spring.datasource.hikari.connection-timeout:30000}") long timeoutMillis,
+                                @Value("${todo.recent-index.enabled:false}") boolean recentListInMemory,
+                                ObjectProvider<ShardProperties> shardProperties,
+                                ObjectProvider<ReplicaProperties> replicaProperties,
+                                @Qualifier("handlerExceptionResolver") HandlerExceptionResolver handlerExceptionResolver) {
+        this(writeConnections(poolSize, shardProperties.getIfAvailable()),
+                writeConnections(poolSize, shardProperties.getIfAvailable())
+                        + readOnlyConnections(replicaProperties.getIfAvailable()),
+                timeoutMillis, recentListInMemory, handlerExceptionResolver);
+    }
+
+    DatabasePermitFilter(int writePermits, int readPermits, long timeoutMillis, boolean recentListInMemory,
+                         HandlerExceptionResolver handlerExceptionResolver) {
+        this.writePermits = new Semaphore(writePermits, true);
+        this.readPermits = new Semaphore(readPermits, true);
+        this.timeoutMillis = timeoutMillis;
+        this.recentListInMemory = recentListInMemory;
+        this.handlerExceptionResolver = handlerExceptionResolver;
+        log.info("Database permits enabled: {} write and {} read permits, {} ms wait",
+                writePermits, readPermits, timeoutMillis);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !TaskRequests.usesDatabase(request) || (recentListInMemory && TaskRequests.isRecentList(request));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        Semaphore permits = "GET".equals(request.getMethod()) ? readPermits : writePermits;
+        if (!acquire(permits)) {
+            handlerExceptionResolver.resolveException(request, response, null,
+                    new ServiceUnavailableException("Server is busy, please retry", RETRY_AFTER_SECONDS));
+            return;
+        }
+        try {
+            chain.doFilter(request, response);
+        } catch (Throwable ex) {
+            permits.release();
+            throw ex;
+        }
+        TaskRequests.whenFinished(request, permits::release);
+    }
+
+    int getAvailableWritePermits() {
+        return writePermits.availablePermits();
+    }
+
+    int getAvailableReadPermits() {
+        return readPermits.availablePermits();
+    }
+
+    private static int writeConnections(int poolSize, ShardProperties shards) {
+        return shards == null ? poolSize : poolSize + shards.getUrls().size() * shards.getMaximumPoolSize();
+    }
+
+    private static int readOnlyConnections(ReplicaProperties replicas) {
+        if (replicas == null || !replicas.isEnabled()) {
+            return 0;
+        }
+        int urls = replicas.getUrls().size() + replicas.getShardUrls().values().stream().mapToInt(List::size).sum();
+        return urls * replicas.getMaximumPoolSize();
+    }
+
+    private boolean acquire(Semaphore permits) {
+        try {
+            return permits.tryAcquire(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,329 @@
+package com.todoapp.backend.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.todoapp.backend.dto.TaskBulkCompleteRequest;
+import com.todoapp.backend.dto.TaskBulkCompleteResponse;
+import com.todoapp.backend.dto.TaskCreateRequest;
+import com.todoapp.backend.dto.TaskDeleteResponse;
+import com.todoapp.backend.dto.TaskImportResponse;
+import com.todoapp.backend.dto.TaskPageResponse;
+import com.todoapp.backend.dto.TaskResponse;
+import com.todoapp.backend.dto.TaskSearchResponse;
+import com.todoapp.backend.dto.ValidOwner;
+import com.todoapp.backend.event.TaskEventBroadcaster;
+import com.todoapp.backend.service.ReactiveTaskService;
+import com.todoapp.backend.service.RecentTaskSnapshot;
+import com.todoapp.backend.service.TaskImportService;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.InputStream;
+import java.util.List;
+
+/**
+ * REST Controller for Task operations on the reactive stack.
+ * Serves the same paths, parameters and payloads as TaskController, JSON and
+ * CBOR, with the same validation. Imports parse the upload with the blocking
+ * TaskImportService on a bounded-elastic thread. Active with the reactive profile only.
+ * AdmissionControlFilter and DatabasePermitFilter are servlet filters, so
+ * todo.admission and todo.request-permits are refused; AccessLogFilter does
+ * not apply either.
+ */
+@RestController
+@RequestMapping("/api/tasks")
+@Profile("reactive")
+@Slf4j
+@CrossOrigin(origins = "http://localhost:5173") // Allow React dev server
+public class ReactiveTaskController {
+
+    /**
+     * Upload buffers the import reads ahead of the parser.
+     */
+    private static final int IMPORT_DEMAND = 16;
+
+    private final ReactiveTaskService taskService;
+    private final TaskImportService taskImportService;
+    private final TaskEventBroadcaster taskEventBroadcaster;
+    private final ObjectMapper jsonMapper;
+    private final ObjectMapper cborMapper;
+    private final int eventBufferSize;
+
+    public ReactiveTaskController(ReactiveTaskService taskService,
+                                  TaskImportService taskImportService,
+                                  TaskEventBroadcaster taskEventBroadcaster,
+                                  ObjectMapper objectMapper,
+                                  MappingJackson2CborHttpMessageConverter cborConverter,
+                                  @Value("${todo.events.buffer-size:256}") int eventBufferSize,
+                                  @Value("${todo.admission.enabled:false}") boolean admissionControl,
+                                  @Value("${todo.request-permits.enabled:false}") boolean requestPermits) {
+        if (admissionControl) {
+            throw new IllegalStateException("todo.admission cannot be combined with the reactive profile");
+        }
+        if (requestPermits) {
+            throw new IllegalStateException("todo.request-permits cannot be combined with the reactive profile");
+        }
+        this.taskService = taskService;
+        this.taskImportService = taskImportService;
+        this.taskEventBroadcaster = taskEventBroadcaster;
+        this.jsonMapper = objectMapper;
+        this.cborMapper = cborConverter.getObjectMapper();
+        this.eventBufferSize = eventBufferSize;
+    }
+
+    /**
+     * Creates a new task.
+     * POST /api/tasks
+     */
+    @PostMapping
+    public Mono<ResponseEntity<TaskResponse>> createTask(@Valid @RequestBody TaskCreateRequest request) {
+        log.debug("POST /api/tasks - Creating new task");
+        return taskService.createTask(request)
+                .map(response -> new ResponseEntity<>(response, HttpStatus.CREATED));
+    }
+
+    /**
+     * Creates several tasks of one owner in one request; every item is validated.
+     * POST /api/tasks/batch
+     */
+    @PostMapping("/batch")
+    public Mono<ResponseEntity<List<TaskResponse>>> createTasks(
+            @RequestBody @NotEmpty @Size(max = 1000) List<@Valid TaskCreateRequest> requests) {
+        if (log.isDebugEnabled()) {
+            log.debug("POST /api/tasks/batch - Creating {} tasks", requests.size());
+        }
+        return taskService.createTasks(requests)
+                .map(responses -> new ResponseEntity<>(responses, HttpStatus.CREATED));
+    }
+
+    /**
+     * Imports tasks from a newline-delimited JSON upload.
+     * POST /api/tasks/import?owner=...
+     */
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public Mono<TaskImportResponse> importNdjson(
+            @RequestParam(defaultValue = TaskCreateRequest.DEFAULT_OWNER) @ValidOwner String owner,
+            ServerHttpRequest request) {
+        log.info("POST /api/tasks/import - Importing NDJSON tasks");
+        return importTasks(owner, request.getBody(), TaskImportService.Format.NDJSON);
+    }
+
+    /**
+     * Imports tasks from a CSV upload with a title,description header row.
+     * POST /api/tasks/import?owner=...
+     */
+    @PostMapping(value = "/import", consumes = "text/csv")
+    public Mono<TaskImportResponse> importCsv(
+            @RequestParam(defaultValue = TaskCreateRequest.DEFAULT_OWNER) @ValidOwner String owner,
+            ServerHttpRequest request) {
+        log.info("POST /api/tasks/import - Importing CSV tasks");
+        return importTasks(owner, request.getBody(), TaskImportService.Format.CSV);
+    }
+
+    private Mono<TaskImportResponse> importTasks(String owner, Flux<DataBuffer> body,
+                                                 TaskImportService.Format format) {
+        return Mono.fromCallable(() -> {
+                    try (InputStream input = DataBufferUtils.subscriberInputStream(body, IMPORT_DEMAND)) {
+                        return taskImportService.importTasks(owner, input, format);
+                    }
+                })
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    /**
+     * Gets the 5 most recent non-completed tasks with a strong ETag; a matching
+     * If-None-Match is answered with 304 by WebFlux's conditional request handling.
+     * GET /api/tasks?owner=...
+     */
+    @GetMapping
+    public Mono<ResponseEntity<byte[]>> getRecentTasks(
+            @RequestParam(defaultValue = TaskCreateRequest.DEFAULT_OWNER) @ValidOwner String owner) {
+        log.debug("GET /api/tasks - Fetching recent tasks");
+        return recentTasks(owner, jsonMapper, MediaType.APPLICATION_JSON);
+    }
+
+    /**
+     * Gets the 5 most recent non-completed tasks as CBOR, with its own ETag.
+     * GET /api/tasks with Accept: application/cbor
+     */
+    @GetMapping(produces = MediaType.APPLICATION_CBOR_VALUE)
+    public Mono<ResponseEntity<byte[]>> getRecentTasksCbor(
+            @RequestParam(defaultValue = TaskCreateRequest.DEFAULT_OWNER) @ValidOwner String owner) {
+        log.debug("GET /api/tasks - Fetching recent tasks as CBOR");
+        return recentTasks(owner, cborMapper, MediaType.APPLICATION_CBOR);
+    }
+
+    private Mono<ResponseEntity<byte[]>> recentTasks(String owner, ObjectMapper mapper, MediaType contentType) {
+        return taskService.getRecentTasks(owner)
+                .map(tasks -> RecentTaskSnapshot.Snapshot.of(0, mapper, tasks))
+                .map(snapshot -> ResponseEntity.ok()
+                        .eTag(snapshot.getEtag())
+                        .cacheControl(CacheControl.noCache())
+                        .contentType(contentType)
+                        .varyBy(HttpHeaders.ACCEPT)
+                        .body(snapshot.getBody()));
+    }
+
+    /**
+     * Lists all tasks newest first with keyset pagination; archived tasks are not listed.
+     * GET /api/tasks/page?owner=...&completed=true&size=20&cursor=...
+     */
+    @GetMapping("/page")
+    public Mono<TaskPageResponse> getTasks(
+            @RequestParam(defaultValue = TaskCreateRequest.DEFAULT_OWNER) @ValidOwner String owner,
+            @RequestParam(required = false) Boolean completed,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size) {
+        log.debug("GET /api/tasks/page - Fetching page of tasks");
+        return taskService.getTasks(owner, completed, cursor, size);
+    }
+
+    /**
+     * Full-text search over title and description, best matches first, with keyset pagination.
+     * GET /api/tasks/search?owner=...&q=groceries&size=20&cursor=...
+     */
+    @GetMapping("/search")
+    public Mono<TaskSearchResponse> searchTasks(
+            @RequestParam(defaultValue = TaskCreateRequest.DEFAULT_OWNER) @ValidOwner String owner,
+            @RequestParam @NotBlank @Size(max = 200) String q,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size) {
+        log.debug("GET /api/tasks/search - Searching tasks");
+        return taskService.searchTasks(owner, q, cursor, size);
+    }
+
+    /**
+     * Streams committed changes of the owner's tasks as Server-Sent Events, like TaskController.
+     * A client that falls more than the event buffer behind is disconnected.
+     * GET /api/tasks/stream?owner=...
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<String>> streamTaskChanges(
+            @RequestParam(defaultValue = TaskCreateRequest.DEFAULT_OWNER) @ValidOwner String owner,
+            ServerHttpResponse response) {
+        log.info("GET /api/tasks/stream - Subscribing to task changes");
+        // Tell nginx not to buffer the stream.
+        response.getHeaders().set("X-Accel-Buffering", "no");
+        return Flux.<ServerSentEvent<String>>create(sink -> {
+                    TaskEventBroadcaster.Subscription subscription = taskEventBroadcaster.subscribe(
+                            owner, new TaskEventBroadcaster.Sink() {
+                                @Override
+                                public void send(long id, String name, String data) {
+                                    sink.next(ServerSentEvent.builder(data)
+                                            .id(String.valueOf(id))
+                                            .event(name)
+                                            .build());
+                                }
+
+                                @Override
+                                public void heartbeat() {
+                                    sink.next(ServerSentEvent.<String>builder().comment("heartbeat").build());
+                                }
+
+                                @Override
+                                public void close() {
+                                    sink.complete();
+                                }
+                            });
+                    sink.onDispose(subscription::cancel);
+                    // WebFlux sends the headers with the first event; a comment opens the
+                    // stream now, once subscribed, as SseEmitter does.
+                    sink.next(ServerSentEvent.<String>builder().comment("subscribed").build());
+                })
+                // Errors the stream once the client stops keeping up.
+                .onBackpressureBuffer(eventBufferSize);
+    }
+
+    /**
+     * Exports all of the owner's tasks except archived ones as newline-delimited JSON, one task per line.
+     * Rows are read from the database as the client consumes them.
+     * GET /api/tasks/export?owner=...
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<TaskResponse> exportTasks(
+            @RequestParam(defaultValue = TaskCreateRequest.DEFAULT_OWNER) @ValidOwner String owner) {
+        log.info("GET /api/tasks/export - Exporting all tasks");
+        return taskService.exportTasks(owner);
+    }
+
+    /**
+     * Deletes all of the owner's tasks - FOR TESTING PURPOSES ONLY.
+     * Pass chunkSize to delete in short statements while the service stays online.
+     * DELETE /api/tasks?owner=...&chunkSize=10000
+     */
+    @DeleteMapping
+    public Mono<TaskDeleteResponse> deleteAllTasks(
+            @RequestParam(defaultValue = TaskCreateRequest.DEFAULT_OWNER) @ValidOwner String owner,
+            @RequestParam(required = false) @Min(1) @Max(100_000) Integer chunkSize) {
+        log.warn("DELETE /api/tasks - Deleting ALL tasks (test endpoint)");
+        return chunkSize == null
+                ? taskService.deleteAllTasks(owner)
+                : taskService.deleteAllTasksInChunks(owner, chunkSize);
+    }
+
+    /**
+     * Gets a task by id, including archived tasks.
+     * GET /api/tasks/{id}?owner=...
+     */
+    @GetMapping("/{id}")
+    public Mono<TaskResponse> getTask(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = TaskCreateRequest.DEFAULT_OWNER) @ValidOwner String owner) {
+        log.debug("GET /api/tasks/{} - Fetching task", id);
+        return taskService.getTask(owner, id);
+    }
+
+    /**
+     * Marks a task as completed.
+     * PUT /api/tasks/{id}/complete?owner=...
+     */
+    @PutMapping("/{id}/complete")
+    public Mono<TaskResponse> completeTask(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = TaskCreateRequest.DEFAULT_OWNER) @ValidOwner String owner) {
+        log.debug("PUT /api/tasks/{}/complete - Marking task as completed", id);
+        return taskService.completeTask(owner, id);
+    }
+
+    /**
+     * Marks several tasks as completed, by ids or by creation-time cutoff.
+     * PUT /api/tasks/complete?owner=...
+     */
+    @PutMapping("/complete")
+    public Mono<TaskBulkCompleteResponse> completeTasks(
+            @RequestParam(defaultValue = TaskCreateRequest.DEFAULT_OWNER) @ValidOwner String owner,
+            @Valid @RequestBody TaskBulkCompleteRequest request) {
+        log.debug("PUT /api/tasks/complete - Marking tasks as completed");
+        return taskService.completeTasks(owner, request);
+    }
+
+    /**
+     * Health check endpoint.
+     * GET /api/tasks/health
+     */
+    @GetMapping("/health")
+    public Mono<String> health() {
+        return Mono.just("Task API is running");
+    }
+}
@@ -1,29 +1,66 @@
 package com.todoapp.backend.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.todoapp.backend.dto.TaskBulkCompleteRequest;
+import com.todoapp.backend.dto.TaskBulkCompleteResponse;
 import com.todoapp.backend.dto.TaskCreateRequest;
+import com.todoapp.backend.dto.TaskDeleteResponse;
+import com.todoapp.backend.dto.TaskImportResponse;
+import com.todoapp.backend.dto.TaskPageResponse;
 import com.todoapp.backend.dto.TaskResponse;
+import com.todoapp.backend.dto.TaskSearchResponse;
+import com.todoapp.backend.dto.ValidOwner;
+import com.todoapp.backend.event.TaskEventBroadcaster;
+import com.todoapp.backend.service.RecentTaskSnapshot;
+import com.todoapp.backend.service.TaskImportService;
 import com.todoapp.backend.service.TaskService;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * REST Controller for Task operations.
  * Handles HTTP requests and delegates business logic to service layer.
+ * Every request works on one owner's list: the owner of the created tasks, or the
+ * owner query parameter, which defaults to the "default" owner.
  */
 @RestController
+@Profile("!reactive")
 @RequestMapping("/api/tasks")
 @RequiredArgsConstructor
 @Slf4j
 @CrossOrigin(origins = "http://localhost:5173") // Allow React dev server
 public class TaskController {
 
+    private static final int EXPORT_FLUSH_INTERVAL = 1000;
+
     private final TaskService taskService;
+    private final TaskImportService taskImportService;
+    private final RecentTaskSnapshot recentTaskSnapshot;
+    private final TaskEventBroadcaster taskEventBroadcaster;
+    private final ObjectMapper objectMapper;
 
     /**
      * Creates a new task.
@@ -31,41 +68,242 @@ public class TaskController {
      */
     @PostMapping
     public ResponseEntity<TaskResponse> createTask(@Valid @RequestBody TaskCreateRequest request) {
-        log.info("POST /api/tasks - Creating new task");
+        log.debug("POST /api/tasks - Creating new task");
         TaskResponse response = taskService.createTask(request);
         return new ResponseEntity<>(response, HttpStatus.CREATED);
     }
 
+    /**
+     * Creates several tasks of one owner in one request; every item is validated.
+     * POST /api/tasks/batch
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<List<TaskResponse>> createTasks(
+            @RequestBody @NotEmpty @Size(max = 1000) List<@Valid TaskCreateRequest> requests) {
+        if (log.isDebugEnabled()) {
+            log.debug("POST /api/tasks/batch - Creating {} tasks", requests.size());
+        }
+        List<TaskResponse> responses = taskService.createTasks(requests);
+        return new ResponseEntity<>(responses, HttpStatus.CREATED);
+    }
+
+    /**
+     * Imports tasks from a newline-delimited JSON upload.
+     * Invalid lines are skipped and reported; valid ones are inserted in one transaction.
+     * POST /api/tasks/import?owner=...
+     */
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<TaskImportResponse> importNdjson(
+            @RequestParam(defaultValue = TaskCreateRequest.DEFAULT_OWNER) @ValidOwner String owner,
+            InputStream body) {
+        log.info("POST /api/tasks/import - Importing NDJSON tasks");
+        TaskImportResponse response = taskImportService.importTasks(owner, body, TaskImportService.Format.NDJSON);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Imports tasks from a CSV upload with a title,description header row.
+     * POST /api/tasks/import?owner=...
+     */
+    @PostMapping(value = "/import", consumes = "text/csv")
+    public ResponseEntity<TaskImportResponse> importCsv(
+            @RequestParam(defaultValue = TaskCreateRequest.DEFAULT_OWNER) @ValidOwner String owner,
+            InputStream body) {
+        log.info("POST /api/tasks/import - Importing CSV tasks");
+        TaskImportResponse response = taskImportService.importTasks(owner, body, TaskImportService.Format.CSV);
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * Gets the 5 most recent non-completed tasks.
-     * GET /api/tasks
+     * Serves a pre-serialized body with a strong ETag; a matching If-None-Match
+     * is answered with 304 by Spring's conditional request handling.
+     * GET /api/tasks?owner=...
      */
     @GetMapping
-    public ResponseEntity<List<TaskResponse>> getRecentTasks() {
-        log.info("GET /api/tasks - Fetching recent tasks");
-        List<TaskResponse> tasks = taskService.getRecentTasks();
-        return ResponseEntity.ok(tasks);
+    public ResponseEntity<byte[]> getRecentTasks(
+            @RequestParam(defaultValue = TaskCreateRequest.DEFAULT_OWNER) @ValidOwner String owner) {
+        log.debug("GET /api/tasks - Fetching recent tasks");
+        RecentTaskSnapshot.Snapshot snapshot = recentTaskSnapshot.get(owner);
+        return ResponseEntity.ok()
+                .eTag(snapshot.getEtag())
+                .cacheControl(CacheControl.noCache())
+                .contentType(MediaType.APPLICATION_JSON)
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(snapshot.getBody());
+    }
+
+    /**
+     * Gets the 5 most recent non-completed tasks as CBOR, with its own ETag.
+     * GET /api/tasks with Accept: application/cbor
+     */
+    @GetMapping(produces = MediaType.APPLICATION_CBOR_VALUE)
+    public ResponseEntity<byte[]> getRecentTasksCbor(
+            @RequestParam(defaultValue = TaskCreateRequest.DEFAULT_OWNER) @ValidOwner String owner) {
+        log.debug("GET /api/tasks - Fetching recent tasks as CBOR");
+        RecentTaskSnapshot.Snapshot snapshot = recentTaskSnapshot.getCbor(owner);
+        return ResponseEntity.ok()
+                .eTag(snapshot.getEtag())
+                .cacheControl(CacheControl.noCache())
+                .contentType(MediaType.APPLICATION_CBOR)
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(snapshot.getBody());
+    }
+
+    /**
+     * Lists all tasks newest first with keyset pagination; archived tasks are not listed.
+     * Pass the returned nextCursor to fetch the following page.
+     * GET /api/tasks/page?owner=...&completed=true&size=20&cursor=...
+     */
+    @GetMapping("/page")
+    public ResponseEntity<TaskPageResponse> getTasks(
+            @RequestParam(defaultValue = TaskCreateRequest.DEFAULT_OWNER) @ValidOwner String owner,
+            @RequestParam(required = false) Boolean completed,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size) {
+        log.debug("GET /api/tasks/page - Fetching page of tasks");
+        TaskPageResponse page = taskService.getTasks(owner, completed, cursor, size);
+        return ResponseEntity.ok(page);
+    }
+
+    /**
+     * Full-text search over title and description, best matches first, with keyset
+     * pagination. Supports "quoted phrases", or and -excluded words. truncated is
+     * true when todo.search.max-candidates left older matches unranked; archived
+     * tasks are not searched, which includesArchived (always false) states.
+     * GET /api/tasks/search?owner=...&q=groceries&size=20&cursor=...
+     */
+    @GetMapping("/search")
+    public ResponseEntity<TaskSearchResponse> searchTasks(
+            @RequestParam(defaultValue = TaskCreateRequest.DEFAULT_OWNER) @ValidOwner String owner,
+            @RequestParam @NotBlank @Size(max = 200) String q,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size) {
+        log.debug("GET /api/tasks/search - Searching tasks");
+        TaskSearchResponse page = taskService.searchTasks(owner, q, cursor, size);
+        return ResponseEntity.ok(page);
+    }
+
+    /**
+     * Streams committed changes of the owner's tasks as Server-Sent Events named
+     * created, completed, deleted or imported, each carrying the affected tasks.
+     * Slow clients are disconnected; clients should refetch on every (re)connect.
+     * GET /api/tasks/stream?owner=...
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamTaskChanges(
+            @RequestParam(defaultValue = TaskCreateRequest.DEFAULT_OWNER) @ValidOwner String owner,
+            HttpServletResponse response) {
+        log.info("GET /api/tasks/stream - Subscribing to task changes");
+        // Tell nginx not to buffer the stream.
+        response.setHeader("X-Accel-Buffering", "no");
+        SseEmitter emitter = new SseEmitter();
+        TaskEventBroadcaster.Subscription subscription = taskEventBroadcaster.subscribe(owner, new TaskEventBroadcaster.Sink() {
+            @Override
+            public void send(long id, String name, String data) throws IOException {
+                emitter.send(SseEmitter.event().id(String.valueOf(id)).name(name).data(data));
+            }
+
+            @Override
+            public void heartbeat() throws IOException {
+                emitter.send(SseEmitter.event().comment("heartbeat"));
+            }
+
+            @Override
+            public void close() {
+                emitter.complete();
+            }
+        });
+        emitter.onCompletion(subscription::cancel);
+        emitter.onTimeout(subscription::cancel);
+        emitter.onError(ex -> subscription.cancel());
+        return emitter;
+    }
+
+    /**
+     * Exports all of the owner's tasks except archived ones as newline-delimited JSON, one task per line.
+     * Rows are written and flushed as they are read, so memory use does not
+     * depend on the number of tasks.
+     * GET /api/tasks/export?owner=...
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportTasks(
+            @RequestParam(defaultValue = TaskCreateRequest.DEFAULT_OWNER) @ValidOwner String owner) {
+        log.info("GET /api/tasks/export - Exporting all tasks");
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                AtomicLong written = new AtomicLong();
+                long exported = taskService.exportTasks(owner, task -> {
+                    try {
+                        generator.writeObject(task);
+                        generator.writeRaw('\n');
+                        if (written.incrementAndGet() % EXPORT_FLUSH_INTERVAL == 0) {
+                            generator.flush();
+                        }
+                    } catch (IOException ex) {
+                        throw new UncheckedIOException(ex);
+                    }
+                });
+                log.info("Streamed {} tasks", exported);
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
     }
 
     /**
-     * Deletes all tasks - FOR TESTING PURPOSES ONLY.
-     * DELETE /api/tasks
+     * Deletes all of the owner's tasks - FOR TESTING PURPOSES ONLY.
+     * Pass chunkSize to delete in short transactions while the service stays online.
+     * DELETE /api/tasks?owner=...&chunkSize=10000
      */
     @DeleteMapping
-    public ResponseEntity<Void> deleteAllTasks() {
+    public ResponseEntity<TaskDeleteResponse> deleteAllTasks(
+            @RequestParam(defaultValue = TaskCreateRequest.DEFAULT_OWNER) @ValidOwner String owner,
+            @RequestParam(required = false) @Min(1) @Max(100_000) Integer chunkSize) {
         log.warn("DELETE /api/tasks - Deleting ALL tasks (test endpoint)");
-        taskService.deleteAllTasks();
-        return ResponseEntity.noContent().build();
+        TaskDeleteResponse response = chunkSize == null
+                ? taskService.deleteAllTasks(owner)
+                : taskService.deleteAllTasksInChunks(owner, chunkSize);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Gets a task by id, including archived tasks.
+     * GET /api/tasks/{id}?owner=...
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<TaskResponse> getTask(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = TaskCreateRequest.DEFAULT_OWNER) @ValidOwner String owner) {
+        log.debug("GET /api/tasks/{} - Fetching task", id);
+        TaskResponse response = taskService.getTask(owner, id);
+        return ResponseEntity.ok(response);
     }
 
     /**
      * Marks a task as completed.
-     * PUT /api/tasks/{id}/complete
+     * PUT /api/tasks/{id}/complete?owner=...
      */
     @PutMapping("/{id}/complete")
-    public ResponseEntity<TaskResponse> completeTask(@PathVariable Long id) {
-        log.info("PUT /api/tasks/{}/complete - Marking task as completed", id);
-        TaskResponse response = taskService.completeTask(id);
+    public ResponseEntity<TaskResponse> completeTask(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = TaskCreateRequest.DEFAULT_OWNER) @ValidOwner String owner) {
+        log.debug("PUT /api/tasks/{}/complete - Marking task as completed", id);
+        TaskResponse response = taskService.completeTask(owner, id);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Marks several tasks as completed, by ids or by creation-time cutoff.
+     * PUT /api/tasks/complete?owner=...
+     */
+    @PutMapping("/complete")
+    public ResponseEntity<TaskBulkCompleteResponse> completeTasks(
+            @RequestParam(defaultValue = TaskCreateRequest.DEFAULT_OWNER) @ValidOwner String owner,
+            @Valid @RequestBody TaskBulkCompleteRequest request) {
+        log.debug("PUT /api/tasks/complete - Marking tasks as completed");
+        TaskBulkCompleteResponse response = taskService.completeTasks(owner, request);
         return ResponseEntity.ok(response);
     }
 
@@ -0,0 +1,84 @@
+package com.todoapp.backend.controller;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.http.HttpServletRequest;
+
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Classifies task API requests for the servlet filters, so that they agree on
+ * which requests they act on, and runs work when a request has finished.
+ */
+final class TaskRequests {
+
+    static final String BASE_PATH = "/api/tasks";
+
+    private static final Set<String> WITHOUT_DATABASE = Set.of(BASE_PATH + "/health", BASE_PATH + "/stream");
+    private static final Set<String> BULK = Set.of(BASE_PATH + "/export", BASE_PATH + "/import");
+
+    private TaskRequests() {
+    }
+
+    static boolean isTaskRequest(HttpServletRequest request) {
+        return request.getRequestURI().startsWith(BASE_PATH);
+    }
+
+    /**
+     * Task requests other than health checks and event streams, which never use the database.
+     */
+    static boolean usesDatabase(HttpServletRequest request) {
+        return isTaskRequest(request) && !WITHOUT_DATABASE.contains(request.getRequestURI());
+    }
+
+    /**
+     * GET /api/tasks, which the RecentTaskIndex answers from memory when it is enabled.
+     */
+    static boolean isRecentList(HttpServletRequest request) {
+        return "GET".equals(request.getMethod()) && BASE_PATH.equals(request.getRequestURI());
+    }
+
+    /**
+     * Exports and imports, which run as long as their data.
+     */
+    static boolean isBulk(HttpServletRequest request) {
+        return BULK.contains(request.getRequestURI());
+    }
+
+    /**
+     * Runs the action once the request has finished: right away, or when its
+     * asynchronous processing ends if the handler started any, as a streamed
+     * export does after the filter chain has returned.
+     */
+    static void whenFinished(HttpServletRequest request, Runnable action) {
+        if (!request.isAsyncStarted()) {
+            action.run();
+            return;
+        }
+        AtomicBoolean done = new AtomicBoolean();
+        request.getAsyncContext().addListener(new AsyncListener() {
+            @Override
+            public void onComplete(AsyncEvent event) {
+                if (done.compareAndSet(false, true)) {
+                    action.run();
+                }
+            }
+
+            // Timeouts and errors end in onComplete as well, once the response is done.
+            @Override
+            public void onTimeout(AsyncEvent event) {
+            }
+
+            @Override
+            public void onError(AsyncEvent event) {
+            }
+
+            @Override
+            public void onStartAsync(AsyncEvent event) {
+                // Async restarted by a later dispatch: keep listening to the new cycle.
+                event.getAsyncContext().addListener(this);
+            }
+        });
+    }
+}
@@ -0,0 +1,32 @@
+package com.todoapp.backend.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * DTO for completing several tasks at once.
+ * Selects tasks either by id or by a creation-time cutoff, not both.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskBulkCompleteRequest {
+
+    @Size(min = 1, max = 1000, message = "Between 1 and 1000 ids can be completed at once")
+    private List<Long> ids;
+
+    private LocalDateTime createdBefore;
+
+    @JsonIgnore
+    @AssertTrue(message = "Provide either ids or createdBefore")
+    public boolean isSelectionValid() {
+        return (ids == null) != (createdBefore == null);
+    }
+}
@@ -0,0 +1,25 @@
+package com.todoapp.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for bulk completion results.
+ * Tasks that were already completed are neither counted nor listed. The
+ * completed tasks are only listed when completing by ids; completing by
+ * creation-time cutoff reports the count alone, however many tasks it matched.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskBulkCompleteResponse {
+
+    private long completedCount;
+    private List<TaskResponse> completed;
+    private List<Long> notFound;
+}
@@ -14,6 +14,11 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 public class TaskCreateRequest {
 
+    /**
+     * Owner of requests that do not name one, and of tasks created before owners existed.
+     */
+    public static final String DEFAULT_OWNER = "default";
+
     @NotBlank(message = "Title cannot be empty")
     @Size(max = 100, message = "Title must be at most 100 characters")
     private String title;
@@ -21,5 +26,11 @@ public class TaskCreateRequest {
     @NotBlank(message = "Description cannot be empty")
     @Size(max = 500, message = "Description must be at most 500 characters")
     private String description;
-}
 
+    @ValidOwner
+    private String owner = DEFAULT_OWNER;
+
+    public TaskCreateRequest(String title, String description) {
+        this(title, description, DEFAULT_OWNER);
+    }
+}
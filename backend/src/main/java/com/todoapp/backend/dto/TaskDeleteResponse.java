@@ -0,0 +1,19 @@
+package com.todoapp.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for the result of deleting all tasks.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskDeleteResponse {
+
+    private long deleted;
+    private long elapsedMillis;
+}
@@ -0,0 +1,36 @@
+package com.todoapp.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for the result of a bulk task import.
+ * Only the first rejected lines are listed; rejected counts all of them.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskImportResponse {
+
+    private long imported;
+    private long rejected;
+    private List<LineError> errors;
+    private long elapsedMillis;
+
+    /**
+     * A rejected input line and why it was rejected.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class LineError {
+
+        private long line;
+        private String message;
+    }
+}
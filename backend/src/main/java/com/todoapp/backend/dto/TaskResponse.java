@@ -22,4 +22,5 @@ public class TaskResponse {
     private Boolean completed;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private String owner;
 }
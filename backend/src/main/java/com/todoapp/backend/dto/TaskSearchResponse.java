@@ -0,0 +1,28 @@
+package com.todoapp.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for one page of search results, best matches first.
+ * nextCursor is null on the last page. truncated is true when more tasks
+ * matched than todo.search.max-candidates, so only the most recent of them
+ * were ranked; it is always false when that limit is 0.
+ * includesArchived is always false: tasks moved to task_archive are not
+ * searched, though GET /api/tasks/{id} still returns them.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskSearchResponse {
+
+    private List<TaskResponse> tasks;
+    private String nextCursor;
+    private boolean truncated;
+    private boolean includesArchived;
+}
@@ -0,0 +1,33 @@
+package com.todoapp.backend.dto;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+import jakarta.validation.ReportAsSingleViolation;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Owner of a task list: 1 to 64 letters, digits, '.', '_' or '-'.
+ * Used on TaskCreateRequest and on the owner parameter of the task endpoints.
+ */
+@NotNull
+@Pattern(regexp = "[A-Za-z0-9._-]{1,64}")
+@ReportAsSingleViolation
+@Constraint(validatedBy = {})
+@Documented
+@Target({ElementType.FIELD, ElementType.PARAMETER})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ValidOwner {
+
+    String message() default "Owner must be 1 to 64 letters, digits, '.', '_' or '-'";
+
+    Class<?>[] groups() default {};
+
+    Class<? extends Payload>[] payload() default {};
+}
@@ -0,0 +1,22 @@
+package com.todoapp.backend.entity;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Generates the id from a pooled database sequence, like @SequenceGenerator,
+ * but keeps a separate pool per shard (see ShardSequenceGenerator).
+ */
+@IdGeneratorType(ShardSequenceGenerator.class)
+@Target({ElementType.FIELD, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ShardSequence {
+
+    String sequenceName();
+
+    int allocationSize() default 50;
+}
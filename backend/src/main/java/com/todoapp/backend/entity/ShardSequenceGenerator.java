@@ -0,0 +1,57 @@
+package com.todoapp.backend.entity;
+
+import com.todoapp.backend.config.ShardRoutingDataSource;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.enhanced.Optimizer;
+import org.hibernate.id.enhanced.OptimizerDescriptor;
+import org.hibernate.id.enhanced.OptimizerFactory;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
+
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * SequenceStyleGenerator with one pool of ids per shard, each filled from the
+ * sequence of its own shard. With a single shared pool, ids fetched from one
+ * shard's sequence would be stored on another, outside that shard's id range.
+ * Shard 0, and every id when sharding is off, uses the generator's own pool.
+ */
+public class ShardSequenceGenerator extends SequenceStyleGenerator {
+
+    private final String sequenceName;
+    private final int allocationSize;
+    private final ConcurrentMap<Integer, Optimizer> shardOptimizers = new ConcurrentHashMap<>();
+
+    private OptimizerDescriptor optimizerDescriptor;
+    private int initialValue;
+    private Class<?> idType;
+
+    public ShardSequenceGenerator(ShardSequence config) {
+        this.sequenceName = config.sequenceName();
+        this.allocationSize = config.allocationSize();
+    }
+
+    @Override
+    public void configure(Type type, Properties parameters, ServiceRegistry serviceRegistry) {
+        parameters.setProperty(SEQUENCE_PARAM, sequenceName);
+        parameters.setProperty(INCREMENT_PARAM, Integer.toString(allocationSize));
+        super.configure(type, parameters, serviceRegistry);
+        optimizerDescriptor = determineOptimizationStrategy(parameters, allocationSize);
+        initialValue = determineInitialValue(parameters);
+        idType = type.getReturnedClass();
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object object) {
+        Integer shard = ShardRoutingDataSource.boundShard();
+        if (shard == null || shard == 0) {
+            return super.generate(session, object);
+        }
+        Optimizer optimizer = shardOptimizers.computeIfAbsent(shard, key ->
+                OptimizerFactory.buildOptimizer(optimizerDescriptor, idType, allocationSize, initialValue));
+        return optimizer.generate(getDatabaseStructure().buildCallback(session));
+    }
+}
@@ -6,24 +6,37 @@ import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 
 /**
  * Task entity representing a to-do item in the database.
- * Maps to 'task' table in PostgreSQL.
+ * Maps to 'task' table in PostgreSQL, on the shard of its owner when todo.shards is enabled.
+ * Cached in the second-level cache region "task" when the l2cache profile enables it.
  */
 @Entity
 @Table(name = "task")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Task.CACHE_REGION)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Task {
 
+    public static final String CACHE_REGION = "task";
+
+    /**
+     * Pooled sequence rather than IDENTITY so Hibernate can assign ids up front
+     * and batch inserts; one sequence call covers {@code allocationSize} rows.
+     * Each shard numbers its tasks within its own range (ShardIdRanges), so ids
+     * are unique across shards.
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @ShardSequence(sequenceName = "task_id_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank(message = "Title is required")
@@ -39,11 +52,32 @@ public class Task {
     @Column(name = "completed", nullable = false)
     private Boolean completed = false;
 
-    @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
     @UpdateTimestamp
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
+
+    /**
+     * Team whose list the task is on. Never changes, since it also decides the
+     * shard the task is stored on (see TaskShardRouter).
+     */
+    @NotBlank(message = "Owner is required")
+    @Size(max = 64, message = "Owner must not exceed 64 characters")
+    @Column(name = "owner", nullable = false, length = 64, updatable = false)
+    private String owner;
+
+    /**
+     * Sets the creation time on persist. @CreationTimestamp would only fire when
+     * the (now batched) INSERT is flushed, leaving saved entities without it.
+     * Truncated to the column's microsecond precision so in-memory copies
+     * compare equal to the stored value.
+     */
+    @PrePersist
+    void onCreate() {
+        if (createdAt == null) {
+            createdAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,52 @@
+package com.todoapp.backend.event;
+
+import com.todoapp.backend.dto.TaskResponse;
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * Application event published by the service layer whenever tasks of one owner change.
+ * Listeners receive it after the surrounding transaction has committed.
+ */
+@Value
+public class TaskChangedEvent {
+
+    public enum Type {
+        CREATED,
+        COMPLETED,
+        DELETED_ALL,
+        IMPORTED
+    }
+
+    Type type;
+    String owner;
+    List<TaskResponse> tasks;
+
+    public static TaskChangedEvent created(TaskResponse task) {
+        return new TaskChangedEvent(Type.CREATED, task.getOwner(), List.of(task));
+    }
+
+    public static TaskChangedEvent created(String owner, List<TaskResponse> tasks) {
+        return new TaskChangedEvent(Type.CREATED, owner, List.copyOf(tasks));
+    }
+
+    public static TaskChangedEvent completed(TaskResponse task) {
+        return new TaskChangedEvent(Type.COMPLETED, task.getOwner(), List.of(task));
+    }
+
+    public static TaskChangedEvent completed(String owner, List<TaskResponse> tasks) {
+        return new TaskChangedEvent(Type.COMPLETED, owner, List.copyOf(tasks));
+    }
+
+    /**
+     * Bulk imports do not materialize the inserted tasks, so listeners must re-read.
+     */
+    public static TaskChangedEvent imported(String owner) {
+        return new TaskChangedEvent(Type.IMPORTED, owner, List.of());
+    }
+
+    public static TaskChangedEvent deletedAll(String owner) {
+        return new TaskChangedEvent(Type.DELETED_ALL, owner, List.of());
+    }
+}
@@ -0,0 +1,300 @@
+package com.todoapp.backend.event;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Fans committed TaskChangedEvents out to the stream subscribers of their owner.
+ * Every subscriber has a bounded buffer drained by a small dispatch pool, so
+ * publishing never blocks on a client; a subscriber whose buffer overflows, or
+ * whose send has not returned within todo.events.send-timeout, is evicted and
+ * expected to reconnect and refetch. Sends are blocking writes, so a stalled
+ * client keeps its dispatch thread until the server's write timeout fails the
+ * write; the pool gets one more thread for each such send, up to
+ * todo.events.max-dispatch-threads, so stalled clients do not hold up the others.
+ */
+@Component
+@Slf4j
+public class TaskEventBroadcaster {
+
+    /**
+     * Destination of one subscriber's events, e.g. an SSE connection.
+     * Called from a single dispatch thread at a time.
+     */
+    public interface Sink {
+
+        /**
+         * @param id Sequence number of the event, increasing per process
+         * @param name Event name: created, completed, deleted or imported
+         * @param data Affected tasks as a JSON array
+         */
+        void send(long id, String name, String data) throws IOException;
+
+        void heartbeat() throws IOException;
+
+        /**
+         * Ends the subscription from the server side; called once on eviction,
+         * on a thread of its own, possibly while a send is still blocked.
+         */
+        void close();
+    }
+
+    /**
+     * Handle returned to the subscriber to unsubscribe when its connection ends.
+     */
+    public interface Subscription {
+
+        void cancel();
+    }
+
+    private final ObjectMapper objectMapper;
+    private final int bufferSize;
+    private final int dispatchThreads;
+    private final int maxDispatchThreads;
+    private final long sendTimeoutNanos;
+    private final ThreadPoolExecutor dispatcher;
+    private final ExecutorService closer;
+    private final ScheduledExecutorService heartbeats;
+
+    private final ConcurrentMap<String, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    // Subscribers inside a Sink call, including evicted ones whose send has not returned yet.
+    private final Set<Subscriber> sending = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    public TaskEventBroadcaster(ObjectMapper objectMapper,
+                                @Value("${todo.events.buffer-size:256}") int bufferSize,
+                                @Value("${todo.events.dispatch-threads:4}") int dispatchThreads,
+                                @Value("${todo.events.heartbeat-interval:15s}") Duration heartbeatInterval,
+                                @Value("${todo.events.send-timeout:5s}") Duration sendTimeout,
+                                @Value("${todo.events.max-dispatch-threads:64}") int maxDispatchThreads) {
+        this.objectMapper = objectMapper;
+        this.bufferSize = bufferSize;
+        this.dispatchThreads = dispatchThreads;
+        this.maxDispatchThreads = Math.max(dispatchThreads, maxDispatchThreads);
+        this.sendTimeoutNanos = sendTimeout.toNanos();
+        // Unbounded queue: the pool only grows when evictStalled() raises the core size.
+        this.dispatcher = new ThreadPoolExecutor(dispatchThreads, Integer.MAX_VALUE, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), daemonThreads("task-events-"));
+        this.closer = Executors.newCachedThreadPool(daemonThreads("task-events-close-"));
+        this.heartbeats = Executors.newSingleThreadScheduledExecutor(daemonThreads("task-events-heartbeat-"));
+        long period = heartbeatInterval.toMillis();
+        heartbeats.scheduleAtFixedRate(this::heartbeat, period, period, TimeUnit.MILLISECONDS);
+        long checkPeriod = Math.max(1, sendTimeout.toMillis() / 4);
+        heartbeats.scheduleWithFixedDelay(this::evictStalled, checkPeriod, checkPeriod, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Subscribes the sink to the events of one owner.
+     */
+    public Subscription subscribe(String owner, Sink sink) {
+        Subscriber subscriber = new Subscriber(owner, sink);
+        subscribers.compute(owner, (key, ownerSubscribers) -> {
+            Set<Subscriber> result = ownerSubscribers != null ? ownerSubscribers : ConcurrentHashMap.newKeySet();
+            result.add(subscriber);
+            return result;
+        });
+        log.debug("Task event subscriber added, {} active", subscriberCount.incrementAndGet());
+        return subscriber::cancel;
+    }
+
+    /**
+     * Serializes the event once and queues it for every subscriber of its owner.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        Set<Subscriber> ownerSubscribers = subscribers.get(event.getOwner());
+        if (ownerSubscribers == null) {
+            return;
+        }
+        try {
+            Message message = new Message(sequence.incrementAndGet(), eventName(event.getType()),
+                    objectMapper.writeValueAsString(event.getTasks()));
+            ownerSubscribers.forEach(subscriber -> subscriber.offer(message));
+        } catch (JsonProcessingException ex) {
+            log.error("Could not serialize task event {}", event.getType(), ex);
+        }
+    }
+
+    public int getSubscriberCount() {
+        return subscriberCount.get();
+    }
+
+    public long getEvictionCount() {
+        return evictions.get();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        heartbeats.shutdownNow();
+        allSubscribers().forEach(subscriber -> subscriber.evict("shutdown"));
+        dispatcher.shutdown();
+        closer.shutdown();
+    }
+
+    private void heartbeat() {
+        allSubscribers().forEach(subscriber -> subscriber.offer(Message.HEARTBEAT));
+    }
+
+    /**
+     * Evicts subscribers whose send has outlasted the send timeout and sizes the
+     * pool so that dispatchThreads threads remain for everyone else.
+     */
+    private void evictStalled() {
+        long now = System.nanoTime();
+        int stalled = 0;
+        for (Subscriber subscriber : sending) {
+            if (subscriber.isStalled(now)) {
+                subscriber.evict("send timed out");
+                stalled++;
+            }
+        }
+        int threads = Math.min(dispatchThreads + stalled, maxDispatchThreads);
+        if (threads != dispatcher.getCorePoolSize()) {
+            log.debug("Task event dispatch threads set to {} for {} stalled sends", threads, stalled);
+            dispatcher.setCorePoolSize(threads);
+        }
+    }
+
+    private Stream<Subscriber> allSubscribers() {
+        return subscribers.values().stream().flatMap(Set::stream);
+    }
+
+    private static String eventName(TaskChangedEvent.Type type) {
+        return switch (type) {
+            case CREATED -> "created";
+            case COMPLETED -> "completed";
+            case DELETED_ALL -> "deleted";
+            case IMPORTED -> "imported";
+        };
+    }
+
+    private static CustomizableThreadFactory daemonThreads(String prefix) {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(prefix);
+        threadFactory.setDaemon(true);
+        return threadFactory;
+    }
+
+    @lombok.Value
+    private static class Message {
+
+        static final Message HEARTBEAT = new Message(0, null, null);
+
+        long id;
+        String name;
+        String data;
+    }
+
+    private final class Subscriber {
+
+        private final String owner;
+        private final Sink sink;
+        private final BlockingQueue<Message> buffer = new ArrayBlockingQueue<>(bufferSize);
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        // System.nanoTime() when the Sink call in progress started.
+        private volatile long sendStarted;
+
+        Subscriber(String owner, Sink sink) {
+            this.owner = owner;
+            this.sink = sink;
+        }
+
+        void offer(Message message) {
+            if (closed.get()) {
+                return;
+            }
+            if (!buffer.offer(message)) {
+                evict("buffer full");
+                return;
+            }
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (draining.compareAndSet(false, true)) {
+                dispatcher.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                Message message;
+                while (!closed.get() && (message = buffer.poll()) != null) {
+                    sendStarted = System.nanoTime();
+                    sending.add(this);
+                    if (message == Message.HEARTBEAT) {
+                        sink.heartbeat();
+                    } else {
+                        sink.send(message.getId(), message.getName(), message.getData());
+                    }
+                    sending.remove(this);
+                }
+            } catch (IOException | RuntimeException ex) {
+                log.debug("Task event subscriber disconnected: {}", ex.getMessage());
+                cancel();
+            } finally {
+                sending.remove(this);
+                draining.set(false);
+            }
+            // A message offered after the loop ended but before the flag was cleared.
+            if (!closed.get() && !buffer.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+
+        boolean isStalled(long now) {
+            return sending.contains(this) && now - sendStarted > sendTimeoutNanos;
+        }
+
+        void evict(String reason) {
+            if (closed.compareAndSet(false, true)) {
+                remove();
+                evictions.incrementAndGet();
+                log.debug("Task event subscriber evicted: {}", reason);
+                // Closing may wait for a send in progress, so keep it off the publishing and dispatch threads.
+                closer.execute(sink::close);
+            }
+        }
+
+        void cancel() {
+            if (closed.compareAndSet(false, true)) {
+                remove();
+            }
+        }
+
+        private void remove() {
+            subscribers.computeIfPresent(owner, (key, ownerSubscribers) -> {
+                ownerSubscribers.remove(this);
+                return ownerSubscribers.isEmpty() ? null : ownerSubscribers;
+            });
+            subscriberCount.decrementAndGet();
+            buffer.clear();
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.todoapp.backend.exception;
+
+/**
+ * Custom exception thrown when a request is well-formed but its values are invalid.
+ * Results in HTTP 400 response.
+ */
+public class BadRequestException extends RuntimeException {
+
+    public BadRequestException(String message) {
+        super(message);
+    }
+}
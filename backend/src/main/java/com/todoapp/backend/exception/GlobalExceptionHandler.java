@@ -1,15 +1,21 @@
 package com.todoapp.backend.exception;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.validation.ConstraintViolationException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
+import org.springframework.validation.method.ParameterErrors;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.method.annotation.HandlerMethodValidationException;
 
 import java.time.LocalDateTime;
 import java.util.HashMap;
@@ -18,11 +24,30 @@ import java.util.Map;
 /**
  * Global exception handler for REST API.
  * Provides consistent error responses across all controllers.
+ * Counts 404s and validation failures in todo.api.errors, tagged by reason.
  */
 @RestControllerAdvice
+@Profile("!reactive")
 @Slf4j
 public class GlobalExceptionHandler {
 
+    static final String ERROR_COUNTER = "todo.api.errors";
+
+    private final Counter notFoundCounter;
+    private final Counter validationCounter;
+
+    public GlobalExceptionHandler(MeterRegistry meterRegistry) {
+        this.notFoundCounter = errorCounter(meterRegistry, "not_found");
+        this.validationCounter = errorCounter(meterRegistry, "validation");
+    }
+
+    static Counter errorCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder(ERROR_COUNTER)
+                .description("Requests rejected by the API, by reason")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
     /**
      * Handles ResourceNotFoundException - returns 404 NOT FOUND
      */
@@ -32,6 +57,7 @@ public class GlobalExceptionHandler {
             ResourceNotFoundException ex, WebRequest request) {
         
         log.error("Resource not found: {}", ex.getMessage());
+        notFoundCounter.increment();
         
         ErrorResponse errorResponse = ErrorResponse.builder()
                 .status(HttpStatus.NOT_FOUND.value())
@@ -43,6 +69,48 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errorResponse, HttpStatus.NOT_FOUND);
     }
 
+    /**
+     * Handles BadRequestException - returns 400 BAD REQUEST
+     */
+    @ExceptionHandler(BadRequestException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public ResponseEntity<ErrorResponse> handleBadRequestException(
+            BadRequestException ex, WebRequest request) {
+        
+        log.error("Bad request: {}", ex.getMessage());
+        
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .status(HttpStatus.BAD_REQUEST.value())
+                .message(ex.getMessage())
+                .path(request.getDescription(false).replace("uri=", ""))
+                .timestamp(LocalDateTime.now())
+                .build();
+        
+        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+    }
+
+    /**
+     * Handles ServiceUnavailableException - returns 503 SERVICE UNAVAILABLE with Retry-After
+     */
+    @ExceptionHandler(ServiceUnavailableException.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public ResponseEntity<ErrorResponse> handleServiceUnavailableException(
+            ServiceUnavailableException ex, WebRequest request) {
+
+        log.warn("Service unavailable: {}", ex.getMessage());
+
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .status(HttpStatus.SERVICE_UNAVAILABLE.value())
+                .message(ex.getMessage())
+                .path(request.getDescription(false).replace("uri=", ""))
+                .timestamp(LocalDateTime.now())
+                .build();
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(errorResponse);
+    }
+
     /**
      * Handles validation errors from @Valid annotation - returns 400 BAD REQUEST
      */
@@ -58,7 +126,41 @@ public class GlobalExceptionHandler {
             errors.put(fieldName, errorMessage);
         });
         
+        return buildValidationResponse(errors, request);
+    }
+
+    /**
+     * Handles validation errors on list parameters and their elements,
+     * e.g. POST /api/tasks/batch - returns 400 BAD REQUEST.
+     * Element errors are keyed by index, such as "[2].title".
+     */
+    @ExceptionHandler(HandlerMethodValidationException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public ResponseEntity<Map<String, Object>> handleMethodValidationExceptions(
+            HandlerMethodValidationException ex, WebRequest request) {
+        
+        Map<String, String> errors = new HashMap<>();
+        ex.getParameterValidationResults().forEach(result -> {
+            String prefix = result.getContainerIndex() != null
+                    ? "[" + result.getContainerIndex() + "]"
+                    : result.getMethodParameter().getParameterName();
+            if (result instanceof ParameterErrors parameterErrors) {
+                parameterErrors.getFieldErrors().forEach(error ->
+                        errors.put(prefix + "." + error.getField(), error.getDefaultMessage()));
+            } else {
+                result.getResolvableErrors().forEach(error ->
+                        errors.put(prefix, error.getDefaultMessage()));
+            }
+        });
+        
+        return buildValidationResponse(errors, request);
+    }
+
+    private ResponseEntity<Map<String, Object>> buildValidationResponse(
+            Map<String, String> errors, WebRequest request) {
+        
         log.error("Validation failed: {}", errors);
+        validationCounter.increment();
         
         Map<String, Object> response = new HashMap<>();
         response.put("status", HttpStatus.BAD_REQUEST.value());
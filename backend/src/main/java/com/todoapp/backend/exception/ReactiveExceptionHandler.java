@@ -0,0 +1,144 @@
+package com.todoapp.backend.exception;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.validation.FieldError;
+import org.springframework.validation.method.ParameterErrors;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.method.annotation.HandlerMethodValidationException;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Exception handler for the reactive stack.
+ * Produces the same error bodies and error counters as GlobalExceptionHandler.
+ */
+@RestControllerAdvice
+@Profile("reactive")
+@Slf4j
+public class ReactiveExceptionHandler {
+
+    private final Counter notFoundCounter;
+    private final Counter validationCounter;
+
+    public ReactiveExceptionHandler(MeterRegistry meterRegistry) {
+        this.notFoundCounter = GlobalExceptionHandler.errorCounter(meterRegistry, "not_found");
+        this.validationCounter = GlobalExceptionHandler.errorCounter(meterRegistry, "validation");
+    }
+
+    /**
+     * Handles ResourceNotFoundException - returns 404 NOT FOUND
+     */
+    @ExceptionHandler(ResourceNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleResourceNotFoundException(
+            ResourceNotFoundException ex, ServerHttpRequest request) {
+        log.error("Resource not found: {}", ex.getMessage());
+        notFoundCounter.increment();
+        return buildErrorResponse(HttpStatus.NOT_FOUND, ex.getMessage(), request);
+    }
+
+    /**
+     * Handles BadRequestException - returns 400 BAD REQUEST
+     */
+    @ExceptionHandler(BadRequestException.class)
+    public ResponseEntity<ErrorResponse> handleBadRequestException(
+            BadRequestException ex, ServerHttpRequest request) {
+        log.error("Bad request: {}", ex.getMessage());
+        return buildErrorResponse(HttpStatus.BAD_REQUEST, ex.getMessage(), request);
+    }
+
+    /**
+     * Handles ServiceUnavailableException - returns 503 SERVICE UNAVAILABLE with Retry-After
+     */
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handleServiceUnavailableException(
+            ServiceUnavailableException ex, ServerHttpRequest request) {
+        log.warn("Service unavailable: {}", ex.getMessage());
+        ResponseEntity<ErrorResponse> response = buildErrorResponse(HttpStatus.SERVICE_UNAVAILABLE, ex.getMessage(), request);
+        return ResponseEntity.status(response.getStatusCode())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(response.getBody());
+    }
+
+    /**
+     * Handles validation errors from @Valid annotation - returns 400 BAD REQUEST
+     */
+    @ExceptionHandler(WebExchangeBindException.class)
+    public ResponseEntity<Map<String, Object>> handleValidationExceptions(
+            WebExchangeBindException ex, ServerHttpRequest request) {
+        Map<String, String> errors = new HashMap<>();
+        ex.getBindingResult().getAllErrors().forEach((error) -> {
+            String fieldName = ((FieldError) error).getField();
+            errors.put(fieldName, error.getDefaultMessage());
+        });
+        return buildValidationResponse(errors, request);
+    }
+
+    /**
+     * Handles validation errors on list parameters and their elements - returns 400 BAD REQUEST.
+     * Element errors are keyed by index, such as "[2].title".
+     */
+    @ExceptionHandler(HandlerMethodValidationException.class)
+    public ResponseEntity<Map<String, Object>> handleMethodValidationExceptions(
+            HandlerMethodValidationException ex, ServerHttpRequest request) {
+        Map<String, String> errors = new HashMap<>();
+        ex.getParameterValidationResults().forEach(result -> {
+            String prefix = result.getContainerIndex() != null
+                    ? "[" + result.getContainerIndex() + "]"
+                    : result.getMethodParameter().getParameterName();
+            if (result instanceof ParameterErrors parameterErrors) {
+                parameterErrors.getFieldErrors().forEach(error ->
+                        errors.put(prefix + "." + error.getField(), error.getDefaultMessage()));
+            } else {
+                result.getResolvableErrors().forEach(error ->
+                        errors.put(prefix, error.getDefaultMessage()));
+            }
+        });
+        return buildValidationResponse(errors, request);
+    }
+
+    /**
+     * Handles all other exceptions - returns 500 INTERNAL SERVER ERROR
+     */
+    @ExceptionHandler(Exception.class)
+    public ResponseEntity<ErrorResponse> handleGlobalException(Exception ex, ServerHttpRequest request) {
+        log.error("Internal server error: ", ex);
+        return buildErrorResponse(HttpStatus.INTERNAL_SERVER_ERROR,
+                "An unexpected error occurred. Please try again later.", request);
+    }
+
+    private ResponseEntity<ErrorResponse> buildErrorResponse(
+            HttpStatus status, String message, ServerHttpRequest request) {
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .status(status.value())
+                .message(message)
+                .path(request.getPath().value())
+                .timestamp(LocalDateTime.now())
+                .build();
+        return new ResponseEntity<>(errorResponse, status);
+    }
+
+    private ResponseEntity<Map<String, Object>> buildValidationResponse(
+            Map<String, String> errors, ServerHttpRequest request) {
+        log.error("Validation failed: {}", errors);
+        validationCounter.increment();
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("status", HttpStatus.BAD_REQUEST.value());
+        response.put("errors", errors);
+        response.put("path", request.getPath().value());
+        response.put("timestamp", LocalDateTime.now());
+
+        return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
+    }
+}
@@ -0,0 +1,18 @@
+package com.todoapp.backend.exception;
+
+import lombok.Getter;
+
+/**
+ * Custom exception thrown when the server is too busy to take a request.
+ * Results in HTTP 503 response with a Retry-After header.
+ */
+@Getter
+public class ServiceUnavailableException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public ServiceUnavailableException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
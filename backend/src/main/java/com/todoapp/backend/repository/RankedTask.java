@@ -0,0 +1,14 @@
+package com.todoapp.backend.repository;
+
+import com.todoapp.backend.entity.Task;
+import lombok.Value;
+
+/**
+ * A search match and its relevance; higher ranks match better.
+ */
+@Value
+public class RankedTask {
+
+    Task task;
+    float rank;
+}
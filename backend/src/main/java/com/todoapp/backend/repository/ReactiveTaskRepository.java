@@ -0,0 +1,277 @@
+package com.todoapp.backend.repository;
+
+import com.todoapp.backend.dto.TaskCreateRequest;
+import com.todoapp.backend.entity.Task;
+import io.r2dbc.spi.Readable;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Non-blocking task queries over R2DBC for the reactive profile.
+ * Issues the same PostgreSQL statements as TaskRepository and
+ * TaskRepositoryCustomImpl, so both stacks use the same indexes; search runs
+ * the statement of TaskRepositoryCustomImpl.searchSql. Rows are mapped into
+ * detached Task objects. Every write is one auto-committed statement.
+ * Ids come from the column default, so each insert takes a whole block of
+ * task_id_seq, which never overlaps the blocks Hibernate allocates.
+ * Works on the single database of spring.r2dbc, so todo.shards and
+ * todo.replicas are refused.
+ */
+@Repository
+@Profile("reactive")
+public class ReactiveTaskRepository {
+
+    private static final String COLUMNS = TaskRepositoryCustomImpl.COLUMNS;
+
+    private static final String COMPLETE_ACTIVE =
+            "UPDATE task SET completed = TRUE, updated_at = :now WHERE owner = :owner AND completed = FALSE AND ";
+
+    private static final int EXPORT_FETCH_SIZE = 1000;
+
+    private final DatabaseClient databaseClient;
+    private final int searchCandidates;
+
+    public ReactiveTaskRepository(DatabaseClient databaseClient,
+                                  @Value("${todo.search.max-candidates:1000}") int searchCandidates,
+                                  @Value("${todo.shards.enabled:false}") boolean shards,
+                                  @Value("${todo.replicas.enabled:false}") boolean replicas) {
+        if (shards) {
+            throw new IllegalStateException("todo.shards cannot be combined with the reactive profile");
+        }
+        if (replicas) {
+            throw new IllegalStateException("todo.replicas cannot be combined with the reactive profile");
+        }
+        this.databaseClient = databaseClient;
+        this.searchCandidates = searchCandidates;
+    }
+
+    public Mono<Task> insert(TaskCreateRequest request) {
+        return databaseClient.sql("INSERT INTO task (title, description, completed, created_at, updated_at, owner) "
+                        + "VALUES (:title, :description, FALSE, :now, :now, :owner) RETURNING " + COLUMNS)
+                .bind("title", request.getTitle())
+                .bind("description", request.getDescription())
+                .bind("now", now())
+                .bind("owner", request.getOwner())
+                .map(ReactiveTaskRepository::toTask)
+                .one();
+    }
+
+    /**
+     * Inserts all tasks of one owner with one multi-row statement, returned in request order.
+     */
+    public Flux<Task> insertAll(String owner, List<TaskCreateRequest> requests) {
+        String[] titles = requests.stream().map(TaskCreateRequest::getTitle).toArray(String[]::new);
+        String[] descriptions = requests.stream().map(TaskCreateRequest::getDescription).toArray(String[]::new);
+        return databaseClient.sql("INSERT INTO task (title, description, completed, created_at, updated_at, owner) "
+                        + "SELECT t.title, t.description, FALSE, :now, :now, :owner "
+                        + "FROM UNNEST(CAST(:titles AS text[]), CAST(:descriptions AS text[])) "
+                        + "WITH ORDINALITY AS t(title, description, position) ORDER BY t.position "
+                        + "RETURNING " + COLUMNS)
+                .bind("titles", titles)
+                .bind("descriptions", descriptions)
+                .bind("now", now())
+                .bind("owner", owner)
+                .map(ReactiveTaskRepository::toTask)
+                .all();
+    }
+
+    public Mono<Task> findById(String owner, Long id) {
+        return databaseClient.sql("SELECT " + COLUMNS + " FROM task WHERE id = :id AND owner = :owner")
+                .bind("id", id)
+                .bind("owner", owner)
+                .map(ReactiveTaskRepository::toTask)
+                .one();
+    }
+
+    public Mono<Task> findArchivedById(String owner, Long id) {
+        return databaseClient.sql("SELECT " + COLUMNS + " FROM task_archive WHERE id = :id AND owner = :owner")
+                .bind("id", id)
+                .bind("owner", owner)
+                .map(ReactiveTaskRepository::toTask)
+                .one();
+    }
+
+    public Flux<Task> findRecentActive(String owner, int limit) {
+        return databaseClient.sql("SELECT " + COLUMNS + " FROM task WHERE owner = :owner AND completed = FALSE "
+                        + "ORDER BY created_at DESC, id DESC LIMIT :limit")
+                .bind("owner", owner)
+                .bind("limit", limit)
+                .map(ReactiveTaskRepository::toTask)
+                .all();
+    }
+
+    /**
+     * Keyset page ordered newest first by (created_at, id); see TaskRepositoryCustom.findPage.
+     */
+    public Flux<Task> findPage(String owner, Boolean completed, LocalDateTime afterCreatedAt, Long afterId,
+                               int limit) {
+        List<String> conditions = new ArrayList<>();
+        conditions.add("owner = :owner");
+        if (completed != null) {
+            // Rendered as a literal so PostgreSQL can match the partial indexes.
+            conditions.add("completed = " + completed);
+        }
+        if (afterCreatedAt != null) {
+            conditions.add("(created_at, id) < (:afterCreatedAt, :afterId)");
+        }
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql("SELECT " + COLUMNS + " FROM task WHERE "
+                        + String.join(" AND ", conditions) + " ORDER BY created_at DESC, id DESC LIMIT :limit")
+                .bind("owner", owner)
+                .bind("limit", limit);
+        if (afterCreatedAt != null) {
+            spec = spec.bind("afterCreatedAt", afterCreatedAt).bind("afterId", afterId);
+        }
+        return spec.map(ReactiveTaskRepository::toTask).all();
+    }
+
+    /**
+     * Full-text search page; see TaskRepositoryCustom.search.
+     */
+    public Mono<SearchMatches> search(String owner, String query, Float afterRank, Long afterId, int limit) {
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(TaskRepositoryCustomImpl.searchSql(
+                        true, query, List.of(), afterRank != null, searchCandidates))
+                .bind("limit", limit);
+        for (Map.Entry<String, Object> parameter : TaskRepositoryCustomImpl.matchParameters(owner, query).entrySet()) {
+            spec = spec.bind(parameter.getKey(), parameter.getValue());
+        }
+        if (searchCandidates > 0) {
+            spec = spec.bind("candidates", searchCandidates)
+                    .bind("candidatesRead", searchCandidates + 1);
+        }
+        if (afterRank != null) {
+            spec = spec.bind("afterRank", afterRank)
+                    .bind("afterId", afterId);
+        }
+        return spec.map(row -> new SearchRow(new RankedTask(toTask(row), row.get("score", Float.class)),
+                        row.get("truncated", Boolean.class)))
+                .all()
+                .collectList()
+                .map(rows -> new SearchMatches(
+                        rows.stream().map(SearchRow::match).toList(),
+                        rows.stream().anyMatch(SearchRow::truncated)));
+    }
+
+    /**
+     * Every task of the owner in id order, fetched from a server-side cursor in
+     * blocks so demand from the subscriber bounds how many rows are in flight.
+     */
+    public Flux<Task> findAllOrderById(String owner) {
+        return databaseClient.sql("SELECT " + COLUMNS + " FROM task WHERE owner = :owner ORDER BY id")
+                .bind("owner", owner)
+                .filter((statement, next) -> next.execute(statement.fetchSize(EXPORT_FETCH_SIZE)))
+                .map(ReactiveTaskRepository::toTask)
+                .all();
+    }
+
+    public Flux<Long> findExistingIds(String owner, Collection<Long> ids) {
+        return findIds("task", owner, ids);
+    }
+
+    public Flux<Long> findArchivedIds(String owner, Collection<Long> ids) {
+        return findIds("task_archive", owner, ids);
+    }
+
+    public Mono<Task> completeIfActive(String owner, Long id) {
+        return completeActive(owner, "id = :id", "id", id).next();
+    }
+
+    public Flux<Task> completeAllActiveByIds(String owner, Collection<Long> ids) {
+        return completeActive(owner, "id = ANY(:ids)", "ids", ids.toArray(Long[]::new));
+    }
+
+    /**
+     * Completes up to {@code limit} active tasks of the owner created before the cutoff.
+     */
+    public Flux<Task> completeActiveChunkCreatedBefore(String owner, LocalDateTime cutoff, int limit) {
+        return databaseClient.sql(COMPLETE_ACTIVE + "id IN (SELECT id FROM task WHERE owner = :owner "
+                        + "AND completed = FALSE AND created_at < :cutoff LIMIT :limit) RETURNING " + COLUMNS)
+                .bind("now", now())
+                .bind("owner", owner)
+                .bind("cutoff", cutoff)
+                .bind("limit", limit)
+                .map(ReactiveTaskRepository::toTask)
+                .all();
+    }
+
+    /**
+     * Deletes the owner's tasks and archived tasks with one statement.
+     */
+    public Mono<Long> deleteAll(String owner) {
+        return databaseClient.sql("WITH tasks AS (DELETE FROM task WHERE owner = :owner RETURNING id), "
+                        + "archived AS (DELETE FROM task_archive WHERE owner = :owner RETURNING id) "
+                        + "SELECT (SELECT COUNT(*) FROM tasks) + (SELECT COUNT(*) FROM archived) AS deleted")
+                .bind("owner", owner)
+                .map(row -> row.get("deleted", Long.class))
+                .one();
+    }
+
+    /**
+     * Deletes up to {@code limit} tasks of the owner.
+     */
+    public Mono<Long> deleteChunk(String owner, int limit) {
+        return deleteChunk("task", owner, limit);
+    }
+
+    /**
+     * Deletes up to {@code limit} archived tasks of the owner.
+     */
+    public Mono<Long> deleteArchivedChunk(String owner, int limit) {
+        return deleteChunk("task_archive", owner, limit);
+    }
+
+    private Flux<Long> findIds(String table, String owner, Collection<Long> ids) {
+        return databaseClient.sql("SELECT id FROM " + table + " WHERE owner = :owner AND id = ANY(:ids)")
+                .bind("owner", owner)
+                .bind("ids", ids.toArray(Long[]::new))
+                .map(row -> row.get("id", Long.class))
+                .all();
+    }
+
+    private Mono<Long> deleteChunk(String table, String owner, int limit) {
+        return databaseClient.sql("DELETE FROM " + table + " WHERE id IN "
+                        + "(SELECT id FROM " + table + " WHERE owner = :owner LIMIT :limit)")
+                .bind("owner", owner)
+                .bind("limit", limit)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    private Flux<Task> completeActive(String owner, String condition, String parameter, Object value) {
+        return databaseClient.sql(COMPLETE_ACTIVE + condition + " RETURNING " + COLUMNS)
+                .bind("now", now())
+                .bind("owner", owner)
+                .bind(parameter, value)
+                .map(ReactiveTaskRepository::toTask)
+                .all();
+    }
+
+    private record SearchRow(RankedTask match, boolean truncated) {
+    }
+
+    // Matches Task.onCreate(), which truncates to PostgreSQL's timestamp precision.
+    private static LocalDateTime now() {
+        return LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+    }
+
+    private static Task toTask(Readable row) {
+        return new Task(
+                row.get("id", Long.class),
+                row.get("title", String.class),
+                row.get("description", String.class),
+                row.get("completed", Boolean.class),
+                row.get("created_at", LocalDateTime.class),
+                row.get("updated_at", LocalDateTime.class),
+                row.get("owner", String.class));
+    }
+}
@@ -0,0 +1,16 @@
+package com.todoapp.backend.repository;
+
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * A page of search matches, and whether more tasks matched than
+ * todo.search.max-candidates, so that only the most recent of them were ranked.
+ */
+@Value
+public class SearchMatches {
+
+    List<RankedTask> matches;
+    boolean truncated;
+}
@@ -0,0 +1,17 @@
+package com.todoapp.backend.repository;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks the owner parameter of a TaskRepository method; the call runs on the
+ * owner's shard. Methods taking a Task or Tasks use the owner of the tasks instead.
+ */
+@Documented
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ShardKey {
+}
@@ -0,0 +1,146 @@
+package com.todoapp.backend.repository;
+
+import com.todoapp.backend.dto.TaskCreateRequest;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Iterator;
+
+/**
+ * Writes large numbers of new tasks straight to the task table.
+ * PostgreSQL uses the driver's COPY API; other databases (H2 in tests) fall
+ * back to batched INSERTs. Runs on the connection of the current transaction,
+ * on the owner's shard, and invalidates cached task queries when that
+ * transaction completes.
+ */
+@Repository
+@Slf4j
+public class TaskBulkLoader {
+
+    private static final String COPY_SQL =
+            "COPY task (title, description, completed, created_at, updated_at, owner) FROM STDIN WITH (FORMAT csv)";
+
+    // Each raw nextval takes the top of a pooled block, so it cannot collide with Hibernate's ids.
+    private static final String INSERT_SQL =
+            "INSERT INTO task (id, title, description, completed, created_at, updated_at, owner) "
+                    + "VALUES (NEXT VALUE FOR task_id_seq, ?, ?, FALSE, ?, ?, ?)";
+
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+    private static final int INSERT_BATCH_SIZE = 1000;
+
+    private final DataSource dataSource;
+    private final EntityManager entityManager;
+    private final TaskShardRouter shardRouter;
+    private final boolean postgres;
+
+    public TaskBulkLoader(DataSource dataSource, EntityManager entityManager, TaskShardRouter shardRouter) {
+        this.dataSource = dataSource;
+        this.entityManager = entityManager;
+        this.shardRouter = shardRouter;
+        this.postgres = "PostgreSQL".equals(databaseProductName(dataSource));
+    }
+
+    /**
+     * Inserts every task from the iterator as an active task of the owner.
+     * The iterator is consumed lazily, so the input never has to fit in memory.
+     * @param owner Owner of the tasks; the owner field of the requests is not used
+     * @param tasks Validated task creation requests
+     * @return Number of inserted tasks
+     */
+    public long load(String owner, Iterator<TaskCreateRequest> tasks) {
+        return shardRouter.onShardOf(owner, () -> {
+            Connection connection = DataSourceUtils.getConnection(dataSource);
+            TaskCacheInvalidation.afterWrite(entityManager);
+            try {
+                return postgres ? copy(connection, owner, tasks) : insertInBatches(connection, owner, tasks);
+            } catch (SQLException ex) {
+                throw new IllegalStateException("Bulk load of tasks failed", ex);
+            } finally {
+                DataSourceUtils.releaseConnection(connection, dataSource);
+            }
+        });
+    }
+
+    private long copy(Connection connection, String owner, Iterator<TaskCreateRequest> tasks) throws SQLException {
+        CopyIn copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY_SQL);
+        String ownerField = csvField(owner);
+        try {
+            StringBuilder buffer = new StringBuilder(COPY_BUFFER_SIZE + 1024);
+            while (tasks.hasNext()) {
+                TaskCreateRequest task = tasks.next();
+                String now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS).toString();
+                buffer.append(csvField(task.getTitle())).append(',')
+                        .append(csvField(task.getDescription())).append(",false,")
+                        .append(now).append(',').append(now).append(',')
+                        .append(ownerField).append('\n');
+                if (buffer.length() >= COPY_BUFFER_SIZE) {
+                    writeToCopy(copyIn, buffer);
+                }
+            }
+            writeToCopy(copyIn, buffer);
+            long rows = copyIn.endCopy();
+            log.debug("Copied {} tasks", rows);
+            return rows;
+        } finally {
+            if (copyIn.isActive()) {
+                copyIn.cancelCopy();
+            }
+        }
+    }
+
+    private long insertInBatches(Connection connection, String owner, Iterator<TaskCreateRequest> tasks)
+            throws SQLException {
+        long rows = 0;
+        try (PreparedStatement statement = connection.prepareStatement(INSERT_SQL)) {
+            while (tasks.hasNext()) {
+                TaskCreateRequest task = tasks.next();
+                Timestamp now = Timestamp.valueOf(LocalDateTime.now().truncatedTo(ChronoUnit.MICROS));
+                statement.setString(1, task.getTitle());
+                statement.setString(2, task.getDescription());
+                statement.setTimestamp(3, now);
+                statement.setTimestamp(4, now);
+                statement.setString(5, owner);
+                statement.addBatch();
+                if (++rows % INSERT_BATCH_SIZE == 0) {
+                    statement.executeBatch();
+                }
+            }
+            statement.executeBatch();
+        }
+        log.debug("Inserted {} tasks in batches", rows);
+        return rows;
+    }
+
+    private static void writeToCopy(CopyIn copyIn, StringBuilder buffer) throws SQLException {
+        byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+        copyIn.writeToCopy(bytes, 0, bytes.length);
+        buffer.setLength(0);
+    }
+
+    private static String csvField(String value) {
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    private static String databaseProductName(DataSource dataSource) {
+        try {
+            return JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+        } catch (MetaDataAccessException ex) {
+            throw new IllegalStateException("Could not determine database product", ex);
+        }
+    }
+}
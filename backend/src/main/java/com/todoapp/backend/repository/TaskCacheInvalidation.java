@@ -0,0 +1,27 @@
+package com.todoapp.backend.repository;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.action.internal.BulkOperationCleanupAction;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+import java.util.Set;
+
+/**
+ * Invalidates the Task cache region and cached query results over the task table
+ * after writes Hibernate cannot see: native UPDATE ... RETURNING read as a result
+ * list, and JDBC batches or COPY on the transaction's connection. Scheduled the way
+ * Hibernate handles its own bulk statements: the region is locked and cleared now,
+ * and released when the transaction completes, so concurrent readers cannot put
+ * stale rows back in the meantime. Only bookkeeping when caching is off.
+ */
+final class TaskCacheInvalidation {
+
+    private static final Set<String> TASK_TABLE = Set.of("task");
+
+    private TaskCacheInvalidation() {
+    }
+
+    static void afterWrite(EntityManager entityManager) {
+        BulkOperationCleanupAction.schedule(entityManager.unwrap(SharedSessionContractImplementor.class), TASK_TABLE);
+    }
+}
@@ -1,23 +1,128 @@
 package com.todoapp.backend.repository;
 
 import com.todoapp.backend.entity.Task;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for Task entity.
- * Provides CRUD operations and custom query methods.
+ * Provides CRUD operations and custom query methods, each scoped to one owner.
+ * With todo.shards enabled every call runs on the shard of that owner (see
+ * TaskRepositorySharding); archiveCompletedBefore runs on the shard it is called on.
  */
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Long> {
+public interface TaskRepository extends JpaRepository<Task, Long>, TaskRepositoryCustom {
+
+    String RECENT_QUERY_REGION = "task-recent";
 
     /**
-     * Retrieves the 5 most recent non-completed tasks ordered by creation date.
+     * Retrieves the owner's 5 most recent non-completed tasks ordered by creation date.
+     * Declared read-only here because derived queries get no transaction of their
+     * own, and getRecentTasks calls it outside one (read-only routes to replicas).
+     * Results are kept in the query cache when it is enabled; any write to the
+     * task table invalidates them.
+     * @param owner Owner of the tasks
      * @return List of up to 5 recent active tasks
      */
-    List<Task> findTop5ByCompletedFalseOrderByCreatedAtDesc();
-    
+    @Transactional(readOnly = true)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = RECENT_QUERY_REGION)
+    })
+    List<Task> findTop5ByOwnerAndCompletedFalseOrderByCreatedAtDesc(@ShardKey String owner);
+
+    /**
+     * Retrieves a page of the owner's non-completed tasks using the pageable's sort order.
+     * @param owner Owner of the tasks
+     * @param pageable Page size and sort order
+     * @return List of active tasks for the requested page
+     */
+    List<Task> findByOwnerAndCompletedFalse(@ShardKey String owner, Pageable pageable);
+
+    /**
+     * Looks up one of the owner's tasks by id, so the second-level cache can serve it.
+     * @param id Task ID
+     * @param owner Owner of the task
+     * @return The task, or empty if the owner has no task with this id
+     */
+    default Optional<Task> findByIdAndOwner(Long id, @ShardKey String owner) {
+        return findById(id).filter(task -> task.getOwner().equals(owner));
+    }
+
+    /**
+     * Returns which of the given ids are the owner's tasks, without loading the entities.
+     * @param owner Owner of the tasks
+     * @param ids Task IDs to check
+     * @return Subset of ids that exist
+     */
+    @Query("SELECT t.id FROM Task t WHERE t.owner = :owner AND t.id IN :ids")
+    List<Long> findExistingIds(@ShardKey String owner, Collection<Long> ids);
+
+    /**
+     * Streams every task of the owner in id order. Must be consumed inside a
+     * transaction; the fetch size makes the PostgreSQL driver read through a
+     * cursor instead of buffering the whole result set.
+     * @param owner Owner of the tasks
+     * @return Stream of the owner's tasks, to be closed by the caller
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT t FROM Task t WHERE t.owner = :owner ORDER BY t.id")
+    Stream<Task> streamAll(@ShardKey String owner);
+
+    /**
+     * Deletes every task of the owner with one set-based statement, without loading entities.
+     * @param owner Owner of the tasks
+     * @return Number of deleted tasks
+     */
+    @Modifying
+    @Query("DELETE FROM Task t WHERE t.owner = :owner")
+    int deleteAllInBulk(@ShardKey String owner);
+
+    /**
+     * Deletes up to {@code limit} tasks of the owner.
+     * Used to delete a large list in short transactions.
+     * @param owner Owner of the tasks
+     * @param limit Maximum number of tasks to delete
+     * @return Number of deleted tasks
+     */
+    @Modifying
+    @Query(value = "DELETE FROM task WHERE id IN (SELECT id FROM task WHERE owner = :owner LIMIT :limit)",
+            nativeQuery = true)
+    int deleteChunk(@ShardKey @Param("owner") String owner, @Param("limit") int limit);
+
+    /**
+     * Deletes every archived task of the owner with one set-based statement.
+     * @param owner Owner of the tasks
+     * @return Number of deleted archived tasks
+     */
+    @Modifying
+    @Query(value = "DELETE FROM task_archive WHERE owner = :owner", nativeQuery = true)
+    int deleteAllArchived(@ShardKey @Param("owner") String owner);
+
+    /**
+     * Deletes up to {@code limit} archived tasks of the owner.
+     * @param owner Owner of the tasks
+     * @param limit Maximum number of archived tasks to delete
+     * @return Number of deleted archived tasks
+     */
+    @Modifying
+    @Query(value = "DELETE FROM task_archive WHERE id IN "
+            + "(SELECT id FROM task_archive WHERE owner = :owner LIMIT :limit)", nativeQuery = true)
+    int deleteArchivedChunk(@ShardKey @Param("owner") String owner, @Param("limit") int limit);
 }
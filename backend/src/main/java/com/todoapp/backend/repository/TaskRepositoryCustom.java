@@ -0,0 +1,101 @@
+package com.todoapp.backend.repository;
+
+import com.todoapp.backend.entity.Task;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Task queries that need database-specific SQL.
+ * Implemented by TaskRepositoryCustomImpl and exposed through TaskRepository.
+ */
+public interface TaskRepositoryCustom {
+
+    /**
+     * Marks a task as completed with a single conditional UPDATE ... RETURNING.
+     * @param owner Owner of the task
+     * @param id Task ID
+     * @return The completed task, or empty if it does not exist or was already completed
+     */
+    Optional<Task> completeIfActive(@ShardKey String owner, Long id);
+
+    /**
+     * Marks all of the owner's active tasks with the given ids as completed in one statement.
+     * @param owner Owner of the tasks
+     * @param ids Task IDs
+     * @return Tasks that were completed by this call
+     */
+    List<Task> completeAllActiveByIds(@ShardKey String owner, Collection<Long> ids);
+
+    /**
+     * Marks up to {@code limit} of the owner's active tasks created before the cutoff as completed.
+     * Used to complete a large list in short transactions.
+     * @param owner Owner of the tasks
+     * @param cutoff Exclusive upper bound on createdAt
+     * @param limit Maximum number of tasks to complete
+     * @return Tasks that were completed by this call
+     */
+    List<Task> completeActiveChunkCreatedBefore(@ShardKey String owner, LocalDateTime cutoff, int limit);
+
+    /**
+     * Keyset page of the owner's tasks ordered newest first by (createdAt, id).
+     * Uses a row-value comparison, so every page is an index range scan
+     * regardless of how deep it is.
+     * @param owner Owner of the tasks
+     * @param completed Completion state to filter on, or null for all tasks
+     * @param afterCreatedAt createdAt of the last task on the previous page, or null for the first page
+     * @param afterId id of the last task on the previous page, or null for the first page
+     * @param limit Maximum number of tasks to return
+     * @return Tasks strictly after the given position
+     */
+    List<Task> findPage(@ShardKey String owner, Boolean completed, LocalDateTime afterCreatedAt, Long afterId,
+                        int limit);
+
+    /**
+     * Keyset page of full-text matches for the query in the owner's task titles or descriptions,
+     * ordered by (rank, id) descending. PostgreSQL ranks with ts_rank over the
+     * GIN-indexed search_vector column and accepts web search syntax ("quoted
+     * phrases", or, -excluded); H2 (tests) matches every word as a substring,
+     * ranking title matches above description matches. Only the
+     * todo.search.max-candidates most recent matches are ranked and paged
+     * through, or every match when it is 0. One more candidate is read to tell
+     * whether older matches were left out; a page without matches never reports that.
+     * @param owner Owner of the tasks
+     * @param query Search text as typed by the user
+     * @param afterRank rank of the last match on the previous page, or null for the first page
+     * @param afterId id of the last match on the previous page, or null for the first page
+     * @param limit Maximum number of matches to return
+     * @return Matches strictly after the given position
+     */
+    SearchMatches search(@ShardKey String owner, String query, Float afterRank, Long afterId, int limit);
+
+    /**
+     * Moves up to {@code limit} tasks of any owner completed before the cutoff
+     * (by updatedAt) from task to task_archive in one statement, on the shard
+     * the caller is bound to. On PostgreSQL rows locked by other transactions
+     * are skipped rather than waited for.
+     * @param cutoff Exclusive upper bound on updatedAt
+     * @param archivedAt Archive time to record
+     * @param limit Maximum number of tasks to move
+     * @return Number of tasks moved
+     */
+    int archiveCompletedBefore(LocalDateTime cutoff, LocalDateTime archivedAt, int limit);
+
+    /**
+     * Looks one of the owner's tasks up in task_archive.
+     * @param owner Owner of the task
+     * @param id Task ID
+     * @return The archived task, or empty if it is not archived
+     */
+    Optional<Task> findArchivedById(@ShardKey String owner, Long id);
+
+    /**
+     * Returns which of the given ids are archived tasks of the owner.
+     * @param owner Owner of the tasks
+     * @param ids Task IDs to check
+     * @return Subset of ids found in task_archive
+     */
+    List<Long> findArchivedIds(@ShardKey String owner, Collection<Long> ids);
+}
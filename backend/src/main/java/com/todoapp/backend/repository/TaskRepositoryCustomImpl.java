@@ -0,0 +1,315 @@
+package com.todoapp.backend.repository;
+
+import com.todoapp.backend.entity.Task;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.query.NativeQuery;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Native implementations of TaskRepositoryCustom.
+ * PostgreSQL uses UPDATE ... RETURNING; H2 (tests) uses the equivalent
+ * SELECT ... FROM FINAL TABLE (UPDATE ...). Either way the row is updated and
+ * returned in one round trip, without loading the entity first.
+ * Returned rows are mapped to new, detached Task instances; like Spring Data
+ * {@code @Modifying} queries, copies already in the persistence context are not refreshed.
+ * Hibernate does not see these statements as writes, so they invalidate the task
+ * cache regions themselves (see TaskCacheInvalidation).
+ */
+class TaskRepositoryCustomImpl implements TaskRepositoryCustom {
+
+    static final String COLUMNS = "id, title, description, completed, created_at, updated_at, owner";
+
+    private static final String COMPLETE_ACTIVE =
+            "UPDATE task SET completed = TRUE, updated_at = :now WHERE owner = :owner AND completed = FALSE AND ";
+
+    private final EntityManager entityManager;
+    private final boolean postgres;
+    private final int searchCandidates;
+
+    TaskRepositoryCustomImpl(EntityManager entityManager, DataSource dataSource,
+                             @Value("${todo.search.max-candidates:1000}") int searchCandidates) {
+        this.entityManager = entityManager;
+        this.postgres = "PostgreSQL".equals(databaseProductName(dataSource));
+        this.searchCandidates = searchCandidates;
+    }
+
+    @Override
+    public Optional<Task> completeIfActive(String owner, Long id) {
+        return completeActive(owner, "id = :id", Map.of("id", id)).stream().findFirst();
+    }
+
+    @Override
+    public List<Task> completeAllActiveByIds(String owner, Collection<Long> ids) {
+        return completeActive(owner, "id IN (:ids)", Map.of("ids", ids));
+    }
+
+    @Override
+    public List<Task> completeActiveChunkCreatedBefore(String owner, LocalDateTime cutoff, int limit) {
+        return completeActive(owner, "id IN (SELECT id FROM task WHERE owner = :owner AND completed = FALSE "
+                + "AND created_at < :cutoff LIMIT :limit)", Map.of("cutoff", cutoff, "limit", limit));
+    }
+
+    @Override
+    public List<Task> findPage(String owner, Boolean completed, LocalDateTime afterCreatedAt, Long afterId,
+                               int limit) {
+        List<String> conditions = new ArrayList<>();
+        conditions.add("t.owner = :owner");
+        if (completed != null) {
+            // Rendered as a literal so PostgreSQL can match the partial indexes.
+            conditions.add("t.completed = " + completed);
+        }
+        if (afterCreatedAt != null) {
+            conditions.add("(t.createdAt, t.id) < (:afterCreatedAt, :afterId)");
+        }
+        TypedQuery<Task> query = entityManager.createQuery("SELECT t FROM Task t WHERE "
+                + String.join(" AND ", conditions) + " ORDER BY t.createdAt DESC, t.id DESC", Task.class)
+                .setParameter("owner", owner);
+        if (afterCreatedAt != null) {
+            query.setParameter("afterCreatedAt", afterCreatedAt)
+                    .setParameter("afterId", afterId);
+        }
+        return query.setMaxResults(limit).getResultList();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public SearchMatches search(String owner, String query, Float afterRank, Long afterId, int limit) {
+        List<String> words = postgres ? List.of() : searchWords(query);
+        if (!postgres && words.isEmpty()) {
+            return new SearchMatches(List.of(), false);
+        }
+        String sql = searchSql(postgres, query, words, afterRank != null, searchCandidates);
+
+        NativeQuery<Object[]> search = withTaskColumns(entityManager.createNativeQuery(sql).unwrap(NativeQuery.class))
+                .addScalar("score", Float.class)
+                .addScalar("truncated", Boolean.class)
+                .setParameter("limit", limit);
+        bindMatch(search, owner, query, words);
+        if (searchCandidates > 0) {
+            search.setParameter("candidates", searchCandidates)
+                    .setParameter("candidatesRead", searchCandidates + 1);
+        }
+        if (afterRank != null) {
+            search.setParameter("afterRank", afterRank)
+                    .setParameter("afterId", afterId);
+        }
+        List<Object[]> rows = search.getResultList();
+        return new SearchMatches(rows.stream()
+                .map(row -> new RankedTask(toTask(row), (Float) row[7]))
+                .toList(),
+                rows.stream().anyMatch(row -> (Boolean) row[8]));
+    }
+
+    /**
+     * The search statement, also run over R2DBC by ReactiveTaskRepository. Its
+     * named parameters are those of bindMatch, plus candidates and candidatesRead
+     * with maxCandidates above 0, afterRank and afterId after a cursor, and limit.
+     * Rows hold COLUMNS, then score and truncated.
+     */
+    static String searchSql(boolean postgres, String query, List<String> words, boolean afterCursor,
+                            int maxCandidates) {
+        String candidates = "SELECT " + COLUMNS + (postgres ? ", search_vector" : "") + " FROM task "
+                + "WHERE owner = :owner AND " + matchCondition(postgres, query, words);
+        String truncated = "FALSE";
+        if (maxCandidates > 0) {
+            // Only the most recent matches are ranked, so a common word costs the same
+            // as a rare one instead of ranking a large share of the table. The one
+            // extra candidate read shows whether older matches were left out.
+            candidates = "SELECT newest.*, ROW_NUMBER() OVER (ORDER BY id DESC) AS candidate, "
+                    + "COUNT(*) OVER () AS candidate_count FROM (" + candidates
+                    + " ORDER BY id DESC LIMIT :candidatesRead) newest";
+            truncated = "candidate_count > :candidates";
+        }
+        String matches = "SELECT " + COLUMNS + ", "
+                + (postgres ? "ts_rank(search_vector, query)" : substringScore(words.size())) + " AS score, "
+                + truncated + " AS truncated FROM (" + candidates + ") candidates"
+                + (postgres ? ", websearch_to_tsquery('english', :query) AS query" : "")
+                + (maxCandidates > 0 ? " WHERE candidate <= :candidates" : "");
+        return "SELECT " + COLUMNS + ", score, truncated FROM (" + matches + ") matches"
+                + (afterCursor ? " WHERE (score, id) < (CAST(:afterRank AS REAL), :afterId)" : "")
+                + " ORDER BY score DESC, id DESC LIMIT :limit";
+    }
+
+    /**
+     * Runs as a bulk statement on the task and task_archive query spaces, so
+     * Hibernate invalidates the cached tasks and query results itself.
+     */
+    @Override
+    public int archiveCompletedBefore(LocalDateTime cutoff, LocalDateTime archivedAt, int limit) {
+        String due = "SELECT id FROM task WHERE completed = TRUE AND updated_at < :cutoff LIMIT :limit";
+        String sql = postgres
+                ? "WITH moved AS (DELETE FROM task WHERE id IN (" + due + " FOR UPDATE SKIP LOCKED) "
+                        + "RETURNING " + COLUMNS + ") "
+                        + "INSERT INTO task_archive (" + COLUMNS + ", archived_at) "
+                        + "SELECT " + COLUMNS + ", :archivedAt FROM moved"
+                : "INSERT INTO task_archive (" + COLUMNS + ", archived_at) "
+                        + "SELECT " + COLUMNS + ", :archivedAt FROM OLD TABLE (DELETE FROM task WHERE id IN (" + due + "))";
+
+        return entityManager.createNativeQuery(sql)
+                .unwrap(NativeQuery.class)
+                .addSynchronizedQuerySpace("task")
+                .addSynchronizedQuerySpace("task_archive")
+                .setParameter("cutoff", cutoff)
+                .setParameter("archivedAt", archivedAt)
+                .setParameter("limit", limit)
+                .executeUpdate();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Optional<Task> findArchivedById(String owner, Long id) {
+        List<Object[]> rows = withTaskColumns(entityManager.createNativeQuery(
+                        "SELECT " + COLUMNS + " FROM task_archive WHERE id = :id AND owner = :owner")
+                        .unwrap(NativeQuery.class))
+                .setParameter("id", id)
+                .setParameter("owner", owner)
+                .getResultList();
+        return rows.stream().findFirst().map(TaskRepositoryCustomImpl::toTask);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Long> findArchivedIds(String owner, Collection<Long> ids) {
+        return entityManager.createNativeQuery("SELECT id FROM task_archive WHERE owner = :owner AND id IN (:ids)")
+                .unwrap(NativeQuery.class)
+                .addScalar("id", Long.class)
+                .setParameter("owner", owner)
+                .setParameter("ids", ids)
+                .getResultList();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Task> completeActive(String owner, String condition, Map<String, Object> parameters) {
+        String update = COMPLETE_ACTIVE + condition;
+        String sql = postgres
+                ? update + " RETURNING " + COLUMNS
+                : "SELECT " + COLUMNS + " FROM FINAL TABLE (" + update + ")";
+
+        NativeQuery<Object[]> complete = withTaskColumns(entityManager.createNativeQuery(sql)
+                .unwrap(NativeQuery.class))
+                .setParameter("now", LocalDateTime.now())
+                .setParameter("owner", owner);
+        parameters.forEach(complete::setParameter);
+        List<Object[]> rows = complete.getResultList();
+        if (!rows.isEmpty()) {
+            TaskCacheInvalidation.afterWrite(entityManager);
+        }
+        return rows.stream()
+                .map(TaskRepositoryCustomImpl::toTask)
+                .toList();
+    }
+
+    /**
+     * WHERE condition matching the query: the GIN-indexed search_vector on
+     * PostgreSQL, and on H2 (tests) every word in the title or description.
+     */
+    private static String matchCondition(boolean postgres, String query, List<String> words) {
+        if (postgres) {
+            // The planner estimates a phrase like its words anywhere in the task, so a
+            // rare phrase of common words would be searched for by scanning the newest
+            // tasks; repeating the words as a separate condition lowers the estimate
+            // enough for it to use the GIN index.
+            return "search_vector @@ websearch_to_tsquery('english', :query)"
+                    + (isPhrase(query) ? " AND search_vector @@ websearch_to_tsquery('english', :words)" : "");
+        }
+        List<String> conditions = new ArrayList<>();
+        for (int i = 0; i < words.size(); i++) {
+            conditions.add("(" + inTitle(i) + " OR " + inDescription(i) + ")");
+        }
+        return String.join(" AND ", conditions);
+    }
+
+    private void bindMatch(Query match, String owner, String query, List<String> words) {
+        if (postgres) {
+            matchParameters(owner, query).forEach(match::setParameter);
+        } else {
+            match.setParameter("owner", owner);
+            for (int i = 0; i < words.size(); i++) {
+                match.setParameter("word" + i, "%" + escapeLike(words.get(i)) + "%");
+            }
+        }
+    }
+
+    /**
+     * Parameters of the PostgreSQL match condition, also bound by ReactiveTaskRepository.
+     */
+    static Map<String, Object> matchParameters(String owner, String query) {
+        return isPhrase(query)
+                ? Map.of("owner", owner, "query", query, "words", query.replace('"', ' '))
+                : Map.of("owner", owner, "query", query);
+    }
+
+    /**
+     * H2 fallback for ranking: each word scores 2 for a title match and 1 for a description match.
+     */
+    private static String substringScore(int wordCount) {
+        List<String> scores = new ArrayList<>();
+        for (int i = 0; i < wordCount; i++) {
+            scores.add("CASE WHEN " + inTitle(i) + " THEN 2 ELSE 0 END");
+            scores.add("CASE WHEN " + inDescription(i) + " THEN 1 ELSE 0 END");
+        }
+        return "CAST(" + String.join(" + ", scores) + " AS REAL)";
+    }
+
+    private static String inTitle(int word) {
+        return "LOWER(title) LIKE :word" + word + " ESCAPE '\\'";
+    }
+
+    private static String inDescription(int word) {
+        return "LOWER(description) LIKE :word" + word + " ESCAPE '\\'";
+    }
+
+    private static boolean isPhrase(String query) {
+        return query.indexOf('"') >= 0;
+    }
+
+    private static List<String> searchWords(String query) {
+        return Arrays.stream(query.toLowerCase(Locale.ROOT).trim().split("\\s+"))
+                .filter(word -> !word.isEmpty())
+                .toList();
+    }
+
+    private static String escapeLike(String word) {
+        return word.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    @SuppressWarnings("rawtypes")
+    private static NativeQuery withTaskColumns(NativeQuery query) {
+        return query
+                .addScalar("id", Long.class)
+                .addScalar("title", String.class)
+                .addScalar("description", String.class)
+                .addScalar("completed", Boolean.class)
+                .addScalar("created_at", LocalDateTime.class)
+                .addScalar("updated_at", LocalDateTime.class)
+                .addScalar("owner", String.class);
+    }
+
+    private static Task toTask(Object[] row) {
+        return new Task((Long) row[0], (String) row[1], (String) row[2],
+                (Boolean) row[3], (LocalDateTime) row[4], (LocalDateTime) row[5], (String) row[6]);
+    }
+
+    private static String databaseProductName(DataSource dataSource) {
+        try {
+            return JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+        } catch (MetaDataAccessException ex) {
+            throw new IllegalStateException("Could not determine database product", ex);
+        }
+    }
+}
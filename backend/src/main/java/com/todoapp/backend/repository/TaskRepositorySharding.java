@@ -0,0 +1,106 @@
+package com.todoapp.backend.repository;
+
+import com.todoapp.backend.entity.Task;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.stereotype.Component;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Puts TaskShardRouter in front of every TaskRepository method, so each call
+ * runs on the shard of the owner it is made for: the {@link ShardKey} argument,
+ * or the owner of the Task or Tasks passed in. Calls without one (flush, ...)
+ * run on the shard already bound, or shard 0.
+ * Enabled by todo.shards.enabled.
+ */
+@Component
+@ConditionalOnProperty(name = "todo.shards.enabled", havingValue = "true")
+public class TaskRepositorySharding implements BeanPostProcessor {
+
+    private static final int NO_SHARD_KEY = -1;
+
+    private final ObjectProvider<TaskShardRouter> shardRouter;
+    private final Map<Method, Integer> shardKeyParameters = new ConcurrentHashMap<>();
+
+    public TaskRepositorySharding(ObjectProvider<TaskShardRouter> shardRouter) {
+        this.shardRouter = shardRouter;
+    }
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+            MethodInterceptor interceptor = this::invoke;
+            factoryBean.addRepositoryFactoryCustomizer(factory ->
+                    factory.addRepositoryProxyPostProcessor((proxyFactory, repositoryInformation) -> {
+                        if (TaskRepository.class.isAssignableFrom(repositoryInformation.getRepositoryInterface())) {
+                            proxyFactory.addAdvice(interceptor);
+                        }
+                    }));
+        }
+        return bean;
+    }
+
+    private Object invoke(MethodInvocation invocation) throws Throwable {
+        String owner = owner(invocation.getMethod(), invocation.getArguments());
+        if (owner == null) {
+            return invocation.proceed();
+        }
+        return shardRouter.getObject().onShardOf(owner, invocation::proceed);
+    }
+
+    private String owner(Method method, Object[] arguments) {
+        int shardKey = shardKeyParameters.computeIfAbsent(method, TaskRepositorySharding::shardKeyParameter);
+        if (shardKey != NO_SHARD_KEY) {
+            return (String) arguments[shardKey];
+        }
+        if (arguments.length == 0) {
+            return null;
+        }
+        if (arguments[0] instanceof Task task) {
+            return task.getOwner();
+        }
+        if (arguments[0] instanceof Iterable<?> tasks) {
+            return ownerOf(tasks);
+        }
+        return null;
+    }
+
+    /**
+     * Tasks saved together must be on one shard; their owner, or null if there are none.
+     */
+    private String ownerOf(Iterable<?> tasks) {
+        TaskShardRouter router = shardRouter.getObject();
+        String owner = null;
+        for (Object element : tasks) {
+            if (!(element instanceof Task task)) {
+                return null;
+            }
+            if (owner == null) {
+                owner = task.getOwner();
+            } else if (router.shardOf(owner) != router.shardOf(task.getOwner())) {
+                throw new IllegalArgumentException("Tasks of owners on different shards cannot be saved together");
+            }
+        }
+        return owner;
+    }
+
+    private static int shardKeyParameter(Method method) {
+        Annotation[][] parameterAnnotations = method.getParameterAnnotations();
+        for (int i = 0; i < parameterAnnotations.length; i++) {
+            for (Annotation annotation : parameterAnnotations[i]) {
+                if (annotation instanceof ShardKey) {
+                    return i;
+                }
+            }
+        }
+        return NO_SHARD_KEY;
+    }
+}
@@ -0,0 +1,93 @@
+package com.todoapp.backend.repository;
+
+import com.todoapp.backend.config.ShardRoutingDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32C;
+
+/**
+ * Assigns every owner to one shard by CRC32C of the owner modulo the number of
+ * shards, and binds the current thread to it (see ShardRoutingDataSource). Inside
+ * a transaction the shard stays bound until the transaction completes, since its
+ * connection is on that shard; outside one, only for the call. A thread bound to
+ * one shard cannot use another until then. With a single database this only
+ * runs the given action.
+ */
+@Component
+public class TaskShardRouter {
+
+    /**
+     * Work run on a shard; may throw what the caller can handle.
+     */
+    @FunctionalInterface
+    public interface ShardAction<T, E extends Throwable> {
+        T run() throws E;
+    }
+
+    private static final TransactionSynchronization UNBIND_ON_COMPLETION = new TransactionSynchronization() {
+        @Override
+        public void afterCompletion(int status) {
+            ShardRoutingDataSource.unbind();
+        }
+    };
+
+    private final int shardCount;
+
+    @Autowired
+    public TaskShardRouter(ObjectProvider<ShardRoutingDataSource> shardDataSource) {
+        this(shardDataSource.getIfAvailable() != null ? shardDataSource.getIfAvailable().getShardCount() : 1);
+    }
+
+    public TaskShardRouter(int shardCount) {
+        this.shardCount = shardCount;
+    }
+
+    public int getShardCount() {
+        return shardCount;
+    }
+
+    public int shardOf(String owner) {
+        CRC32C crc = new CRC32C();
+        crc.update(owner.getBytes(StandardCharsets.UTF_8));
+        return (int) (crc.getValue() % shardCount);
+    }
+
+    /**
+     * Runs the action on the owner's shard.
+     */
+    public <T, E extends Throwable> T onShardOf(String owner, ShardAction<T, E> action) throws E {
+        return onShard(shardOf(owner), action);
+    }
+
+    /**
+     * Runs the action on the given shard.
+     * @throws IllegalStateException if the thread is bound to another shard
+     */
+    public <T, E extends Throwable> T onShard(int shard, ShardAction<T, E> action) throws E {
+        if (shardCount == 1) {
+            return action.run();
+        }
+        Integer bound = ShardRoutingDataSource.boundShard();
+        if (bound != null) {
+            if (bound != shard) {
+                throw new IllegalStateException("Shard " + shard + " used while bound to shard " + bound);
+            }
+            return action.run();
+        }
+        ShardRoutingDataSource.bind(shard);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(UNBIND_ON_COMPLETION);
+            return action.run();
+        }
+        try {
+            return action.run();
+        } finally {
+            ShardRoutingDataSource.unbind();
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.todoapp.backend.service;
+
+import com.todoapp.backend.dto.TaskBulkCompleteRequest;
+import com.todoapp.backend.dto.TaskBulkCompleteResponse;
+import com.todoapp.backend.dto.TaskCreateRequest;
+import com.todoapp.backend.dto.TaskDeleteResponse;
+import com.todoapp.backend.dto.TaskPageResponse;
+import com.todoapp.backend.dto.TaskResponse;
+import com.todoapp.backend.dto.TaskSearchResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Non-blocking variant of TaskService for the reactive profile.
+ * Same semantics and exceptions as TaskService, delivered as Mono/Flux;
+ * every operation works on one owner's list.
+ */
+public interface ReactiveTaskService {
+
+    /**
+     * Creates a new task in the list of the request's owner.
+     * @param request Task creation request
+     * @return Created task response
+     */
+    Mono<TaskResponse> createTask(TaskCreateRequest request);
+
+    /**
+     * Creates several tasks with a single statement.
+     * @param requests Task creation requests, all for the same owner
+     * @return Created task responses, in request order
+     */
+    Mono<List<TaskResponse>> createTasks(List<TaskCreateRequest> requests);
+
+    /**
+     * Retrieves the owner's 5 most recent non-completed tasks.
+     * @param owner Owner of the list
+     * @return Up to 5 recent active tasks
+     */
+    Mono<List<TaskResponse>> getRecentTasks(String owner);
+
+    /**
+     * Retrieves the owner's tasks newest first, one keyset page at a time.
+     * @param owner Owner of the list
+     * @param completed Completion state to filter on, or null for all tasks
+     * @param cursor Opaque cursor from the previous page, or null for the first page
+     * @param size Maximum number of tasks on the page
+     * @return Page of tasks and the cursor of the next page
+     */
+    Mono<TaskPageResponse> getTasks(String owner, Boolean completed, String cursor, int size);
+
+    /**
+     * Searches the owner's task titles and descriptions, best matches first, one keyset page at a time.
+     * Archived tasks are not searched.
+     * @param owner Owner of the list
+     * @param query Search text
+     * @param cursor Opaque cursor from the previous page, or null for the first page
+     * @param size Maximum number of tasks on the page
+     * @return Page of matching tasks, the cursor of the next page and whether older matches were left unranked
+     */
+    Mono<TaskSearchResponse> searchTasks(String owner, String query, String cursor, int size);
+
+    /**
+     * Streams every task of the owner in id order, driven by subscriber demand.
+     * @param owner Owner of the list
+     * @return All of the owner's tasks except archived ones
+     */
+    Flux<TaskResponse> exportTasks(String owner);
+
+    /**
+     * Deletes all of the owner's tasks in one statement - for testing purposes.
+     * @param owner Owner of the list
+     * @return Number of deleted tasks and elapsed time
+     */
+    Mono<TaskDeleteResponse> deleteAllTasks(String owner);
+
+    /**
+     * Deletes all of the owner's tasks in chunks, each in its own statement.
+     * @param owner Owner of the list
+     * @param chunkSize Maximum number of tasks deleted per statement
+     * @return Number of deleted tasks and elapsed time
+     */
+    Mono<TaskDeleteResponse> deleteAllTasksInChunks(String owner, int chunkSize);
+
+    /**
+     * Gets one of the owner's tasks by id, including archived tasks.
+     * @param owner Owner of the list
+     * @param id Task ID
+     * @return Task response; errors with ResourceNotFoundException if it does not exist
+     */
+    Mono<TaskResponse> getTask(String owner, Long id);
+
+    /**
+     * Marks one of the owner's tasks as completed. Archived tasks are returned unchanged.
+     * @param owner Owner of the list
+     * @param id Task ID
+     * @return Updated task response; errors with ResourceNotFoundException if it does not exist
+     */
+    Mono<TaskResponse> completeTask(String owner, Long id);
+
+    /**
+     * Marks several of the owner's tasks as completed: up to 1000 ids in one
+     * statement, or every task created before a cutoff in chunks of 1000.
+     * @param owner Owner of the list
+     * @param request Task IDs or a creation-time cutoff
+     * @return Number of completed tasks, the completed tasks when completing by
+     *         ids, and requested ids that do not exist
+     */
+    Mono<TaskBulkCompleteResponse> completeTasks(String owner, TaskBulkCompleteRequest request);
+}
@@ -0,0 +1,311 @@
+package com.todoapp.backend.service;
+
+import com.todoapp.backend.dto.TaskBulkCompleteRequest;
+import com.todoapp.backend.dto.TaskBulkCompleteResponse;
+import com.todoapp.backend.dto.TaskCreateRequest;
+import com.todoapp.backend.dto.TaskDeleteResponse;
+import com.todoapp.backend.dto.TaskPageResponse;
+import com.todoapp.backend.dto.TaskResponse;
+import com.todoapp.backend.dto.TaskSearchResponse;
+import com.todoapp.backend.entity.Task;
+import com.todoapp.backend.event.TaskChangedEvent;
+import com.todoapp.backend.exception.BadRequestException;
+import com.todoapp.backend.exception.ResourceNotFoundException;
+import com.todoapp.backend.repository.ReactiveTaskRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Implementation of ReactiveTaskService over ReactiveTaskRepository.
+ * Every write is a single auto-committed statement, so events are published
+ * once its result arrives, matching the after-commit delivery of the blocking
+ * stack. The follow-up lookups in completeTask and completeTasks only tell
+ * already completed tasks from missing ones and need no shared transaction.
+ * Reads go to the database on every call: RecentTaskIndex and
+ * RecentTaskSnapshot load through the blocking TaskService and
+ * TaskGroupCommitter writes through JPA, so todo.recent-index,
+ * todo.recent-snapshot and todo.group-commit are refused.
+ */
+@Service
+@Profile("reactive")
+@Slf4j
+public class ReactiveTaskServiceImplementation implements ReactiveTaskService {
+
+    private static final int RECENT_TASK_LIMIT = 5;
+
+    private final ReactiveTaskRepository taskRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public ReactiveTaskServiceImplementation(ReactiveTaskRepository taskRepository,
+                                             ApplicationEventPublisher eventPublisher,
+                                             @Value("${todo.recent-index.enabled:false}") boolean recentIndex,
+                                             @Value("${todo.recent-snapshot.enabled:false}") boolean recentSnapshot,
+                                             @Value("${todo.group-commit.enabled:false}") boolean groupCommit) {
+        if (recentIndex) {
+            throw new IllegalStateException("todo.recent-index cannot be combined with the reactive profile");
+        }
+        if (recentSnapshot) {
+            throw new IllegalStateException("todo.recent-snapshot cannot be combined with the reactive profile");
+        }
+        if (groupCommit) {
+            throw new IllegalStateException("todo.group-commit cannot be combined with the reactive profile");
+        }
+        this.taskRepository = taskRepository;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    public Mono<TaskResponse> createTask(TaskCreateRequest request) {
+        log.debug("Creating new task with title: {}", request.getTitle());
+
+        return taskRepository.insert(request)
+                .map(TaskServiceImplementation::convertToResponse)
+                .doOnNext(response -> {
+                    log.debug("Task created successfully with id: {}", response.getId());
+                    eventPublisher.publishEvent(TaskChangedEvent.created(response));
+                });
+    }
+
+    @Override
+    public Mono<List<TaskResponse>> createTasks(List<TaskCreateRequest> requests) {
+        // Guarded because the int argument is boxed even when DEBUG is off.
+        if (log.isDebugEnabled()) {
+            log.debug("Creating batch of {} tasks", requests.size());
+        }
+        String owner = requests.isEmpty() ? null : requests.get(0).getOwner();
+        if (requests.stream().anyMatch(request -> !request.getOwner().equals(owner))) {
+            return Mono.error(new BadRequestException("All tasks of a batch must have the same owner"));
+        }
+
+        return taskRepository.insertAll(owner, requests)
+                .map(TaskServiceImplementation::convertToResponse)
+                .collectList()
+                .doOnNext(responses -> {
+                    if (log.isDebugEnabled()) {
+                        log.debug("Batch of {} tasks created", responses.size());
+                    }
+                    eventPublisher.publishEvent(TaskChangedEvent.created(owner, responses));
+                });
+    }
+
+    @Override
+    public Mono<List<TaskResponse>> getRecentTasks(String owner) {
+        log.debug("Fetching 5 most recent active tasks of {}", owner);
+
+        return taskRepository.findRecentActive(owner, RECENT_TASK_LIMIT)
+                .map(TaskServiceImplementation::convertToResponse)
+                .collectList();
+    }
+
+    @Override
+    public Mono<TaskPageResponse> getTasks(String owner, Boolean completed, String cursor, int size) {
+        if (log.isDebugEnabled()) {
+            log.debug("Fetching page of {} tasks (completed: {})", size, completed);
+        }
+
+        // Decoded on subscription so an invalid cursor surfaces as an error signal.
+        return Mono.fromCallable(() -> Optional.ofNullable(cursor).map(TaskCursor::decode))
+                // One extra row tells whether another page follows.
+                .flatMap(after -> taskRepository.findPage(owner, completed,
+                                after.map(TaskCursor::getCreatedAt).orElse(null),
+                                after.map(TaskCursor::getId).orElse(null),
+                                size + 1)
+                        .collectList())
+                .map(tasks -> TaskServiceImplementation.buildPage(tasks, size));
+    }
+
+    @Override
+    public Mono<TaskSearchResponse> searchTasks(String owner, String query, String cursor, int size) {
+        if (log.isDebugEnabled()) {
+            log.debug("Searching page of {} tasks", size);
+        }
+
+        return Mono.fromCallable(() -> Optional.ofNullable(cursor).map(TaskSearchCursor::decode))
+                .flatMap(after -> taskRepository.search(owner, query,
+                        after.map(TaskSearchCursor::getRank).orElse(null),
+                        after.map(TaskSearchCursor::getId).orElse(null),
+                        size + 1))
+                .map(result -> TaskServiceImplementation.buildSearchPage(result, size));
+    }
+
+    @Override
+    public Mono<TaskResponse> getTask(String owner, Long id) {
+        log.debug("Fetching task {}", id);
+
+        return findTaskOrArchived(owner, id)
+                .map(TaskServiceImplementation::convertToResponse);
+    }
+
+    @Override
+    public Flux<TaskResponse> exportTasks(String owner) {
+        log.info("Exporting all tasks of {}", owner);
+
+        return taskRepository.findAllOrderById(owner)
+                .map(TaskServiceImplementation::convertToResponse);
+    }
+
+    @Override
+    public Mono<TaskDeleteResponse> deleteAllTasks(String owner) {
+        log.warn("Deleting all tasks of {} from database", owner);
+
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            return taskRepository.deleteAll(owner)
+                    .map(deleted -> deleted(owner, deleted, start));
+        });
+    }
+
+    @Override
+    public Mono<TaskDeleteResponse> deleteAllTasksInChunks(String owner, int chunkSize) {
+        log.warn("Deleting all tasks of {} from database in chunks of {}", owner, chunkSize);
+
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            return untilShortChunk(() -> taskRepository.deleteChunk(owner, chunkSize), chunkSize)
+                    .concatWith(untilShortChunk(() -> taskRepository.deleteArchivedChunk(owner, chunkSize), chunkSize))
+                    .reduce(0L, Long::sum)
+                    .map(deleted -> deleted(owner, deleted, start));
+        });
+    }
+
+    private TaskDeleteResponse deleted(String owner, long deleted, long start) {
+        eventPublisher.publishEvent(TaskChangedEvent.deletedAll(owner));
+        return TaskServiceImplementation.buildDeleteResponse(deleted, start);
+    }
+
+    /**
+     * Completes the task with one conditional UPDATE ... RETURNING; see
+     * TaskServiceImplementation.completeTask.
+     */
+    @Override
+    public Mono<TaskResponse> completeTask(String owner, Long id) {
+        log.debug("Marking task as completed: {}", id);
+
+        return taskRepository.completeIfActive(owner, id)
+                .map(TaskServiceImplementation::convertToResponse)
+                .doOnNext(response -> {
+                    log.debug("Task {} marked as completed", id);
+                    eventPublisher.publishEvent(TaskChangedEvent.completed(response));
+                })
+                .switchIfEmpty(Mono.defer(() -> findTaskOrArchived(owner, id)
+                        .map(TaskServiceImplementation::convertToResponse)
+                        .doOnNext(response -> log.debug("Task {} was already completed", id))));
+    }
+
+    /**
+     * Ids (at most 1000) are completed with one statement and returned; a
+     * creation-time cutoff may match any number of tasks, so those are
+     * completed in chunks of COMPLETE_CHUNK_SIZE, one statement each, and only counted.
+     */
+    @Override
+    public Mono<TaskBulkCompleteResponse> completeTasks(String owner, TaskBulkCompleteRequest request) {
+        return request.getIds() != null
+                ? completeTasksByIds(owner, request.getIds())
+                : completeTasksCreatedBefore(owner, request.getCreatedBefore());
+    }
+
+    private Mono<TaskBulkCompleteResponse> completeTasksByIds(String owner, List<Long> requestedIds) {
+        Set<Long> ids = new LinkedHashSet<>(requestedIds);
+        if (log.isDebugEnabled()) {
+            log.debug("Marking {} tasks as completed by id", ids.size());
+        }
+
+        return taskRepository.completeAllActiveByIds(owner, ids)
+                .collectList()
+                .flatMap(completedTasks -> {
+                    // Ids not completed just now are either already completed or missing.
+                    Set<Long> remaining = new LinkedHashSet<>(ids);
+                    completedTasks.forEach(task -> remaining.remove(task.getId()));
+                    return findMissingIds(owner, remaining)
+                            .map(notFound -> {
+                                if (log.isDebugEnabled()) {
+                                    log.debug("{} tasks marked as completed, {} not found",
+                                            completedTasks.size(), notFound.size());
+                                }
+                                List<TaskResponse> completed = publishCompleted(owner, completedTasks);
+                                return TaskBulkCompleteResponse.builder()
+                                        .completedCount(completed.size())
+                                        .completed(completed)
+                                        .notFound(notFound)
+                                        .build();
+                            });
+                });
+    }
+
+    private Mono<List<Long>> findMissingIds(String owner, Set<Long> ids) {
+        if (ids.isEmpty()) {
+            return Mono.just(List.of());
+        }
+        return taskRepository.findExistingIds(owner, ids)
+                .collect(Collectors.toCollection(HashSet::new))
+                .flatMap(existingIds -> existingIds.size() < ids.size()
+                        ? taskRepository.findArchivedIds(owner, ids)
+                                .collect(() -> existingIds, Set::add)
+                        : Mono.just(existingIds))
+                .map(existingIds -> ids.stream()
+                        .filter(id -> !existingIds.contains(id))
+                        .collect(Collectors.toList()));
+    }
+
+    private Mono<TaskBulkCompleteResponse> completeTasksCreatedBefore(String owner, LocalDateTime cutoff) {
+        log.debug("Marking tasks created before {} as completed", cutoff);
+
+        return untilShortChunk(() -> taskRepository.completeActiveChunkCreatedBefore(
+                                owner, cutoff, TaskServiceImplementation.COMPLETE_CHUNK_SIZE)
+                        .collectList()
+                        .map(tasks -> (long) publishCompleted(owner, tasks).size()),
+                TaskServiceImplementation.COMPLETE_CHUNK_SIZE)
+                .reduce(0L, Long::sum)
+                .map(completed -> {
+                    log.debug("{} tasks marked as completed", completed);
+                    return TaskBulkCompleteResponse.builder()
+                            .completedCount(completed)
+                            .notFound(List.of())
+                            .build();
+                });
+    }
+
+    /**
+     * Publishes one event for tasks completed by a statement that has committed.
+     */
+    private List<TaskResponse> publishCompleted(String owner, List<Task> completedTasks) {
+        List<TaskResponse> completed = completedTasks.stream()
+                .map(TaskServiceImplementation::convertToResponse)
+                .collect(Collectors.toList());
+        if (!completed.isEmpty()) {
+            eventPublisher.publishEvent(TaskChangedEvent.completed(owner, completed));
+        }
+        return completed;
+    }
+
+    /**
+     * Completed tasks may have been moved to the archive by TaskArchiver.
+     * Another owner's task is reported as missing.
+     */
+    private Mono<Task> findTaskOrArchived(String owner, Long id) {
+        return taskRepository.findById(owner, id)
+                .switchIfEmpty(Mono.defer(() -> taskRepository.findArchivedById(owner, id)))
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("Task", id)));
+    }
+
+    /**
+     * Runs the chunk statement again as long as it affected a full chunk, emitting each count.
+     */
+    private static Flux<Long> untilShortChunk(Supplier<Mono<Long>> chunk, int chunkSize) {
+        return Mono.defer(chunk).expand(count -> count == chunkSize ? Mono.defer(chunk) : Mono.empty());
+    }
+}
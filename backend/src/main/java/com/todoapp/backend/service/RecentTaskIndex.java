@@ -0,0 +1,219 @@
+package com.todoapp.backend.service;
+
+import com.todoapp.backend.config.ReplicaRoutingDataSource;
+import com.todoapp.backend.dto.TaskResponse;
+import com.todoapp.backend.entity.Task;
+import com.todoapp.backend.event.TaskChangedEvent;
+import com.todoapp.backend.repository.TaskRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-process index of the newest active tasks of each owner, ordered by
+ * (createdAt, id). An owner's tasks are loaded from the repository on its first
+ * read and updated write-through from committed TaskChangedEvents, so later
+ * recent-task reads need no database round trip. At most todo.recent-index.max-owners
+ * owners are indexed; reads for further owners fall back to the repository.
+ * Disabled unless todo.recent-index.enabled is true.
+ */
+@Component
+@Slf4j
+public class RecentTaskIndex {
+
+    static final Sort NEWEST_FIRST = Sort.by(Sort.Direction.DESC, "createdAt", "id");
+
+    private static final Comparator<TaskResponse> BY_NEWEST = Comparator
+            .comparing(TaskResponse::getCreatedAt)
+            .thenComparing(TaskResponse::getId)
+            .reversed();
+
+    private final TaskRepository taskRepository;
+    private final boolean enabled;
+    private final int capacity;
+    private final int maxOwners;
+
+    private final ConcurrentMap<String, OwnerIndex> owners = new ConcurrentHashMap<>();
+
+    public RecentTaskIndex(TaskRepository taskRepository,
+                           @Value("${todo.recent-index.enabled:false}") boolean enabled,
+                           @Value("${todo.recent-index.capacity:50}") int capacity,
+                           @Value("${todo.recent-index.max-owners:1000}") int maxOwners) {
+        this.taskRepository = taskRepository;
+        this.enabled = enabled;
+        this.capacity = capacity;
+        this.maxOwners = maxOwners;
+    }
+
+    /**
+     * Returns the owner's newest active tasks, or empty when the index cannot
+     * answer (disabled, full, load failed, or drained below the requested size).
+     */
+    public Optional<List<TaskResponse>> getRecent(String owner, int limit) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        OwnerIndex index = owners.get(owner);
+        if (index == null) {
+            if (owners.size() >= maxOwners) {
+                return Optional.empty();
+            }
+            index = owners.computeIfAbsent(owner, OwnerIndex::new);
+        }
+        return index.getRecent(limit);
+    }
+
+    /**
+     * Applies the event to the owner's tasks; owners not indexed yet are loaded
+     * after the change was committed, so there is nothing to update.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        OwnerIndex index = owners.get(event.getOwner());
+        if (index != null) {
+            index.apply(event);
+        }
+    }
+
+    /**
+     * An owner's newest active tasks as seen by readers. Never modified once
+     * published: every change builds new Contents and swaps it in, so a reader
+     * gets either the old or the new tasks in full, never a reload in progress.
+     */
+    private record Contents(NavigableSet<TaskResponse> entries, boolean holdsAllActiveTasks) {
+
+        private static Contents empty() {
+            return new Contents(new TreeSet<>(BY_NEWEST), true);
+        }
+
+        private Contents plus(List<TaskResponse> tasks, int capacity) {
+            NavigableSet<TaskResponse> next = new TreeSet<>(entries);
+            boolean holdsAll = holdsAllActiveTasks;
+            for (TaskResponse task : tasks) {
+                next.add(task);
+                if (next.size() > capacity) {
+                    next.pollLast();
+                    holdsAll = false;
+                }
+            }
+            return new Contents(next, holdsAll);
+        }
+
+        private Contents minus(List<TaskResponse> tasks) {
+            NavigableSet<TaskResponse> next = new TreeSet<>(entries);
+            tasks.forEach(next::remove);
+            return new Contents(next, holdsAllActiveTasks);
+        }
+    }
+
+    private final class OwnerIndex {
+
+        private final String owner;
+
+        // Held while reload() queries the database.
+        private final ReentrantLock lock = new ReentrantLock();
+
+        // Null until loaded; replaced under lock, read without locking on the hot path.
+        private volatile Contents contents;
+
+        private OwnerIndex(String owner) {
+            this.owner = owner;
+        }
+
+        private Optional<List<TaskResponse>> getRecent(int limit) {
+            Contents current = contents;
+            if (current == null) {
+                load();
+                current = contents;
+                if (current == null) {
+                    return Optional.empty();
+                }
+            }
+            List<TaskResponse> recent = current.entries().stream().limit(limit).toList();
+            if (recent.size() < limit && !current.holdsAllActiveTasks()) {
+                return Optional.empty();
+            }
+            return Optional.of(recent);
+        }
+
+        /**
+         * Loads the owner's tasks unless a concurrent first read already did.
+         */
+        private void load() {
+            lock.lock();
+            try {
+                if (contents == null) {
+                    reload();
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * Replaces the index contents with the owner's newest active tasks from the repository.
+         */
+        private void reload() {
+            lock.lock();
+            try {
+                // From the primary: a replica's lagging answer would be served until the next reload.
+                List<Task> tasks = ReplicaRoutingDataSource.onPrimary(() -> taskRepository
+                        .findByOwnerAndCompletedFalse(owner, PageRequest.of(0, capacity, NEWEST_FIRST)));
+                NavigableSet<TaskResponse> entries = new TreeSet<>(BY_NEWEST);
+                tasks.forEach(task -> entries.add(TaskServiceImplementation.convertToResponse(task)));
+                contents = new Contents(entries, tasks.size() < capacity);
+                log.debug("Recent task index of {} loaded with {} tasks", owner, tasks.size());
+            } catch (RuntimeException ex) {
+                contents = null;
+                log.warn("Recent task index reload of {} failed, reads fall back to the repository", owner, ex);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void apply(TaskChangedEvent event) {
+            lock.lock();
+            try {
+                Contents current = contents;
+                switch (event.getType()) {
+                    case CREATED -> {
+                        if (current != null) {
+                            contents = current.plus(event.getTasks(), capacity);
+                        }
+                    }
+                    case COMPLETED -> {
+                        if (current != null) {
+                            contents = current.minus(event.getTasks());
+                        }
+                    }
+                    case DELETED_ALL -> contents = Contents.empty();
+                    case IMPORTED -> reload();
+                }
+                Contents updated = contents;
+                if (updated != null && !updated.holdsAllActiveTasks() && updated.entries().size() < capacity / 2) {
+                    reload();
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.todoapp.backend.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.todoapp.backend.config.ReplicaRoutingDataSource;
+import com.todoapp.backend.dto.TaskResponse;
+import com.todoapp.backend.event.TaskChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.DigestUtils;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Serialized response body of GET /api/tasks with a strong, content-derived ETag,
+ * kept per owner and separately for JSON and CBOR. When enabled, an owner's body
+ * is rebuilt only after a committed TaskChangedEvent of that owner bumps its
+ * version, so unchanged reads and revalidations skip the database and Jackson.
+ * At most todo.recent-snapshot.max-owners owners are kept; further owners are
+ * built on every call. Enabled by todo.recent-snapshot.enabled; when disabled,
+ * every call rebuilds it.
+ */
+@Component
+@Slf4j
+public class RecentTaskSnapshot {
+
+    private final TaskService taskService;
+    private final ObjectMapper jsonMapper;
+    private final ObjectMapper cborMapper;
+    private final boolean enabled;
+    private final int maxOwners;
+
+    private final ConcurrentMap<String, OwnerSnapshots> owners = new ConcurrentHashMap<>();
+
+    public RecentTaskSnapshot(TaskService taskService,
+                              ObjectMapper objectMapper,
+                              MappingJackson2CborHttpMessageConverter cborConverter,
+                              @Value("${todo.recent-snapshot.enabled:false}") boolean enabled,
+                              @Value("${todo.recent-snapshot.max-owners:1000}") int maxOwners) {
+        this.taskService = taskService;
+        this.jsonMapper = objectMapper;
+        this.cborMapper = cborConverter.getObjectMapper();
+        this.enabled = enabled;
+        this.maxOwners = maxOwners;
+    }
+
+    /**
+     * Returns the owner's JSON snapshot for the current version, rebuilding it
+     * if a change was committed since it was last built.
+     */
+    public Snapshot get(String owner) {
+        OwnerSnapshots snapshots = snapshots(owner);
+        return snapshots != null ? snapshots.json.get() : build(owner, jsonMapper, 0);
+    }
+
+    /**
+     * Returns the owner's CBOR snapshot for the current version, like get().
+     */
+    public Snapshot getCbor(String owner) {
+        OwnerSnapshots snapshots = snapshots(owner);
+        return snapshots != null ? snapshots.cbor.get() : build(owner, cborMapper, 0);
+    }
+
+    /**
+     * Runs after RecentTaskIndex has applied the same event, so a rebuild
+     * triggered by the new version never reads a stale index.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void onTaskChanged(TaskChangedEvent event) {
+        OwnerSnapshots snapshots = owners.get(event.getOwner());
+        if (snapshots != null) {
+            snapshots.version.incrementAndGet();
+        }
+    }
+
+    /**
+     * Created before the owner's first build reads the version, so no change
+     * committed after that read can be missed.
+     */
+    private OwnerSnapshots snapshots(String owner) {
+        if (!enabled) {
+            return null;
+        }
+        OwnerSnapshots snapshots = owners.get(owner);
+        if (snapshots == null && owners.size() < maxOwners) {
+            snapshots = owners.computeIfAbsent(owner, OwnerSnapshots::new);
+        }
+        return snapshots;
+    }
+
+    private Snapshot build(String owner, ObjectMapper mapper, long snapshotVersion) {
+        // From the primary: a replica's lagging answer would be served until the next write.
+        Snapshot snapshot = Snapshot.of(snapshotVersion, mapper,
+                ReplicaRoutingDataSource.onPrimary(() -> taskService.getRecentTasks(owner)));
+        log.debug("Recent task snapshot of {} rebuilt at version {}", owner, snapshotVersion);
+        return snapshot;
+    }
+
+    private final class OwnerSnapshots {
+
+        private final AtomicLong version = new AtomicLong();
+        private final Representation json;
+        private final Representation cbor;
+
+        private OwnerSnapshots(String owner) {
+            this.json = new Representation(owner, jsonMapper);
+            this.cbor = new Representation(owner, cborMapper);
+        }
+
+        private final class Representation {
+
+            private final String owner;
+            private final ObjectMapper mapper;
+            private volatile Snapshot current;
+
+            private Representation(String owner, ObjectMapper mapper) {
+                this.owner = owner;
+                this.mapper = mapper;
+            }
+
+            private Snapshot get() {
+                long latest = version.get();
+                Snapshot snapshot = current;
+                if (snapshot != null && snapshot.getVersion() == latest) {
+                    return snapshot;
+                }
+                // Tagged with the version read before loading: a change committed
+                // meanwhile leaves this snapshot stale and it is rebuilt on the next call.
+                snapshot = build(owner, mapper, latest);
+                current = snapshot;
+                return snapshot;
+            }
+        }
+    }
+
+    /**
+     * Serialized recent tasks; the body array must not be modified.
+     */
+    @lombok.Value
+    public static class Snapshot {
+        long version;
+        String etag;
+        byte[] body;
+
+        /**
+         * Serializes the tasks with the mapper and derives the ETag from the bytes.
+         */
+        public static Snapshot of(long version, ObjectMapper mapper, List<TaskResponse> tasks) {
+            try {
+                byte[] body = mapper.writeValueAsBytes(tasks);
+                return new Snapshot(version, "\"" + DigestUtils.md5DigestAsHex(body) + "\"", body);
+            } catch (JsonProcessingException ex) {
+                throw new IllegalStateException("Could not serialize recent tasks", ex);
+            }
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.todoapp.backend.service;
+
+import com.todoapp.backend.repository.TaskRepository;
+import com.todoapp.backend.repository.TaskShardRouter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Moves tasks completed more than todo.archive.min-age ago from task to
+ * task_archive, so the table and indexes every request uses only hold active and
+ * recently completed tasks. Runs on its own thread every todo.archive.interval,
+ * in transactions of at most todo.archive.batch-size rows separated by
+ * todo.archive.pause; rows locked by requests are skipped until the next run.
+ * With sharded storage every shard is archived in turn.
+ * Archived tasks stay reachable by id through TaskService.
+ * Enabled by todo.archive.enabled.
+ */
+@Component
+@ConditionalOnProperty(name = "todo.archive.enabled", havingValue = "true")
+@Slf4j
+public class TaskArchiver {
+
+    static final String ARCHIVED_COUNTER = "todo.task.archived";
+
+    private final TaskRepository taskRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskShardRouter shardRouter;
+    private final Duration minAge;
+    private final int batchSize;
+    private final Duration pause;
+    private final Counter archived;
+    private final ScheduledExecutorService scheduler;
+
+    public TaskArchiver(TaskRepository taskRepository,
+                        TransactionTemplate transactionTemplate,
+                        TaskShardRouter shardRouter,
+                        MeterRegistry meterRegistry,
+                        @Value("${todo.archive.min-age:30d}") Duration minAge,
+                        @Value("${todo.archive.interval:10m}") Duration interval,
+                        @Value("${todo.archive.batch-size:1000}") int batchSize,
+                        @Value("${todo.archive.pause:200ms}") Duration pause) {
+        this.taskRepository = taskRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.shardRouter = shardRouter;
+        this.minAge = minAge;
+        this.batchSize = batchSize;
+        this.pause = pause;
+        this.archived = Counter.builder(ARCHIVED_COUNTER)
+                .description("Completed tasks moved to task_archive")
+                .register(meterRegistry);
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("task-archiver-");
+        threadFactory.setDaemon(true);
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(threadFactory);
+        long period = interval.toMillis();
+        scheduler.scheduleWithFixedDelay(this::run, period, period, TimeUnit.MILLISECONDS);
+        log.info("Task archiving enabled: completed more than {} ago, every {}, batches of {}",
+                minAge, interval, batchSize);
+    }
+
+    /**
+     * Archives everything due, one batch per transaction, pausing between batches.
+     * @return Number of tasks archived
+     */
+    public long archive() throws InterruptedException {
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        LocalDateTime cutoff = now.minus(minAge);
+        long total = 0;
+        for (int shard = 0; shard < shardRouter.getShardCount(); shard++) {
+            total += shardRouter.onShard(shard, () -> archive(cutoff, now));
+        }
+        return total;
+    }
+
+    private long archive(LocalDateTime cutoff, LocalDateTime now) throws InterruptedException {
+        long total = 0;
+        int moved;
+        do {
+            moved = transactionTemplate.execute(status ->
+                    taskRepository.archiveCompletedBefore(cutoff, now, batchSize));
+            archived.increment(moved);
+            total += moved;
+            if (moved == batchSize) {
+                Thread.sleep(pause.toMillis());
+            }
+        } while (moved == batchSize);
+        return total;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    private void run() {
+        long start = System.nanoTime();
+        try {
+            long total = archive();
+            if (total > 0) {
+                log.info("Archived {} completed tasks in {} ms", total, (System.nanoTime() - start) / 1_000_000);
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException ex) {
+            // Thrown out of a scheduled task, it would cancel every later run.
+            log.warn("Task archiving failed, retrying next run", ex);
+        }
+    }
+}
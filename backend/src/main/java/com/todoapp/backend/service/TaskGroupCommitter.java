@@ -0,0 +1,247 @@
+package com.todoapp.backend.service;
+
+import com.todoapp.backend.entity.Task;
+import com.todoapp.backend.exception.ServiceUnavailableException;
+import com.todoapp.backend.repository.TaskRepository;
+import com.todoapp.backend.repository.TaskShardRouter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+/**
+ * Group commit for createTask. Concurrent creates are queued and written by a
+ * single thread as one multi-row INSERT in one transaction, once
+ * todo.group-commit.batch-size tasks are waiting or the oldest has waited
+ * todo.group-commit.max-delay. Callers are released only after the transaction
+ * holding their task has committed, so a response still means the task is
+ * durable, but one commit (and one WAL flush) covers the whole batch.
+ * With sharded storage a batch is written as one transaction per shard.
+ * A failed batch fails every caller in it and the writer moves on to the next.
+ * A full queue, and a caller still waiting after todo.group-commit.commit-timeout
+ * for a task the writer has not yet claimed, are answered with 503. Once claimed,
+ * a task may be committing, so its caller waits for the batch instead.
+ * Enabled by todo.group-commit.enabled.
+ */
+@Component
+@ConditionalOnProperty(name = "todo.group-commit.enabled", havingValue = "true")
+@Slf4j
+public class TaskGroupCommitter {
+
+    static final String BATCH_SIZE_SUMMARY = "todo.task.group-commit.batch-size";
+
+    private static final long RETRY_AFTER_SECONDS = 1;
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 5;
+
+    private final TaskRepository taskRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskShardRouter shardRouter;
+    private final int batchSize;
+    private final long maxDelayNanos;
+    private final long commitTimeoutNanos;
+    private final BlockingQueue<Pending> queue;
+    private final DistributionSummary batchSizes;
+    private final ExecutorService writer;
+
+    private volatile boolean running = true;
+
+    public TaskGroupCommitter(TaskRepository taskRepository,
+                              TransactionTemplate transactionTemplate,
+                              TaskShardRouter shardRouter,
+                              MeterRegistry meterRegistry,
+                              @Value("${todo.group-commit.batch-size:50}") int batchSize,
+                              @Value("${todo.group-commit.max-delay:5ms}") Duration maxDelay,
+                              @Value("${todo.group-commit.queue-capacity:10000}") int queueCapacity,
+                              @Value("${todo.group-commit.commit-timeout:30s}") Duration commitTimeout) {
+        this.taskRepository = taskRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.shardRouter = shardRouter;
+        this.batchSize = batchSize;
+        this.maxDelayNanos = maxDelay.toNanos();
+        this.commitTimeoutNanos = commitTimeout.toNanos();
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSizes = DistributionSummary.builder(BATCH_SIZE_SUMMARY)
+                .description("Tasks written per group commit")
+                .register(meterRegistry);
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("task-group-commit-");
+        threadFactory.setDaemon(true);
+        this.writer = Executors.newSingleThreadExecutor(threadFactory);
+        writer.execute(this::writeLoop);
+        log.info("Group commit enabled: batches of up to {} tasks, {} max delay", batchSize, maxDelay);
+    }
+
+    /**
+     * Queues the task and waits until the batch holding it has committed.
+     * A task whose caller times out before the writer claims it is not written;
+     * after the claim the caller waits for the batch however long it takes.
+     * @param task New task, without id
+     * @return The saved task with id and timestamps
+     */
+    public Task save(Task task) {
+        Pending pending = new Pending(task, System.nanoTime());
+        if (!running || !queue.offer(pending)) {
+            throw new ServiceUnavailableException("Server is busy, please retry", RETRY_AFTER_SECONDS);
+        }
+        try {
+            try {
+                return pending.result.get(commitTimeoutNanos, TimeUnit.NANOSECONDS);
+            } catch (TimeoutException ex) {
+                if (pending.abandon()) {
+                    throw new ServiceUnavailableException("Timed out waiting for commit", RETRY_AFTER_SECONDS);
+                }
+                // Claimed by the writer and possibly committed: a 503 now would make the retry a duplicate.
+                return pending.result.get();
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException("Interrupted while waiting for commit", RETRY_AFTER_SECONDS);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(ex.getCause());
+        }
+    }
+
+    /**
+     * Stops accepting tasks and writes out what is queued.
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        writer.shutdown();
+        if (!writer.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+            writer.shutdownNow();
+        }
+    }
+
+    private void writeLoop() {
+        try {
+            while (running || !queue.isEmpty()) {
+                Pending first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first != null) {
+                    List<Pending> batch = collectBatch(first);
+                    try {
+                        write(batch);
+                    } catch (Throwable ex) {
+                        // Fail this batch only; the writer must outlive it or every later caller waits in vain.
+                        log.error("Group commit of {} tasks failed", batch.size(), ex);
+                        batch.forEach(pending -> pending.result.completeExceptionally(ex));
+                    }
+                }
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        List<Pending> abandoned = new ArrayList<>();
+        queue.drainTo(abandoned);
+        abandoned.forEach(pending -> pending.result.completeExceptionally(
+                new ServiceUnavailableException("Server is shutting down", RETRY_AFTER_SECONDS)));
+    }
+
+    /**
+     * Waits for more tasks until the batch is full or the first task's delay is
+     * used up. Time the first task spent queued behind the previous commit counts.
+     */
+    private List<Pending> collectBatch(Pending first) throws InterruptedException {
+        List<Pending> batch = new ArrayList<>(batchSize);
+        batch.add(first);
+        long deadline = first.enqueuedAt + maxDelayNanos;
+        while (batch.size() < batchSize) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                queue.drainTo(batch, batchSize - batch.size());
+                break;
+            }
+            Pending next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+        }
+        return batch;
+    }
+
+    private void write(List<Pending> batch) {
+        // Callers that timed out before the claim have been answered already.
+        batch.removeIf(pending -> !pending.claim());
+        if (batch.isEmpty()) {
+            return;
+        }
+        batchSizes.record(batch.size());
+        batch.stream()
+                .collect(Collectors.groupingBy(pending -> shardRouter.shardOf(pending.task.getOwner())))
+                .forEach(this::write);
+    }
+
+    private void write(int shard, List<Pending> batch) {
+        List<Task> tasks = batch.stream().map(pending -> pending.task).toList();
+        try {
+            List<Task> saved = shardRouter.onShard(shard, () -> transactionTemplate.execute(status -> {
+                List<Task> result = taskRepository.saveAll(tasks);
+                taskRepository.flush();
+                return result;
+            }));
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).result.complete(saved.get(i));
+            }
+        } catch (RuntimeException | Error ex) {
+            log.warn("Group commit of {} tasks failed", batch.size(), ex);
+            batch.forEach(pending -> pending.result.completeExceptionally(ex));
+        }
+    }
+
+    private enum State {
+        QUEUED,
+        CLAIMED,
+        ABANDONED
+    }
+
+    private static final class Pending {
+
+        private final Task task;
+        private final long enqueuedAt;
+        private final AtomicReference<State> state = new AtomicReference<>(State.QUEUED);
+        private final CompletableFuture<Task> result = new CompletableFuture<>();
+
+        private Pending(Task task, long enqueuedAt) {
+            this.task = task;
+            this.enqueuedAt = enqueuedAt;
+        }
+
+        /**
+         * Called by the writer before the transaction.
+         * @return false if the caller has given up on the task
+         */
+        private boolean claim() {
+            return state.compareAndSet(State.QUEUED, State.CLAIMED);
+        }
+
+        /**
+         * Called by a caller that timed out.
+         * @return false if the writer has claimed the task
+         */
+        private boolean abandon() {
+            return state.compareAndSet(State.QUEUED, State.ABANDONED);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.todoapp.backend.service;
+
+import com.todoapp.backend.dto.TaskImportResponse;
+
+import java.io.InputStream;
+
+/**
+ * Service interface for bulk loading tasks from uploaded files.
+ */
+public interface TaskImportService {
+
+    /**
+     * Supported upload formats.
+     */
+    enum Format {
+        /** One TaskCreateRequest JSON object per line. */
+        NDJSON,
+        /** Header row naming title and description, then one task per row. */
+        CSV
+    }
+
+    /**
+     * Imports tasks into the owner's list, applying the TaskCreateRequest
+     * constraints to every line. Valid lines are inserted in one transaction;
+     * invalid lines, and lines naming another owner, are skipped and reported.
+     * @param owner Owner of the list
+     * @param input Uploaded content, read as UTF-8 and consumed once
+     * @param format Content format
+     * @return Imported and rejected counts with the first rejected lines
+     */
+    TaskImportResponse importTasks(String owner, InputStream input, Format format);
+}
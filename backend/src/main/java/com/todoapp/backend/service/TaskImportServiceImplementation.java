@@ -0,0 +1,193 @@
+package com.todoapp.backend.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.RuntimeJsonMappingException;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import com.todoapp.backend.dto.TaskCreateRequest;
+import com.todoapp.backend.dto.TaskImportResponse;
+import com.todoapp.backend.event.TaskChangedEvent;
+import com.todoapp.backend.exception.BadRequestException;
+import com.todoapp.backend.repository.TaskBulkLoader;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Implementation of TaskImportService.
+ * Parses the upload lazily and streams valid lines into TaskBulkLoader, so
+ * memory use does not depend on the size of the upload.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class TaskImportServiceImplementation implements TaskImportService {
+
+    static final int MAX_REPORTED_ERRORS = 100;
+
+    private static final CsvMapper CSV_MAPPER = (CsvMapper) new CsvMapper()
+            .enable(CsvParser.Feature.WRAP_AS_ARRAY);
+
+    private final TaskBulkLoader taskBulkLoader;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public TaskImportResponse importTasks(String owner, InputStream input, Format format) {
+        log.info("Importing tasks of {} from {} upload", owner, format);
+        long start = System.nanoTime();
+        List<TaskImportResponse.LineError> errors = new ArrayList<>();
+        AtomicLong rejected = new AtomicLong();
+
+        long imported;
+        try (Reader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+             Stream<ParsedLine> lines = format == Format.CSV ? csvLines(owner, reader) : ndjsonLines(owner, reader)) {
+            Stream<TaskCreateRequest> validTasks = lines
+                    .map(line -> validate(owner, line))
+                    .filter(line -> {
+                        if (line.getError() == null) {
+                            return true;
+                        }
+                        if (rejected.incrementAndGet() <= MAX_REPORTED_ERRORS) {
+                            errors.add(new TaskImportResponse.LineError(line.getLine(), line.getError()));
+                        }
+                        return false;
+                    })
+                    .map(ParsedLine::getRequest);
+            imported = taskBulkLoader.load(owner, validTasks.iterator());
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        } catch (RuntimeJsonMappingException ex) {
+            throw new BadRequestException("Malformed CSV: " + ex.getMessage());
+        }
+
+        if (imported > 0) {
+            eventPublisher.publishEvent(TaskChangedEvent.imported(owner));
+        }
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        log.info("Imported {} tasks, rejected {} lines in {} ms", imported, rejected.get(), elapsedMillis);
+
+        return TaskImportResponse.builder()
+                .imported(imported)
+                .rejected(rejected.get())
+                .errors(errors)
+                .elapsedMillis(elapsedMillis)
+                .build();
+    }
+
+    /**
+     * One JSON object per line; blank lines are skipped but still counted.
+     * Lines without an owner get the owner of the import.
+     */
+    private Stream<ParsedLine> ndjsonLines(String owner, Reader reader) {
+        ObjectReader jsonReader = objectMapper.readerFor(TaskCreateRequest.class);
+        AtomicLong lineNumber = new AtomicLong();
+        return new BufferedReader(reader).lines()
+                .map(line -> new NumberedLine(lineNumber.incrementAndGet(), line))
+                .filter(line -> !line.getText().isBlank())
+                .map(line -> {
+                    try {
+                        TaskCreateRequest request = jsonReader
+                                .withValueToUpdate(new TaskCreateRequest(null, null, owner))
+                                .readValue(line.getText());
+                        return ParsedLine.of(line.getNumber(), request);
+                    } catch (JsonProcessingException ex) {
+                        return ParsedLine.error(line.getNumber(), "Malformed JSON: " + ex.getOriginalMessage());
+                    }
+                });
+    }
+
+    /**
+     * Header row naming the title and description columns, and optionally an
+     * owner column, then one task per record. Line numbers count records, header included.
+     */
+    private Stream<ParsedLine> csvLines(String owner, Reader reader) throws IOException {
+        MappingIterator<String[]> rows = CSV_MAPPER.readerFor(String[].class).readValues(reader);
+        if (!rows.hasNext()) {
+            return Stream.empty();
+        }
+        List<String> header = Arrays.stream(rows.next()).map(column -> column.trim().toLowerCase()).toList();
+        int titleColumn = header.indexOf("title");
+        int descriptionColumn = header.indexOf("description");
+        int ownerColumn = header.indexOf("owner");
+        if (titleColumn < 0 || descriptionColumn < 0) {
+            throw new BadRequestException("CSV header must name the title and description columns");
+        }
+
+        AtomicLong lineNumber = new AtomicLong(1);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(rows, Spliterator.ORDERED), false)
+                .map(row -> {
+                    long line = lineNumber.incrementAndGet();
+                    if (row.length != header.size()) {
+                        return ParsedLine.error(line, "Expected " + header.size() + " columns but found " + row.length);
+                    }
+                    return ParsedLine.of(line, new TaskCreateRequest(row[titleColumn], row[descriptionColumn],
+                            ownerColumn >= 0 ? row[ownerColumn] : owner));
+                });
+    }
+
+    private ParsedLine validate(String owner, ParsedLine line) {
+        if (line.getError() != null) {
+            return line;
+        }
+        var violations = validator.validate(line.getRequest());
+        if (violations.isEmpty()) {
+            return owner.equals(line.getRequest().getOwner())
+                    ? line
+                    : ParsedLine.error(line.getLine(), "owner: must be " + owner + ", the owner of the import");
+        }
+        String message = violations.stream()
+                .sorted(Comparator.comparing(violation -> violation.getPropertyPath().toString()))
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .collect(Collectors.joining("; "));
+        return ParsedLine.error(line.getLine(), message);
+    }
+
+    @Value
+    private static class NumberedLine {
+        long number;
+        String text;
+    }
+
+    @Value
+    private static class ParsedLine {
+        long line;
+        TaskCreateRequest request;
+        String error;
+
+        static ParsedLine of(long line, TaskCreateRequest request) {
+            return new ParsedLine(line, request, null);
+        }
+
+        static ParsedLine error(long line, String error) {
+            return new ParsedLine(line, null, error);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.todoapp.backend.service;
+
+import com.todoapp.backend.exception.BadRequestException;
+import lombok.Value;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Position in search results: the (rank, id) of the last match returned.
+ * Float.toString round-trips exactly, so the next page resumes at the same rank.
+ * Clients only see it as an opaque URL-safe token.
+ */
+@Value
+class TaskSearchCursor {
+
+    private static final String SEPARATOR = "|";
+
+    float rank;
+    Long id;
+
+    String encode() {
+        String raw = rank + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static TaskSearchCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            return new TaskSearchCursor(
+                    Float.parseFloat(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException ex) {
+            throw new BadRequestException("Invalid cursor: " + token);
+        }
+    }
+}
@@ -1,38 +1,112 @@
 package com.todoapp.backend.service;
 
+import com.todoapp.backend.dto.TaskBulkCompleteRequest;
+import com.todoapp.backend.dto.TaskBulkCompleteResponse;
 import com.todoapp.backend.dto.TaskCreateRequest;
+import com.todoapp.backend.dto.TaskDeleteResponse;
+import com.todoapp.backend.dto.TaskPageResponse;
 import com.todoapp.backend.dto.TaskResponse;
+import com.todoapp.backend.dto.TaskSearchResponse;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Service interface for Task business logic.
  * Follows Interface Segregation Principle (SOLID).
+ * Every task belongs to one owner's list, and every operation works on one owner's list.
  */
 public interface TaskService {
     
     /**
-     * Creates a new task.
+     * Creates a new task in the list of the request's owner.
      * @param request Task creation request
      * @return Created task response
      */
     TaskResponse createTask(TaskCreateRequest request);
+
+    /**
+     * Creates several tasks in one transaction using batched inserts.
+     * @param requests Task creation requests, all for the same owner
+     * @return Created task responses, in request order
+     */
+    List<TaskResponse> createTasks(List<TaskCreateRequest> requests);
     
     /**
-     * Retrieves the 5 most recent non-completed tasks.
+     * Retrieves the owner's 5 most recent non-completed tasks.
+     * @param owner Owner of the list
      * @return List of up to 5 recent active tasks
      */
-    List<TaskResponse> getRecentTasks();
+    List<TaskResponse> getRecentTasks(String owner);
+
+    /**
+     * Retrieves the owner's tasks newest first, one keyset page at a time.
+     * @param owner Owner of the list
+     * @param completed Completion state to filter on, or null for all tasks
+     * @param cursor Opaque cursor from the previous page, or null for the first page
+     * @param size Maximum number of tasks on the page
+     * @return Page of tasks and the cursor of the next page
+     */
+    TaskPageResponse getTasks(String owner, Boolean completed, String cursor, int size);
+
+    /**
+     * Searches the owner's task titles and descriptions, best matches first, one keyset page at a time.
+     * Archived tasks are not searched.
+     * @param owner Owner of the list
+     * @param query Search text
+     * @param cursor Opaque cursor from the previous page, or null for the first page
+     * @param size Maximum number of tasks on the page
+     * @return Page of matching tasks, the cursor of the next page and whether older matches were left unranked
+     */
+    TaskSearchResponse searchTasks(String owner, String query, String cursor, int size);
+
+    /**
+     * Streams every task of the owner, in id order, to the consumer without holding them in memory.
+     * @param owner Owner of the list
+     * @param consumer Receives each task as it is read
+     * @return Number of exported tasks
+     */
+    long exportTasks(String owner, Consumer<TaskResponse> consumer);
+
+    /**
+     * Deletes all of the owner's tasks in one set-based statement - for testing purposes.
+     * @param owner Owner of the list
+     * @return Number of deleted tasks and elapsed time
+     */
+    TaskDeleteResponse deleteAllTasks(String owner);
 
     /**
-     * Deletes all tasks - for testing purposes.
+     * Deletes all of the owner's tasks in chunks, each in its own short transaction,
+     * so the table stays usable while a large reset runs.
+     * @param owner Owner of the list
+     * @param chunkSize Maximum number of tasks deleted per transaction
+     * @return Number of deleted tasks and elapsed time
      */
-    void deleteAllTasks();
+    TaskDeleteResponse deleteAllTasksInChunks(String owner, int chunkSize);
     
     /**
-     * Marks a task as completed.
+     * Gets one of the owner's tasks by id, including archived tasks.
+     * @param owner Owner of the list
+     * @param id Task ID
+     * @return Task response
+     */
+    TaskResponse getTask(String owner, Long id);
+
+    /**
+     * Marks one of the owner's tasks as completed. Archived tasks are returned unchanged.
+     * @param owner Owner of the list
      * @param id Task ID
      * @return Updated task response
      */
-    TaskResponse completeTask(Long id);
+    TaskResponse completeTask(String owner, Long id);
+
+    /**
+     * Marks several of the owner's tasks as completed: up to 1000 ids in one
+     * statement, or every task created before a cutoff in chunks of 1000.
+     * @param owner Owner of the list
+     * @param request Task IDs or a creation-time cutoff
+     * @return Number of completed tasks, the completed tasks when completing by
+     *         ids, and requested ids that do not exist
+     */
+    TaskBulkCompleteResponse completeTasks(String owner, TaskBulkCompleteRequest request);
 }
\ No newline at end of file
@@ -1,17 +1,40 @@
 package com.todoapp.backend.service;
 
+import com.todoapp.backend.dto.TaskBulkCompleteRequest;
+import com.todoapp.backend.dto.TaskBulkCompleteResponse;
 import com.todoapp.backend.dto.TaskCreateRequest;
+import com.todoapp.backend.dto.TaskDeleteResponse;
+import com.todoapp.backend.dto.TaskPageResponse;
 import com.todoapp.backend.dto.TaskResponse;
+import com.todoapp.backend.dto.TaskSearchResponse;
 import com.todoapp.backend.entity.Task;
+import com.todoapp.backend.event.TaskChangedEvent;
+import com.todoapp.backend.exception.BadRequestException;
 import com.todoapp.backend.exception.ResourceNotFoundException;
+import com.todoapp.backend.repository.RankedTask;
+import com.todoapp.backend.repository.SearchMatches;
 import com.todoapp.backend.repository.TaskRepository;
+import jakarta.persistence.EntityManager;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Implementation of TaskService interface.
@@ -23,61 +46,391 @@ import java.util.stream.Collectors;
 @Transactional
 public class TaskServiceImplementation implements TaskService {
 
+    private static final int RECENT_TASK_LIMIT = 5;
+
+    /**
+     * Tasks completed per transaction when completing by creation-time cutoff,
+     * the same bound as completing by ids.
+     */
+    static final int COMPLETE_CHUNK_SIZE = 1000;
+
+    /**
+     * Timer per service operation, tagged operation=create|recent|complete|deleteAll|...
+     */
+    static final String OPERATION_TIMER = "todo.task.operations";
+
     private final TaskRepository taskRepository;
+    private final RecentTaskIndex recentTaskIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+    private final ObjectProvider<TaskGroupCommitter> taskGroupCommitter;
 
+    /**
+     * With group commit enabled the task is written by TaskGroupCommitter along
+     * with concurrent creates; NOT_SUPPORTED keeps the caller from holding a
+     * pooled connection while it waits. Otherwise it gets a transaction of its own.
+     */
     @Override
+    @Timed(value = OPERATION_TIMER, extraTags = {"operation", "create"}, histogram = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public TaskResponse createTask(TaskCreateRequest request) {
-        log.info("Creating new task with title: {}", request.getTitle());
+        log.debug("Creating new task with title: {}", request.getTitle());
         
-        Task task = new Task();
-        task.setTitle(request.getTitle());
-        task.setDescription(request.getDescription());
-        task.setCompleted(false);
+        TaskGroupCommitter groupCommitter = taskGroupCommitter.getIfAvailable();
+        Task savedTask = groupCommitter != null
+                ? groupCommitter.save(toEntity(request))
+                : transactionTemplate.execute(status -> {
+                    Task task = taskRepository.save(toEntity(request));
+                    // Sequence ids defer the INSERT to flush; flush so the timestamps are populated.
+                    taskRepository.flush();
+                    return task;
+                });
+        log.debug("Task created successfully with id: {}", savedTask.getId());
         
-        Task savedTask = taskRepository.save(task);
-        log.info("Task created successfully with id: {}", savedTask.getId());
+        TaskResponse response = convertToResponse(savedTask);
+        eventPublisher.publishEvent(TaskChangedEvent.created(response));
+        return response;
+    }
+
+    @Override
+    @Timed(value = OPERATION_TIMER, extraTags = {"operation", "createBatch"}, histogram = true)
+    public List<TaskResponse> createTasks(List<TaskCreateRequest> requests) {
+        // Guarded because the int argument is boxed even when DEBUG is off.
+        if (log.isDebugEnabled()) {
+            log.debug("Creating batch of {} tasks", requests.size());
+        }
+        String owner = requests.isEmpty() ? null : requests.get(0).getOwner();
+        if (requests.stream().anyMatch(request -> !request.getOwner().equals(owner))) {
+            throw new BadRequestException("All tasks of a batch must have the same owner");
+        }
+
+        List<Task> tasks = requests.stream()
+                .map(TaskServiceImplementation::toEntity)
+                .collect(Collectors.toList());
+
+        // Ids come from the pooled sequence, so the flush sends the rows as JDBC batches.
+        List<Task> savedTasks = taskRepository.saveAll(tasks);
+        taskRepository.flush();
+        if (log.isDebugEnabled()) {
+            log.debug("Batch of {} tasks created", savedTasks.size());
+        }
+
+        List<TaskResponse> responses = savedTasks.stream()
+                .map(TaskServiceImplementation::convertToResponse)
+                .collect(Collectors.toList());
+        eventPublisher.publishEvent(TaskChangedEvent.created(owner, responses));
+        return responses;
+    }
+
+    /**
+     * Served from the RecentTaskIndex when it is enabled and warm. SUPPORTS keeps
+     * that path free of a transaction, so no pooled connection is borrowed; the
+     * repository fallback runs in the repository's own read-only transaction.
+     */
+    @Override
+    @Timed(value = OPERATION_TIMER, extraTags = {"operation", "recent"}, histogram = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public List<TaskResponse> getRecentTasks(String owner) {
+        log.debug("Fetching 5 most recent active tasks of {}", owner);
         
-        return convertToResponse(savedTask);
+        return recentTaskIndex.getRecent(owner, RECENT_TASK_LIMIT)
+                .orElseGet(() -> loadRecentTasks(owner));
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<TaskResponse> getRecentTasks() {
-        log.info("Fetching 5 most recent active tasks");
+    public TaskPageResponse getTasks(String owner, Boolean completed, String cursor, int size) {
+        if (log.isDebugEnabled()) {
+            log.debug("Fetching page of {} tasks (completed: {})", size, completed);
+        }
         
-        List<Task> tasks = taskRepository.findTop5ByCompletedFalseOrderByCreatedAtDesc();
-        log.info("Found {} active tasks", tasks.size());
+        TaskCursor after = cursor != null ? TaskCursor.decode(cursor) : null;
+        // One extra row tells whether another page follows.
+        List<Task> tasks = taskRepository.findPage(owner, completed,
+                after != null ? after.getCreatedAt() : null,
+                after != null ? after.getId() : null,
+                size + 1);
+        
+        return buildPage(tasks, size);
+    }
+
+    @Override
+    @Timed(value = OPERATION_TIMER, extraTags = {"operation", "search"}, histogram = true)
+    @Transactional(readOnly = true)
+    public TaskSearchResponse searchTasks(String owner, String query, String cursor, int size) {
+        if (log.isDebugEnabled()) {
+            log.debug("Searching page of {} tasks", size);
+        }
+        
+        TaskSearchCursor after = cursor != null ? TaskSearchCursor.decode(cursor) : null;
+        SearchMatches result = taskRepository.search(owner, query,
+                after != null ? after.getRank() : null,
+                after != null ? after.getId() : null,
+                size + 1);
+        
+        return buildSearchPage(result, size);
+    }
+
+    @Override
+    @Timed(value = OPERATION_TIMER, extraTags = {"operation", "get"}, histogram = true)
+    @Transactional(readOnly = true)
+    public TaskResponse getTask(String owner, Long id) {
+        log.debug("Fetching task {}", id);
+        
+        return convertToResponse(findTaskOrArchived(owner, id));
+    }
+
+    private List<TaskResponse> loadRecentTasks(String owner) {
+        List<Task> tasks = taskRepository.findTop5ByOwnerAndCompletedFalseOrderByCreatedAtDesc(owner);
+        if (log.isDebugEnabled()) {
+            log.debug("Found {} active tasks", tasks.size());
+        }
         
         return tasks.stream()
-                .map(this::convertToResponse)
+                .map(TaskServiceImplementation::convertToResponse)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Each entity is detached once handed to the consumer, so the persistence
+     * context stays at one entity no matter how large the table is.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public long exportTasks(String owner, Consumer<TaskResponse> consumer) {
+        log.info("Exporting all tasks of {}", owner);
+        
+        long exported = 0;
+        try (Stream<Task> tasks = taskRepository.streamAll(owner)) {
+            Iterator<Task> iterator = tasks.iterator();
+            while (iterator.hasNext()) {
+                Task task = iterator.next();
+                consumer.accept(convertToResponse(task));
+                entityManager.detach(task);
+                exported++;
+            }
+        }
+        
+        log.info("Exported {} tasks", exported);
+        return exported;
+    }
+
+    @Override
+    @Timed(value = OPERATION_TIMER, extraTags = {"operation", "deleteAll"}, histogram = true)
+    public TaskDeleteResponse deleteAllTasks(String owner) {
+        log.warn("Deleting all tasks of {} from database", owner);
+        long start = System.nanoTime();
+        
+        int deleted = taskRepository.deleteAllInBulk(owner) + taskRepository.deleteAllArchived(owner);
+        eventPublisher.publishEvent(TaskChangedEvent.deletedAll(owner));
+        
+        return buildDeleteResponse(deleted, start);
+    }
+
+    /**
+     * Runs outside the class-level transaction; each chunk commits on its own,
+     * so row locks are held only for one chunk at a time.
+     */
+    @Override
+    @Timed(value = OPERATION_TIMER, extraTags = {"operation", "deleteAll"}, histogram = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public TaskDeleteResponse deleteAllTasksInChunks(String owner, int chunkSize) {
+        log.warn("Deleting all tasks of {} from database in chunks of {}", owner, chunkSize);
+        long start = System.nanoTime();
+        
+        long deleted = 0;
+        int chunk;
+        do {
+            chunk = transactionTemplate.execute(status -> taskRepository.deleteChunk(owner, chunkSize));
+            deleted += chunk;
+        } while (chunk == chunkSize);
+        do {
+            chunk = transactionTemplate.execute(status -> taskRepository.deleteArchivedChunk(owner, chunkSize));
+            deleted += chunk;
+        } while (chunk == chunkSize);
+        eventPublisher.publishEvent(TaskChangedEvent.deletedAll(owner));
+        
+        return buildDeleteResponse(deleted, start);
+    }
+
+    static TaskDeleteResponse buildDeleteResponse(long deleted, long start) {
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        log.warn("Deleted {} tasks in {} ms", deleted, elapsedMillis);
+        return TaskDeleteResponse.builder()
+                .deleted(deleted)
+                .elapsedMillis(elapsedMillis)
+                .build();
+    }
+
+    /**
+     * Completes the task with one conditional UPDATE ... RETURNING. Only when no
+     * active row matched is the task looked up, to tell an already completed
+     * task (returned unchanged) from a missing one (404). Concurrent completes
+     * of the same id therefore write once.
+     */
     @Override
-    public void deleteAllTasks() {
-        log.warn("Deleting all tasks from database");
-        taskRepository.deleteAll();
+    @Timed(value = OPERATION_TIMER, extraTags = {"operation", "complete"}, histogram = true)
+    public TaskResponse completeTask(String owner, Long id) {
+        log.debug("Marking task as completed: {}", id);
+        
+        Optional<Task> updatedTask = taskRepository.completeIfActive(owner, id);
+        if (updatedTask.isEmpty()) {
+            Task task = findTaskOrArchived(owner, id);
+            log.debug("Task {} was already completed", id);
+            return convertToResponse(task);
+        }
+        
+        log.debug("Task {} marked as completed", id);
+        TaskResponse response = convertToResponse(updatedTask.get());
+        eventPublisher.publishEvent(TaskChangedEvent.completed(response));
+        return response;
     }
 
+    /**
+     * Runs outside the class-level transaction. Ids (at most 1000) are completed
+     * in one transaction and returned; a creation-time cutoff may match any
+     * number of tasks, so those are completed in chunks of COMPLETE_CHUNK_SIZE,
+     * each committed on its own, and only counted.
+     */
     @Override
-    public TaskResponse completeTask(Long id) {
-        log.info("Marking task as completed: {}", id);
+    @Timed(value = OPERATION_TIMER, extraTags = {"operation", "completeBatch"}, histogram = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public TaskBulkCompleteResponse completeTasks(String owner, TaskBulkCompleteRequest request) {
+        return request.getIds() != null
+                ? transactionTemplate.execute(status -> completeTasksByIds(owner, request.getIds()))
+                : completeTasksCreatedBefore(owner, request.getCreatedBefore());
+    }
+
+    private TaskBulkCompleteResponse completeTasksByIds(String owner, List<Long> requestedIds) {
+        Set<Long> ids = new LinkedHashSet<>(requestedIds);
+        if (log.isDebugEnabled()) {
+            log.debug("Marking {} tasks as completed by id", ids.size());
+        }
+        List<Task> completedTasks = taskRepository.completeAllActiveByIds(owner, ids);
         
-        Task task = taskRepository.findById(id)
+        // Ids not completed just now are either already completed or missing.
+        completedTasks.forEach(task -> ids.remove(task.getId()));
+        List<Long> notFound = List.of();
+        if (!ids.isEmpty()) {
+            Set<Long> existingIds = new HashSet<>(taskRepository.findExistingIds(owner, ids));
+            if (existingIds.size() < ids.size()) {
+                existingIds.addAll(taskRepository.findArchivedIds(owner, ids));
+            }
+            notFound = ids.stream()
+                    .filter(id -> !existingIds.contains(id))
+                    .collect(Collectors.toList());
+        }
+        
+        if (log.isDebugEnabled()) {
+            log.debug("{} tasks marked as completed, {} not found", completedTasks.size(), notFound.size());
+        }
+        List<TaskResponse> completed = publishCompleted(owner, completedTasks);
+        return TaskBulkCompleteResponse.builder()
+                .completedCount(completed.size())
+                .completed(completed)
+                .notFound(notFound)
+                .build();
+    }
+
+    private TaskBulkCompleteResponse completeTasksCreatedBefore(String owner, LocalDateTime cutoff) {
+        log.debug("Marking tasks created before {} as completed", cutoff);
+        long completed = 0;
+        int chunk;
+        do {
+            chunk = transactionTemplate.execute(status -> publishCompleted(owner,
+                    taskRepository.completeActiveChunkCreatedBefore(owner, cutoff, COMPLETE_CHUNK_SIZE)).size());
+            completed += chunk;
+        } while (chunk == COMPLETE_CHUNK_SIZE);
+        
+        log.debug("{} tasks marked as completed", completed);
+        return TaskBulkCompleteResponse.builder()
+                .completedCount(completed)
+                .notFound(List.of())
+                .build();
+    }
+
+    /**
+     * Publishes one event for tasks completed in the current transaction;
+     * listeners receive it once that transaction has committed.
+     */
+    private List<TaskResponse> publishCompleted(String owner, List<Task> completedTasks) {
+        List<TaskResponse> completed = completedTasks.stream()
+                .map(TaskServiceImplementation::convertToResponse)
+                .collect(Collectors.toList());
+        if (!completed.isEmpty()) {
+            eventPublisher.publishEvent(TaskChangedEvent.completed(owner, completed));
+        }
+        return completed;
+    }
+
+    /**
+     * Completed tasks may have been moved to the archive by TaskArchiver.
+     * Another owner's task is reported as missing.
+     */
+    private Task findTaskOrArchived(String owner, Long id) {
+        return taskRepository.findByIdAndOwner(id, owner)
+                .or(() -> taskRepository.findArchivedById(owner, id))
                 .orElseThrow(() -> new ResourceNotFoundException("Task", id));
+    }
+
+    private static Task toEntity(TaskCreateRequest request) {
+        Task task = new Task();
+        task.setTitle(request.getTitle());
+        task.setDescription(request.getDescription());
+        task.setOwner(request.getOwner());
+        task.setCompleted(false);
+        return task;
+    }
+
+    /**
+     * Page of at most size tasks; tasks holds one more row when another page follows.
+     */
+    static TaskPageResponse buildPage(List<Task> tasks, int size) {
+        boolean hasMore = tasks.size() > size;
+        List<Task> page = hasMore ? tasks.subList(0, size) : tasks;
+        String nextCursor = null;
+        if (hasMore) {
+            Task last = page.get(page.size() - 1);
+            nextCursor = new TaskCursor(last.getCreatedAt(), last.getId()).encode();
+        }
         
-        task.setCompleted(true);
-        Task updatedTask = taskRepository.save(task);
+        return TaskPageResponse.builder()
+                .tasks(page.stream()
+                        .map(TaskServiceImplementation::convertToResponse)
+                        .collect(Collectors.toList()))
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    /**
+     * Search page of at most size tasks; result holds one more match when another page follows.
+     */
+    static TaskSearchResponse buildSearchPage(SearchMatches result, int size) {
+        List<RankedTask> matches = result.getMatches();
+        boolean hasMore = matches.size() > size;
+        List<RankedTask> page = hasMore ? matches.subList(0, size) : matches;
+        String nextCursor = null;
+        if (hasMore) {
+            RankedTask last = page.get(page.size() - 1);
+            nextCursor = new TaskSearchCursor(last.getRank(), last.getTask().getId()).encode();
+        }
         
-        log.info("Task {} marked as completed", id);
-        return convertToResponse(updatedTask);
+        return TaskSearchResponse.builder()
+                .tasks(page.stream()
+                        .map(match -> convertToResponse(match.getTask()))
+                        .collect(Collectors.toList()))
+                .nextCursor(nextCursor)
+                .truncated(result.isTruncated())
+                .includesArchived(false)
+                .build();
     }
 
     /**
      * Converts Task entity to TaskResponse DTO.
      * Keeps entity-to-DTO conversion logic centralized.
      */
-    private TaskResponse convertToResponse(Task task) {
+    static TaskResponse convertToResponse(Task task) {
         return TaskResponse.builder()
                 .id(task.getId())
                 .title(task.getTitle())
@@ -85,6 +438,7 @@ public class TaskServiceImplementation implements TaskService {
                 .completed(task.getCompleted())
                 .createdAt(task.getCreatedAt())
                 .updatedAt(task.getUpdatedAt())
+                .owner(task.getOwner())
                 .build();
     }
 }
\ No newline at end of file
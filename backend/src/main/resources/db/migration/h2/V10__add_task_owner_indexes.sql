@@ -0,0 +1,6 @@
+-- The listing indexes from V2 and V4, led by owner.
+DROP INDEX idx_task_active_created_at;
+DROP INDEX idx_task_created_at;
+
+CREATE INDEX idx_task_owner_active_created_at ON task (owner, completed, created_at DESC, id DESC);
+CREATE INDEX idx_task_owner_created_at ON task (owner, created_at DESC, id DESC);
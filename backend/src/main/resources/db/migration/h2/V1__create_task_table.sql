@@ -0,0 +1,9 @@
+-- Initial schema for the task table (H2, used by tests).
+CREATE TABLE task (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    title       VARCHAR(100) NOT NULL,
+    description VARCHAR(500) NOT NULL,
+    completed   BOOLEAN      NOT NULL DEFAULT FALSE,
+    created_at  TIMESTAMP(6) NOT NULL,
+    updated_at  TIMESTAMP(6)
+);
@@ -0,0 +1,2 @@
+-- H2 has no partial indexes; index the same ordering with completed leading.
+CREATE INDEX idx_task_active_created_at ON task (completed, created_at DESC, id DESC);
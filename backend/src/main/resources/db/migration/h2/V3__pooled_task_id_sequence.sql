@@ -0,0 +1,2 @@
+-- H2 names identity sequences itself, so the pooled sequence is created explicitly.
+CREATE SEQUENCE task_id_seq START WITH 1 INCREMENT BY 50;
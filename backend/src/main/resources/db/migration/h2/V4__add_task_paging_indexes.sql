@@ -0,0 +1,2 @@
+-- Completed tasks are served by idx_task_active_created_at (completed leads).
+CREATE INDEX idx_task_created_at ON task (created_at DESC, id DESC);
@@ -0,0 +1,10 @@
+-- Archive of completed tasks (H2, used by tests).
+CREATE TABLE task_archive (
+    id          BIGINT       PRIMARY KEY,
+    title       VARCHAR(100) NOT NULL,
+    description VARCHAR(500) NOT NULL,
+    completed   BOOLEAN      NOT NULL,
+    created_at  TIMESTAMP(6) NOT NULL,
+    updated_at  TIMESTAMP(6),
+    archived_at TIMESTAMP(6) NOT NULL
+);
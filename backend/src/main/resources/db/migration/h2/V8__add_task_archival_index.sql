@@ -0,0 +1,2 @@
+-- H2 has no partial indexes, so completed leads.
+CREATE INDEX idx_task_completed_updated_at ON task (completed, updated_at);
@@ -0,0 +1,4 @@
+-- Owner of every task (H2, used by tests); existing tasks go to 'default'.
+ALTER TABLE task ADD COLUMN owner VARCHAR(64) DEFAULT 'default' NOT NULL;
+
+ALTER TABLE task_archive ADD COLUMN owner VARCHAR(64) DEFAULT 'default' NOT NULL;
@@ -0,0 +1,20 @@
+-- Replaces the listing indexes from V2 and V4 with the same ones led by owner,
+-- so an owner's recent tasks and pages stay index range scans no matter how
+-- many owners share the table. Separate from V9 because CREATE INDEX
+-- CONCURRENTLY cannot run in a transaction; the old indexes are dropped only
+-- once their replacements exist.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_task_owner_active_created_at
+    ON task (owner, created_at DESC, id DESC)
+    INCLUDE (title, description, updated_at)
+    WHERE completed = FALSE;
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_task_owner_completed_created_at
+    ON task (owner, created_at DESC, id DESC)
+    WHERE completed = TRUE;
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_task_owner_created_at
+    ON task (owner, created_at DESC, id DESC);
+
+DROP INDEX CONCURRENTLY IF EXISTS idx_task_active_created_at;
+DROP INDEX CONCURRENTLY IF EXISTS idx_task_completed_created_at;
+DROP INDEX CONCURRENTLY IF EXISTS idx_task_created_at;
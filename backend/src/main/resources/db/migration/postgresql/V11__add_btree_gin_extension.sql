@@ -0,0 +1,3 @@
+-- Lets GIN indexes hold plain columns such as owner next to search_vector.
+-- Trusted since PostgreSQL 13, so the database owner can create it.
+CREATE EXTENSION IF NOT EXISTS btree_gin;
@@ -0,0 +1,8 @@
+-- Replaces the search index from V6 with one that also holds owner, so a search
+-- reads only the owner's matches instead of every owner's and filtering them.
+-- Separate from V11 because CREATE INDEX CONCURRENTLY cannot run in a
+-- transaction; the old index is dropped only once its replacement exists.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_task_owner_search_vector
+    ON task USING GIN (owner, search_vector);
+
+DROP INDEX CONCURRENTLY IF EXISTS idx_task_search_vector;
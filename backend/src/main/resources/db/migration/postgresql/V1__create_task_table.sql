@@ -0,0 +1,11 @@
+-- Initial schema for the task table.
+-- Mirrors the DDL Hibernate generated while ddl-auto was set to update, so
+-- existing databases can be baselined at version 1.
+CREATE TABLE task (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    title       VARCHAR(100) NOT NULL,
+    description VARCHAR(500) NOT NULL,
+    completed   BOOLEAN      NOT NULL DEFAULT FALSE,
+    created_at  TIMESTAMP(6) NOT NULL,
+    updated_at  TIMESTAMP(6)
+);
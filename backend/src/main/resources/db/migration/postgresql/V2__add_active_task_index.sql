@@ -0,0 +1,9 @@
+-- Partial covering index for the recent active tasks query
+-- (findTop5ByCompletedFalseOrderByCreatedAtDesc).
+-- Only active rows are indexed, so completed history does not grow it, and the
+-- INCLUDE columns allow an index-only scan without touching the heap.
+-- Built CONCURRENTLY so existing tables are not write-locked during the deploy.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_task_active_created_at
+    ON task (created_at DESC, id DESC)
+    INCLUDE (title, description, updated_at)
+    WHERE completed = FALSE;
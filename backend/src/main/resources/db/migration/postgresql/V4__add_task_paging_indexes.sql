@@ -0,0 +1,9 @@
+-- Indexes for keyset paging (GET /api/tasks/page), ordered like the active
+-- task index from V2. Completed tasks get their own partial index; the full
+-- index serves listings that do not filter on completion.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_task_completed_created_at
+    ON task (created_at DESC, id DESC)
+    WHERE completed = TRUE;
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_task_created_at
+    ON task (created_at DESC, id DESC);
@@ -0,0 +1,3 @@
+-- Separate from V5 because CREATE INDEX CONCURRENTLY cannot run in a transaction.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_task_search_vector
+    ON task USING GIN (search_vector);
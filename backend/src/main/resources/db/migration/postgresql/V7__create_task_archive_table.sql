@@ -0,0 +1,12 @@
+-- Completed tasks are moved here by TaskArchiver once they are older than
+-- todo.archive.min-age, keeping the task table and its indexes to recent rows.
+-- Only looked up by id, so the primary key is the only index.
+CREATE TABLE IF NOT EXISTS task_archive (
+    id          BIGINT       PRIMARY KEY,
+    title       VARCHAR(100) NOT NULL,
+    description VARCHAR(500) NOT NULL,
+    completed   BOOLEAN      NOT NULL,
+    created_at  TIMESTAMP(6) NOT NULL,
+    updated_at  TIMESTAMP(6),
+    archived_at TIMESTAMP(6) NOT NULL
+);
@@ -0,0 +1,5 @@
+-- Finds completed tasks due for archiving without scanning the table. Covers
+-- only completed tasks, which archiving keeps few.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_task_completed_updated_at
+    ON task (updated_at)
+    WHERE completed = TRUE;
@@ -0,0 +1,8 @@
+-- Every task belongs to an owner (a team), and every query is scoped to one.
+-- Existing tasks and rows inserted without an owner go to 'default'. A constant
+-- default is kept in the catalog, so adding the column does not rewrite the tables.
+ALTER TABLE task
+    ADD COLUMN IF NOT EXISTS owner VARCHAR(64) NOT NULL DEFAULT 'default';
+
+ALTER TABLE task_archive
+    ADD COLUMN IF NOT EXISTS owner VARCHAR(64) NOT NULL DEFAULT 'default';
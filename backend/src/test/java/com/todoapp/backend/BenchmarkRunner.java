@@ -0,0 +1,53 @@
+package com.todoapp.backend;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.File;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * Runs the *Benchmark classes with the GC profiler, so every score comes with
+ * gc.alloc.rate.norm (bytes allocated per operation). Results are also written
+ * to target/jmh-result.json for comparing runs. Under exec:java the JVM class
+ * path is Maven's own, so the forked benchmark JVMs get the test class path of
+ * the class loader instead.
+ * Usage: ./mvnw -Pjmh test-compile exec:java [-Dexec.args="<JMH options>"]
+ */
+public class BenchmarkRunner {
+
+    public static void main(String[] args) throws Exception {
+        if (Thread.currentThread().getContextClassLoader() instanceof URLClassLoader loader) {
+            System.setProperty("java.class.path", Arrays.stream(loader.getURLs())
+                    .map(BenchmarkRunner::toPath)
+                    .collect(Collectors.joining(File.pathSeparator)));
+        }
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        ChainedOptionsBuilder options = new OptionsBuilder()
+                .parent(commandLine)
+                .addProfiler(GCProfiler.class)
+                .resultFormat(ResultFormatType.JSON)
+                .result("target/jmh-result.json");
+        if (commandLine.getIncludes().isEmpty()) {
+            options.include("com\\.todoapp\\.backend\\..*Benchmark");
+        }
+        new Runner(options.build()).run();
+    }
+
+    private static String toPath(URL url) {
+        try {
+            return Path.of(url.toURI()).toString();
+        } catch (URISyntaxException ex) {
+            throw new IllegalArgumentException(ex);
+        }
+    }
+}
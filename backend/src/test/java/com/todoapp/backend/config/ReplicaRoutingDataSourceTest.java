@@ -0,0 +1,135 @@
+package com.todoapp.backend.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ReplicaRoutingDataSource.
+ */
+@DisplayName("ReplicaRoutingDataSource Unit Tests")
+class ReplicaRoutingDataSourceTest {
+
+    private final Connection primaryConnection = mock(Connection.class);
+    private final Connection replicaConnection1 = mock(Connection.class);
+    private final Connection replicaConnection2 = mock(Connection.class);
+
+    @AfterEach
+    void tearDown() {
+        ReplicaRoutingDataSource.unpin();
+    }
+
+    @Test
+    @DisplayName("Should hand out replica connections round-robin")
+    void getConnection_ShouldRoundRobinReplicas() throws SQLException {
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(dataSource(primaryConnection),
+                List.of(dataSource(replicaConnection1), dataSource(replicaConnection2)), Duration.ofMinutes(1));
+
+        List<Connection> connections = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            connections.add(routing.getConnection());
+        }
+
+        assertThat(connections).containsExactly(
+                replicaConnection1, replicaConnection2, replicaConnection1, replicaConnection2);
+    }
+
+    @Test
+    @DisplayName("Should eject a failing replica and skip it until the ejection time has passed")
+    void getConnection_WhenReplicaFails_ShouldEjectIt() throws SQLException {
+        DataSource failing = failingDataSource();
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(dataSource(primaryConnection),
+                List.of(failing, dataSource(replicaConnection2)), Duration.ofMinutes(1));
+
+        assertThat(routing.getConnection()).isSameAs(replicaConnection2);
+        assertThat(routing.getConnection()).isSameAs(replicaConnection2);
+        assertThat(routing.getConnection()).isSameAs(replicaConnection2);
+
+        verify(failing, times(1)).getConnection();
+        assertThat(routing.getAvailableReplicas()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should retry an ejected replica once the ejection time has passed")
+    void getConnection_AfterEjectionTime_ShouldRetryReplica() throws SQLException {
+        DataSource failing = failingDataSource();
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(dataSource(primaryConnection),
+                List.of(failing), Duration.ZERO);
+
+        routing.getConnection();
+        routing.getConnection();
+
+        verify(failing, times(2)).getConnection();
+    }
+
+    @Test
+    @DisplayName("Should fall back to the primary when no replica is available")
+    void getConnection_WhenAllReplicasFail_ShouldUsePrimary() throws SQLException {
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(dataSource(primaryConnection),
+                List.of(failingDataSource(), failingDataSource()), Duration.ofMinutes(1));
+
+        assertThat(routing.getConnection()).isSameAs(primaryConnection);
+        assertThat(routing.getConnection()).isSameAs(primaryConnection);
+        assertThat(routing.getAvailableReplicas()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should use the primary while the thread is pinned to it")
+    void getConnection_WhenPinned_ShouldUsePrimary() throws SQLException {
+        DataSource replica = dataSource(replicaConnection1);
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(dataSource(primaryConnection),
+                List.of(replica), Duration.ofMinutes(1));
+
+        ReplicaRoutingDataSource.pinToPrimary();
+        assertThat(routing.getConnection()).isSameAs(primaryConnection);
+        ReplicaRoutingDataSource.unpin();
+        assertThat(routing.getConnection()).isSameAs(replicaConnection1);
+
+        verify(replica, times(1)).getConnection();
+    }
+
+    @Test
+    @DisplayName("Should use the primary inside onPrimary and keep an outer pin afterwards")
+    void onPrimary_ShouldPinOnlyForTheAction() throws SQLException {
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(dataSource(primaryConnection),
+                List.of(dataSource(replicaConnection1)), Duration.ofMinutes(1));
+
+        assertThat(ReplicaRoutingDataSource.onPrimary(() -> connect(routing))).isSameAs(primaryConnection);
+        assertThat(routing.getConnection()).isSameAs(replicaConnection1);
+
+        ReplicaRoutingDataSource.pinToPrimary();
+        ReplicaRoutingDataSource.onPrimary(() -> connect(routing));
+        assertThat(routing.getConnection()).isSameAs(primaryConnection);
+    }
+
+    private static Connection connect(DataSource dataSource) {
+        try {
+            return dataSource.getConnection();
+        } catch (SQLException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private static DataSource dataSource(Connection connection) throws SQLException {
+        DataSource dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        return dataSource;
+    }
+
+    private static DataSource failingDataSource() throws SQLException {
+        DataSource dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenThrow(new SQLTransientConnectionException("down"));
+        return dataSource;
+    }
+}
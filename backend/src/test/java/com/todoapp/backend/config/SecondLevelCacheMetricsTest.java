@@ -0,0 +1,97 @@
+package com.todoapp.backend.config;
+
+import com.todoapp.backend.entity.Task;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for SecondLevelCacheMetrics, against stand-ins for the JCache
+ * CacheStatistics MXBeans in a private MBeanServer.
+ */
+@DisplayName("SecondLevelCacheMetrics Unit Tests")
+class SecondLevelCacheMetricsTest {
+
+    @Test
+    @DisplayName("Should report region statistics as cache meters, summed over cache managers")
+    void bindTo_ShouldReadRegionStatistics() throws Exception {
+        MBeanServer mBeanServer = MBeanServerFactory.newMBeanServer();
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        // Function counters hold the binder weakly; the application context keeps it alive.
+        SecondLevelCacheMetrics metrics = new SecondLevelCacheMetrics(mBeanServer);
+        metrics.bindTo(registry);
+
+        assertThat(registry.get("cache.gets").tag("cache", Task.CACHE_REGION).tag("result", "hit")
+                .functionCounter().count()).isZero();
+
+        register(mBeanServer, "manager-1", new CacheStatistics(90, 10, 10, 3, 1));
+        register(mBeanServer, "manager-2", new CacheStatistics(5, 0, 0, 1, 0));
+
+        assertThat(registry.get("cache.gets").tag("cache", Task.CACHE_REGION).tag("result", "hit")
+                .functionCounter().count()).isEqualTo(95);
+        assertThat(registry.get("cache.gets").tag("cache", Task.CACHE_REGION).tag("result", "miss")
+                .functionCounter().count()).isEqualTo(10);
+        assertThat(registry.get("cache.puts").tag("cache", Task.CACHE_REGION)
+                .functionCounter().count()).isEqualTo(10);
+        assertThat(registry.get("cache.evictions").tag("cache", Task.CACHE_REGION)
+                .functionCounter().count()).isEqualTo(4);
+        assertThat(registry.get("cache.removals").tag("cache", Task.CACHE_REGION)
+                .functionCounter().count()).isEqualTo(1);
+        assertThat(registry.get("cache.evictions").tag("cache", "task-recent")
+                .functionCounter().count()).isZero();
+        assertThat(metrics).isNotNull();
+    }
+
+    private static void register(MBeanServer mBeanServer, String cacheManager, CacheStatistics statistics)
+            throws Exception {
+        mBeanServer.registerMBean(statistics, new ObjectName("javax.cache:type=CacheStatistics,CacheManager="
+                + cacheManager + ",Cache=" + Task.CACHE_REGION));
+    }
+
+    public interface CacheStatisticsMBean {
+        long getCacheHits();
+
+        long getCacheMisses();
+
+        long getCachePuts();
+
+        long getCacheEvictions();
+
+        long getCacheRemovals();
+    }
+
+    public record CacheStatistics(long cacheHits, long cacheMisses, long cachePuts,
+                                  long cacheEvictions, long cacheRemovals) implements CacheStatisticsMBean {
+
+        @Override
+        public long getCacheHits() {
+            return cacheHits;
+        }
+
+        @Override
+        public long getCacheMisses() {
+            return cacheMisses;
+        }
+
+        @Override
+        public long getCachePuts() {
+            return cachePuts;
+        }
+
+        @Override
+        public long getCacheEvictions() {
+            return cacheEvictions;
+        }
+
+        @Override
+        public long getCacheRemovals() {
+            return cacheRemovals;
+        }
+    }
+}
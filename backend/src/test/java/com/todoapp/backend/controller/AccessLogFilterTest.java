@@ -0,0 +1,71 @@
+package com.todoapp.backend.controller;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for AccessLogFilter.
+ */
+@DisplayName("AccessLogFilter Unit Tests")
+class AccessLogFilterTest {
+
+    private final Logger accessLogger = (Logger) LoggerFactory.getLogger("com.todoapp.backend.access");
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+    private Level level;
+
+    @BeforeEach
+    void setUp() {
+        level = accessLogger.getLevel();
+        accessLogger.setLevel(Level.INFO);
+        appender.start();
+        accessLogger.addAppender(appender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        accessLogger.detachAppender(appender);
+        accessLogger.setLevel(level);
+    }
+
+    @Test
+    @DisplayName("Should log one line with method, path, status and duration fields")
+    void doFilter_ShouldLogRequestAsKeyValuePairs() throws Exception {
+        AccessLogFilter filter = new AccessLogFilter(1.0);
+
+        filter.doFilter(new MockHttpServletRequest("PUT", "/api/tasks/42/complete"), new MockHttpServletResponse(),
+                (req, res) -> ((MockHttpServletResponse) res).setStatus(404));
+
+        assertThat(appender.list).singleElement().satisfies(event -> {
+            assertThat(event.getFormattedMessage()).startsWith("PUT /api/tasks/42/complete 404 ");
+            assertThat(event.getKeyValuePairs()).extracting(pair -> pair.key)
+                    .containsExactly("http.method", "url.path", "http.status", "duration.us");
+        });
+    }
+
+    @Test
+    @DisplayName("Should skip unsampled requests but always log server errors")
+    void doFilter_WithZeroSampleRate_ShouldLogOnlyServerErrors() throws Exception {
+        AccessLogFilter filter = new AccessLogFilter(0.0);
+
+        for (int i = 0; i < 100; i++) {
+            filter.doFilter(new MockHttpServletRequest("GET", "/api/tasks"), new MockHttpServletResponse(),
+                    (req, res) -> { });
+        }
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/tasks"), new MockHttpServletResponse(),
+                (req, res) -> ((MockHttpServletResponse) res).setStatus(503));
+
+        assertThat(appender.list).singleElement()
+                .satisfies(event -> assertThat(event.getFormattedMessage()).contains(" 503 "));
+    }
+}
@@ -0,0 +1,190 @@
+package com.todoapp.backend.controller;
+
+import com.todoapp.backend.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for AdmissionControlFilter and AdmissionLimiter.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AdmissionControlFilter Unit Tests")
+class AdmissionControlFilterTest {
+
+    private static final long FAST_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    @Mock
+    private HandlerExceptionResolver handlerExceptionResolver;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("Should queue one request and reject the next at once when the queue is full")
+    void doFilter_WhenQueueFull_ShouldRejectWith503WithoutWaiting() throws Exception {
+        AdmissionControlFilter filter = filter(1, 1, Duration.ofSeconds(5));
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Void> holder = hold(filter, "POST", release);
+        MockFilterChain queuedChain = new MockFilterChain();
+        CompletableFuture<Void> queued = CompletableFuture.runAsync(() -> doFilter(filter, "PUT", queuedChain));
+        waitUntilQueued(filter);
+
+        long start = System.nanoTime();
+        MockFilterChain rejectedChain = new MockFilterChain();
+        filter.doFilter(request("POST"), new MockHttpServletResponse(), rejectedChain);
+
+        assertThat(System.nanoTime() - start).isLessThan(TimeUnit.SECONDS.toNanos(1));
+        assertThat(rejectedChain.getRequest()).isNull();
+        verify(handlerExceptionResolver).resolveException(any(), any(), isNull(), isA(ServiceUnavailableException.class));
+        assertThat(meterRegistry.get(AdmissionControlFilter.REJECTED_COUNTER).tag("class", "write").counter().count())
+                .isEqualTo(1);
+
+        release.countDown();
+        holder.get(5, TimeUnit.SECONDS);
+        queued.get(5, TimeUnit.SECONDS);
+        assertThat(queuedChain.getRequest()).isNotNull();
+        assertThat(filter.getWrites().getInFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should admit reads while writes are at their limit")
+    void doFilter_WhenWritesExhausted_ShouldStillAdmitReads() throws Exception {
+        AdmissionControlFilter filter = filter(1, 0, Duration.ZERO);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Void> holder = hold(filter, "DELETE", release);
+
+        MockFilterChain readChain = new MockFilterChain();
+        filter.doFilter(request("GET"), new MockHttpServletResponse(), readChain);
+        MockFilterChain writeChain = new MockFilterChain();
+        filter.doFilter(request("POST"), new MockHttpServletResponse(), writeChain);
+
+        assertThat(readChain.getRequest()).isNotNull();
+        assertThat(writeChain.getRequest()).isNull();
+        release.countDown();
+        holder.get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    @DisplayName("Should hold the slot of a streamed export until the response completes")
+    void doFilter_WhenAsyncStarted_ShouldReleaseOnCompletion() throws Exception {
+        AdmissionControlFilter filter = filter(1, 0, Duration.ZERO);
+        MockHttpServletRequest export = new MockHttpServletRequest("GET", "/api/tasks/export");
+        export.setAsyncSupported(true);
+
+        filter.doFilter(export, new MockHttpServletResponse(), (req, res) -> req.startAsync());
+
+        assertThat(filter.getReads().getInFlight()).isEqualTo(1);
+        MockFilterChain rejectedChain = new MockFilterChain();
+        filter.doFilter(request("GET"), new MockHttpServletResponse(), rejectedChain);
+        assertThat(rejectedChain.getRequest()).isNull();
+
+        ((MockAsyncContext) export.getAsyncContext()).complete();
+        assertThat(filter.getReads().getInFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should cut the limit when latency rises and restore it once the new latency is the norm")
+    void release_ShouldAdjustLimitByLatencyGradient() throws Exception {
+        AdmissionLimiter limiter = new AdmissionLimiter(1, 10, 0, 1.5);
+        for (int i = 0; i < 20; i++) {
+            round(limiter, FAST_NANOS);
+        }
+        assertThat(limiter.getLimit()).isEqualTo(10);
+
+        for (int i = 0; i < 10; i++) {
+            round(limiter, FAST_NANOS * 5);
+        }
+        assertThat(limiter.getLimit()).isLessThan(6);
+
+        for (int i = 0; i < 200; i++) {
+            round(limiter, FAST_NANOS * 5);
+        }
+        assertThat(limiter.getLimit()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("Should not change the limit while less than half of it is used")
+    void release_WhenLimitMostlyUnused_ShouldKeepLimit() throws Exception {
+        AdmissionLimiter limiter = new AdmissionLimiter(1, 10, 0, 1.5);
+        for (int i = 0; i < 50; i++) {
+            assertThat(limiter.acquire(0)).isTrue();
+            limiter.release(FAST_NANOS * (i < 10 ? 1 : 20));
+        }
+        assertThat(limiter.getLimit()).isEqualTo(10);
+    }
+
+    private AdmissionControlFilter filter(int maxLimit, int queueSize, Duration maxWait) {
+        return new AdmissionControlFilter(1, maxLimit, queueSize, maxWait, 1.5, meterRegistry,
+                handlerExceptionResolver);
+    }
+
+    /**
+     * Admits as many requests as the limit allows, then releases them all with the given latency.
+     */
+    private static void round(AdmissionLimiter limiter, long latencyNanos) throws InterruptedException {
+        int admitted = limiter.getLimit();
+        for (int i = 0; i < admitted; i++) {
+            assertThat(limiter.acquire(0)).isTrue();
+        }
+        for (int i = 0; i < admitted; i++) {
+            limiter.release(latencyNanos);
+        }
+    }
+
+    private static CompletableFuture<Void> hold(AdmissionControlFilter filter, String method, CountDownLatch release)
+            throws InterruptedException {
+        CountDownLatch entered = new CountDownLatch(1);
+        CompletableFuture<Void> holder = CompletableFuture.runAsync(() -> doFilter(filter, method, (req, res) -> {
+            entered.countDown();
+            await(release);
+        }));
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+        return holder;
+    }
+
+    private static void waitUntilQueued(AdmissionControlFilter filter) throws InterruptedException {
+        // The queued request does not count as in flight; give it time to reach the queue.
+        Thread.sleep(200);
+        assertThat(filter.getWrites().getInFlight()).isEqualTo(1);
+    }
+
+    private static void doFilter(AdmissionControlFilter filter, String method, FilterChain chain) {
+        try {
+            filter.doFilter(request(method), new MockHttpServletResponse(), chain);
+        } catch (Exception ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private static MockHttpServletRequest request(String method) {
+        return new MockHttpServletRequest(method, "/api/tasks");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
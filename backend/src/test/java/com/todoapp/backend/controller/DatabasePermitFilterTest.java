@@ -0,0 +1,147 @@
+package com.todoapp.backend.controller;
+
+import com.todoapp.backend.config.ReplicaProperties;
+import com.todoapp.backend.config.ShardProperties;
+import com.todoapp.backend.exception.ServiceUnavailableException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for DatabasePermitFilter.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DatabasePermitFilter Unit Tests")
+class DatabasePermitFilterTest {
+
+    @Mock
+    private HandlerExceptionResolver handlerExceptionResolver;
+
+    @Test
+    @DisplayName("Should reject a request that cannot get a permit in time and release permits afterwards")
+    void doFilter_WhenPermitsExhausted_ShouldRejectWith503() throws Exception {
+        DatabasePermitFilter filter = new DatabasePermitFilter(1, 1, 50, false, handlerExceptionResolver);
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<Void> holder = CompletableFuture.runAsync(() -> {
+            try {
+                filter.doFilter(request("/api/tasks"), new MockHttpServletResponse(), (req, res) -> {
+                    entered.countDown();
+                    await(release);
+                });
+            } catch (Exception ex) {
+                throw new IllegalStateException(ex);
+            }
+        });
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+        MockFilterChain rejectedChain = new MockFilterChain();
+        filter.doFilter(request("/api/tasks"), new MockHttpServletResponse(), rejectedChain);
+
+        assertThat(rejectedChain.getRequest()).isNull();
+        verify(handlerExceptionResolver).resolveException(any(), any(), isNull(), isA(ServiceUnavailableException.class));
+
+        release.countDown();
+        holder.get(5, TimeUnit.SECONDS);
+        assertThat(filter.getAvailableReadPermits()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should not hold permits for health checks and event streams")
+    void doFilter_ForHealthAndStream_ShouldBypassPermits() throws Exception {
+        DatabasePermitFilter filter = new DatabasePermitFilter(1, 1, 50, false, handlerExceptionResolver);
+
+        for (String path : new String[]{"/api/tasks/health", "/api/tasks/stream"}) {
+            MockFilterChain chain = new MockFilterChain();
+            filter.doFilter(request(path), new MockHttpServletResponse(), (req, res) ->
+                    assertThat(filter.getAvailableReadPermits()).isEqualTo(1));
+            filter.doFilter(request(path), new MockHttpServletResponse(), chain);
+            assertThat(chain.getRequest()).isNotNull();
+        }
+        verifyNoInteractions(handlerExceptionResolver);
+    }
+
+    @Test
+    @DisplayName("Should hold the permit until a streamed response completes")
+    void doFilter_WhenAsyncStarted_ShouldReleaseOnCompletion() throws Exception {
+        DatabasePermitFilter filter = new DatabasePermitFilter(1, 1, 50, false, handlerExceptionResolver);
+        MockHttpServletRequest request = request("/api/tasks/export");
+        request.setAsyncSupported(true);
+
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> req.startAsync());
+
+        assertThat(filter.getAvailableReadPermits()).isZero();
+        ((MockAsyncContext) request.getAsyncContext()).complete();
+        assertThat(filter.getAvailableReadPermits()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should take reads and writes from their own permits and skip the recent list served from memory")
+    void doFilter_ShouldGateOnlyDatabaseRequestsByPool() throws Exception {
+        DatabasePermitFilter filter = new DatabasePermitFilter(1, 3, 50, true, handlerExceptionResolver);
+
+        filter.doFilter(request("/api/tasks"), new MockHttpServletResponse(), (req, res) ->
+                assertThat(filter.getAvailableReadPermits()).isEqualTo(3));
+        filter.doFilter(request("/api/tasks/page"), new MockHttpServletResponse(), (req, res) -> {
+            assertThat(filter.getAvailableReadPermits()).isEqualTo(2);
+            assertThat(filter.getAvailableWritePermits()).isEqualTo(1);
+        });
+        filter.doFilter(new MockHttpServletRequest("POST", "/api/tasks"), new MockHttpServletResponse(),
+                (req, res) -> assertThat(filter.getAvailableWritePermits()).isZero());
+        verifyNoInteractions(handlerExceptionResolver);
+    }
+
+    @Test
+    @DisplayName("Should size permits from the shard and replica pools")
+    void constructor_ShouldCountShardAndReplicaConnections() {
+        ShardProperties shards = new ShardProperties();
+        shards.setUrls(List.of("jdbc:h2:mem:shard-1", "jdbc:h2:mem:shard-2"));
+        shards.setMaximumPoolSize(5);
+        ReplicaProperties replicas = new ReplicaProperties();
+        replicas.setEnabled(true);
+        replicas.setUrls(List.of("jdbc:h2:mem:replica-1"));
+        replicas.setShardUrls(Map.of(1, List.of("jdbc:h2:mem:shard-1-replica-1")));
+        replicas.setMaximumPoolSize(4);
+
+        DatabasePermitFilter filter = new DatabasePermitFilter(10, 50, false,
+                new StaticListableBeanFactory(Map.of("shards", shards)).getBeanProvider(ShardProperties.class),
+                new StaticListableBeanFactory(Map.of("replicas", replicas)).getBeanProvider(ReplicaProperties.class),
+                handlerExceptionResolver);
+
+        assertThat(filter.getAvailableWritePermits()).isEqualTo(20);
+        assertThat(filter.getAvailableReadPermits()).isEqualTo(28);
+    }
+
+    private static MockHttpServletRequest request(String path) {
+        return new MockHttpServletRequest("GET", path);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
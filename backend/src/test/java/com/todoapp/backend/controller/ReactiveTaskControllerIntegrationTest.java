@@ -0,0 +1,601 @@
+package com.todoapp.backend.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.todoapp.backend.dto.TaskBulkCompleteRequest;
+import com.todoapp.backend.dto.TaskCreateRequest;
+import com.todoapp.backend.dto.TaskResponse;
+import com.todoapp.backend.entity.Task;
+import com.todoapp.backend.repository.TaskRepository;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.FluxExchangeResult;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.*;
+
+/**
+ * Integration tests for ReactiveTaskController using TestContainers.
+ * Runs the scenarios of TaskControllerIntegrationTest against the reactive
+ * profile, from WebFlux over R2DBC to a real PostgreSQL container.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("reactive")
+@Testcontainers
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class ReactiveTaskControllerIntegrationTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgresContainer =
+        new PostgreSQLContainer<>(DockerImageName.parse("postgres:15-alpine"))
+            .withDatabaseName("testdb")
+            .withUsername("test")
+            .withPassword("test");
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MappingJackson2CborHttpMessageConverter cborConverter;
+
+    @BeforeAll
+    static void beforeAll() {
+        postgresContainer.start();
+    }
+
+    @AfterAll
+    static void afterAll() {
+        postgresContainer.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        taskRepository.deleteAll();
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("Should create a new task successfully")
+    void shouldCreateTask() {
+        TaskCreateRequest request = new TaskCreateRequest(
+            "Integration Test Task",
+            "Testing with real PostgreSQL database"
+        );
+
+        webTestClient.post().uri("/api/tasks")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(request)
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody()
+                .jsonPath("$.id").exists()
+                .jsonPath("$.title").isEqualTo("Integration Test Task")
+                .jsonPath("$.description").isEqualTo("Testing with real PostgreSQL database")
+                .jsonPath("$.completed").isEqualTo(false)
+                .jsonPath("$.createdAt").exists();
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Should return validation error for empty title")
+    void shouldReturnValidationErrorForEmptyTitle() {
+        webTestClient.post().uri("/api/tasks")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new TaskCreateRequest("", "Description"))
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.errors.title").exists();
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("Should retrieve recent tasks")
+    void shouldGetRecentTasks() {
+        createTaskInDB("Task 1", "Description 1");
+        createTaskInDB("Task 2", "Description 2");
+        createTaskInDB("Task 3", "Description 3");
+
+        webTestClient.get().uri("/api/tasks")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(3)
+                .jsonPath("$[0].title").isEqualTo("Task 3") // Most recent first
+                .jsonPath("$[1].title").isEqualTo("Task 2")
+                .jsonPath("$[2].title").isEqualTo("Task 1");
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("Should return only 5 most recent tasks when more exist")
+    void shouldReturnOnly5RecentTasks() throws Exception {
+        for (int i = 1; i <= 7; i++) {
+            createTaskInDB("Task " + i, "Description " + i);
+            Thread.sleep(10); // Small delay to ensure different timestamps
+        }
+
+        webTestClient.get().uri("/api/tasks")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(5)
+                .jsonPath("$[0].title").isEqualTo("Task 7");
+    }
+
+    @Test
+    @Order(5)
+    @DisplayName("Should mark task as completed")
+    void shouldCompleteTask() {
+        Task task = createTaskInDB("Task to Complete", "Will be completed");
+
+        webTestClient.put().uri("/api/tasks/{id}/complete", task.getId())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.id").isEqualTo(task.getId())
+                .jsonPath("$.completed").isEqualTo(true);
+    }
+
+    @Test
+    @Order(6)
+    @DisplayName("Should return 404 when completing non-existent task")
+    void shouldReturn404WhenCompletingNonExistentTask() {
+        webTestClient.put().uri("/api/tasks/999/complete")
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.status").isEqualTo(404)
+                .jsonPath("$.message").isEqualTo("Task not found with id: 999");
+    }
+
+    @Test
+    @Order(7)
+    @DisplayName("Should not return completed tasks in recent list")
+    void shouldNotReturnCompletedTasks() {
+        Task task1 = createTaskInDB("Active Task", "Still active");
+        Task task2 = createTaskInDB("Completed Task", "Will be completed");
+
+        task2.setCompleted(true);
+        taskRepository.save(task2);
+
+        webTestClient.get().uri("/api/tasks")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(1)
+                .jsonPath("$[0].id").isEqualTo(task1.getId());
+    }
+
+    @Test
+    @Order(8)
+    @DisplayName("Should validate title length")
+    void shouldValidateTitleLength() {
+        webTestClient.post().uri("/api/tasks")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new TaskCreateRequest("a".repeat(101), "Description"))
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    @Order(9)
+    @DisplayName("Health check should return OK")
+    void healthCheckShouldReturnOk() {
+        webTestClient.get().uri("/api/tasks/health")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(String.class).isEqualTo("Task API is running");
+    }
+
+    @Test
+    @Order(10)
+    @DisplayName("Should create a batch of tasks in request order")
+    void shouldCreateTaskBatch() {
+        List<TaskCreateRequest> requests = List.of(
+            new TaskCreateRequest("Batch 1", "First"),
+            new TaskCreateRequest("Batch 2", "Second"),
+            new TaskCreateRequest("Batch 3", "Third"));
+
+        webTestClient.post().uri("/api/tasks/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(requests)
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(3)
+                .jsonPath("$[0].title").isEqualTo("Batch 1")
+                .jsonPath("$[2].title").isEqualTo("Batch 3")
+                .jsonPath("$[*].id").value(everyItem(notNullValue()))
+                .jsonPath("$[*].createdAt").value(everyItem(notNullValue()));
+    }
+
+    @Test
+    @Order(11)
+    @DisplayName("Should reject a batch when any item is invalid")
+    void shouldRejectInvalidTaskBatch() {
+        List<TaskCreateRequest> requests = List.of(
+            new TaskCreateRequest("Valid", "Description"),
+            new TaskCreateRequest("", "Description"));
+
+        webTestClient.post().uri("/api/tasks/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(requests)
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.errors['[1].title']").isEqualTo("Title cannot be empty");
+    }
+
+    @Test
+    @Order(12)
+    @DisplayName("Should bulk complete tasks and report missing ids")
+    void shouldBulkCompleteTasks() {
+        Task task1 = createTaskInDB("Task 1", "Description 1");
+        Task task2 = createTaskInDB("Task 2", "Description 2");
+
+        webTestClient.put().uri("/api/tasks/complete")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new TaskBulkCompleteRequest(List.of(task1.getId(), task2.getId(), 999999L), null))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.completedCount").isEqualTo(2)
+                .jsonPath("$.completed.length()").isEqualTo(2)
+                .jsonPath("$.completed[*].completed").value(everyItem(is(true)))
+                .jsonPath("$.notFound").value(contains(999999));
+
+        webTestClient.get().uri("/api/tasks")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(0);
+    }
+
+    @Test
+    @Order(13)
+    @DisplayName("Should delete all tasks and report the count")
+    void shouldDeleteAllTasks() {
+        createTaskInDB("Task 1", "Description 1");
+        createTaskInDB("Task 2", "Description 2");
+        createTaskInDB("Task 3", "Description 3");
+
+        webTestClient.delete().uri("/api/tasks?chunkSize=2")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.deleted").isEqualTo(3)
+                .jsonPath("$.elapsedMillis").exists();
+
+        webTestClient.delete().uri("/api/tasks")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.deleted").isEqualTo(0);
+    }
+
+    @Test
+    @Order(14)
+    @DisplayName("Should page through all tasks with a cursor")
+    void shouldPageThroughTasks() throws Exception {
+        for (int i = 1; i <= 3; i++) {
+            createTaskInDB("Task " + i, "Description " + i);
+        }
+
+        byte[] body = webTestClient.get().uri("/api/tasks/page?size=2")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.tasks.length()").isEqualTo(2)
+                .jsonPath("$.tasks[0].title").isEqualTo("Task 3")
+                .jsonPath("$.nextCursor").isNotEmpty()
+                .returnResult().getResponseBody();
+        String cursor = objectMapper.readTree(body).get("nextCursor").asText();
+
+        webTestClient.get().uri(uri -> uri.path("/api/tasks/page")
+                        .queryParam("size", 2).queryParam("cursor", cursor).build())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.tasks.length()").isEqualTo(1)
+                .jsonPath("$.tasks[0].title").isEqualTo("Task 1")
+                .jsonPath("$.nextCursor").doesNotExist();
+
+        webTestClient.get().uri("/api/tasks/page?size=101")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    @Order(15)
+    @DisplayName("Should export all tasks as newline-delimited JSON")
+    void shouldExportTasksAsNdjson() throws Exception {
+        Task task1 = createTaskInDB("Task 1", "Description 1");
+        Task task2 = createTaskInDB("Task 2", "Description 2");
+
+        String body = webTestClient.get().uri("/api/tasks/export")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_NDJSON)
+                .expectBody(String.class)
+                .returnResult().getResponseBody();
+
+        String[] lines = body.split("\n");
+        Assertions.assertEquals(2, lines.length);
+        Assertions.assertEquals(task1.getId(), objectMapper.readValue(lines[0], TaskResponse.class).getId());
+        Assertions.assertEquals(task2.getId(), objectMapper.readValue(lines[1], TaskResponse.class).getId());
+    }
+
+    @Test
+    @Order(16)
+    @DisplayName("Should answer a matching If-None-Match with 304 until tasks change")
+    void shouldServeRecentTasksConditionally() {
+        createTaskInDB("Task 1", "Description 1");
+
+        String etag = webTestClient.get().uri("/api/tasks")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().exists("ETag")
+                .expectHeader().valueEquals("Cache-Control", "no-cache")
+                .returnResult(byte[].class).getResponseHeaders().getFirst("ETag");
+
+        webTestClient.get().uri("/api/tasks").header("If-None-Match", etag)
+                .exchange()
+                .expectStatus().isNotModified()
+                .expectBody().isEmpty();
+
+        webTestClient.post().uri("/api/tasks")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new TaskCreateRequest("Task 2", "Description 2"))
+                .exchange()
+                .expectStatus().isCreated();
+
+        webTestClient.get().uri("/api/tasks").header("If-None-Match", etag)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().value("ETag", not(etag))
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(2)
+                .jsonPath("$[0].title").isEqualTo("Task 2");
+    }
+
+    @Test
+    @Order(17)
+    @DisplayName("Should stream committed task changes as server-sent events")
+    void shouldStreamTaskChanges() {
+        FluxExchangeResult<ServerSentEvent<String>> stream = webTestClient.get().uri("/api/tasks/stream")
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals("X-Accel-Buffering", "no")
+                .returnResult(new ParameterizedTypeReference<>() {});
+
+        webTestClient.post().uri("/api/tasks")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new TaskCreateRequest("Streamed", "Description"))
+                .exchange()
+                .expectStatus().isCreated();
+
+        ServerSentEvent<String> created = stream.getResponseBody()
+                .filter(event -> "created".equals(event.event()))
+                .blockFirst(Duration.ofSeconds(5));
+        Assertions.assertNotNull(created);
+        Assertions.assertTrue(created.data().contains("\"title\":\"Streamed\""), created.data());
+    }
+
+    @Test
+    @Order(18)
+    @DisplayName("Should search tasks by relevance with a cursor")
+    void shouldSearchTasks() throws Exception {
+        createTaskInDB("Buy groceries", "Milk and bread");
+        createTaskInDB("Plan trip", "Pack groceries for the road");
+        createTaskInDB("Call plumber", "Kitchen sink");
+
+        byte[] body = webTestClient.get().uri("/api/tasks/search?q=groceries&size=1")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.tasks.length()").isEqualTo(1)
+                .jsonPath("$.tasks[0].title").isEqualTo("Buy groceries")
+                .jsonPath("$.nextCursor").isNotEmpty()
+                .jsonPath("$.truncated").isEqualTo(false)
+                .jsonPath("$.includesArchived").isEqualTo(false)
+                .returnResult().getResponseBody();
+        String cursor = objectMapper.readTree(body).get("nextCursor").asText();
+
+        webTestClient.get().uri(uri -> uri.path("/api/tasks/search")
+                        .queryParam("q", "groceries").queryParam("size", 1).queryParam("cursor", cursor).build())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.tasks.length()").isEqualTo(1)
+                .jsonPath("$.tasks[0].title").isEqualTo("Plan trip")
+                .jsonPath("$.nextCursor").doesNotExist();
+
+        webTestClient.get().uri(uri -> uri.path("/api/tasks/search")
+                        .queryParam("q", "{q}").build("\"kitchen sink\" -groceries"))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.tasks[*].title").value(contains("Call plumber"));
+
+        webTestClient.get().uri("/api/tasks/search?q= ")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    @Order(19)
+    @DisplayName("Should get tasks by id after they are archived")
+    void shouldGetArchivedTaskById() {
+        Task task = createTaskInDB("Archive me", "Completed long ago");
+        webTestClient.put().uri("/api/tasks/{id}/complete", task.getId())
+                .exchange()
+                .expectStatus().isOk();
+        LocalDateTime now = LocalDateTime.now();
+        transactionTemplate.executeWithoutResult(status ->
+                taskRepository.archiveCompletedBefore(now.plusMinutes(1), now, 100));
+
+        assertThat(taskRepository.findById(task.getId())).isEmpty();
+        webTestClient.get().uri("/api/tasks/{id}", task.getId())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.title").isEqualTo("Archive me")
+                .jsonPath("$.completed").isEqualTo(true);
+        webTestClient.put().uri("/api/tasks/{id}/complete", task.getId())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.completed").isEqualTo(true);
+        webTestClient.get().uri("/api/tasks/{id}", 999999L)
+                .exchange()
+                .expectStatus().isNotFound();
+
+        transactionTemplate.executeWithoutResult(status ->
+                taskRepository.deleteAllArchived(TaskCreateRequest.DEFAULT_OWNER));
+    }
+
+    @Test
+    @Order(20)
+    @DisplayName("Should create and read tasks as CBOR when asked for it")
+    void shouldNegotiateCbor() throws Exception {
+        ObjectMapper cborMapper = cborConverter.getObjectMapper();
+        TaskCreateRequest request = new TaskCreateRequest("CBOR task", "Sent and received as CBOR");
+
+        byte[] created = webTestClient.post().uri("/api/tasks")
+                .contentType(MediaType.APPLICATION_CBOR)
+                .accept(MediaType.APPLICATION_CBOR)
+                .bodyValue(cborMapper.writeValueAsBytes(request))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectHeader().contentType(MediaType.APPLICATION_CBOR)
+                .expectBody(byte[].class).returnResult().getResponseBody();
+        TaskResponse task = cborMapper.readValue(created, TaskResponse.class);
+        assertThat(task.getTitle()).isEqualTo("CBOR task");
+        assertThat(task.getCreatedAt()).isNotNull();
+
+        byte[] fetched = webTestClient.get().uri("/api/tasks/{id}", task.getId())
+                .accept(MediaType.APPLICATION_CBOR)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_CBOR)
+                .expectBody(byte[].class).returnResult().getResponseBody();
+        assertThat(cborMapper.readValue(fetched, TaskResponse.class)).isEqualTo(task);
+
+        byte[] recent = webTestClient.get().uri("/api/tasks")
+                .accept(MediaType.APPLICATION_CBOR)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_CBOR)
+                .expectHeader().values("Vary", hasItem("Accept"))
+                .expectBody(byte[].class).returnResult().getResponseBody();
+        assertThat(cborMapper.readValue(recent, TaskResponse[].class)).containsExactly(task);
+        webTestClient.get().uri("/api/tasks")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_JSON)
+                .expectBody()
+                .jsonPath("$[0].createdAt").value(instanceOf(String.class));
+    }
+
+    @Test
+    @Order(21)
+    @DisplayName("Should return errors as CBOR to CBOR callers")
+    void shouldReturnCborErrors() throws Exception {
+        ObjectMapper cborMapper = cborConverter.getObjectMapper();
+
+        byte[] invalid = webTestClient.post().uri("/api/tasks")
+                .contentType(MediaType.APPLICATION_CBOR)
+                .accept(MediaType.APPLICATION_CBOR)
+                .bodyValue(cborMapper.writeValueAsBytes(new TaskCreateRequest("", "Description")))
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectHeader().contentType(MediaType.APPLICATION_CBOR)
+                .expectBody(byte[].class).returnResult().getResponseBody();
+        assertThat(cborMapper.readTree(invalid).at("/errors/title").isMissingNode()).isFalse();
+
+        byte[] missing = webTestClient.get().uri("/api/tasks/{id}", 999999L)
+                .accept(MediaType.APPLICATION_CBOR)
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectHeader().contentType(MediaType.APPLICATION_CBOR)
+                .expectBody(byte[].class).returnResult().getResponseBody();
+        assertThat(cborMapper.readTree(missing).get("status").asInt()).isEqualTo(404);
+    }
+
+    @Test
+    @Order(22)
+    @DisplayName("Should keep each owner's tasks to its own list")
+    void shouldSeparateOwners() {
+        Task own = createTaskInDB("Default task", "Of the default owner");
+        webTestClient.post().uri("/api/tasks")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new TaskCreateRequest("Team task", "Of team-a", "team-a"))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody()
+                .jsonPath("$.owner").isEqualTo("team-a");
+
+        webTestClient.get().uri("/api/tasks?owner=team-a")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$[*].title").value(contains("Team task"));
+        webTestClient.get().uri("/api/tasks")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$[*].title").value(contains("Default task"));
+        webTestClient.get().uri("/api/tasks/{id}?owner=team-a", own.getId())
+                .exchange()
+                .expectStatus().isNotFound();
+        webTestClient.get().uri("/api/tasks?owner={owner}", "not an owner")
+                .exchange()
+                .expectStatus().isBadRequest();
+
+        webTestClient.delete().uri("/api/tasks?owner=team-a")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.deleted").isEqualTo(1);
+    }
+
+    /**
+     * Helper method to create a task in the database
+     */
+    private Task createTaskInDB(String title, String description) {
+        Task task = new Task();
+        task.setTitle(title);
+        task.setDescription(description);
+        task.setCompleted(false);
+        task.setOwner(TaskCreateRequest.DEFAULT_OWNER);
+        return taskRepository.save(task);
+    }
+}
@@ -0,0 +1,95 @@
+package com.todoapp.backend.controller;
+
+import com.todoapp.backend.config.ReplicaRoutingDataSource;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for ReadYourWritesFilter, observed through the connection
+ * ReplicaRoutingDataSource hands out while the chain runs.
+ */
+@DisplayName("ReadYourWritesFilter Unit Tests")
+class ReadYourWritesFilterTest {
+
+    private final Connection primary = mock(Connection.class);
+    private final Connection replica = mock(Connection.class);
+    private final ReplicaRoutingDataSource routing =
+            new ReplicaRoutingDataSource(dataSource(primary), List.of(dataSource(replica)), Duration.ZERO);
+    private final ReadYourWritesFilter filter = new ReadYourWritesFilter(Duration.ofSeconds(5));
+
+    @Test
+    @DisplayName("Should pin a write to the primary and set the read-your-writes cookie")
+    void doFilter_ForWrite_ShouldPinAndSetCookie() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        Connection connection = connectionDuringChain(new MockHttpServletRequest("POST", "/api/tasks"), response);
+
+        assertThat(connection).isSameAs(primary);
+        assertThat(response.getHeader(HttpHeaders.SET_COOKIE))
+                .startsWith(ReadYourWritesFilter.COOKIE_NAME + "=")
+                .contains("Max-Age=5", "HttpOnly");
+    }
+
+    @Test
+    @DisplayName("Should pin a read carrying an unexpired cookie to the primary")
+    void doFilter_ForReadAfterWrite_ShouldPin() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/tasks");
+        request.setCookies(new Cookie(ReadYourWritesFilter.COOKIE_NAME,
+                Long.toString(System.currentTimeMillis() + 5000)));
+
+        assertThat(connectionDuringChain(request, new MockHttpServletResponse())).isSameAs(primary);
+    }
+
+    @Test
+    @DisplayName("Should send other reads to a replica and unpin after the request")
+    void doFilter_ForPlainRead_ShouldUseReplica() throws Exception {
+        MockHttpServletRequest expired = new MockHttpServletRequest("GET", "/api/tasks");
+        expired.setCookies(new Cookie(ReadYourWritesFilter.COOKIE_NAME,
+                Long.toString(System.currentTimeMillis() - 1)));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertThat(connectionDuringChain(expired, response)).isSameAs(replica);
+        assertThat(response.getHeader(HttpHeaders.SET_COOKIE)).isNull();
+
+        connectionDuringChain(new MockHttpServletRequest("PUT", "/api/tasks/1/complete"), response);
+        assertThat(routing.getConnection()).isSameAs(replica);
+    }
+
+    private Connection connectionDuringChain(MockHttpServletRequest request, MockHttpServletResponse response)
+            throws Exception {
+        AtomicReference<Connection> connection = new AtomicReference<>();
+        filter.doFilter(request, response, (req, res) -> {
+            try {
+                connection.set(routing.getConnection());
+            } catch (SQLException ex) {
+                throw new IllegalStateException(ex);
+            }
+        });
+        return connection.get();
+    }
+
+    private static DataSource dataSource(Connection connection) {
+        DataSource dataSource = mock(DataSource.class);
+        try {
+            when(dataSource.getConnection()).thenReturn(connection);
+        } catch (SQLException ex) {
+            throw new IllegalStateException(ex);
+        }
+        return dataSource;
+    }
+}
@@ -1,6 +1,7 @@
 package com.todoapp.backend.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.todoapp.backend.dto.TaskBulkCompleteRequest;
 import com.todoapp.backend.dto.TaskCreateRequest;
 import com.todoapp.backend.dto.TaskResponse;
 import com.todoapp.backend.entity.Task;
@@ -11,15 +12,20 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
 import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.testcontainers.containers.PostgreSQLContainer;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 import org.testcontainers.utility.DockerImageName;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 import static org.hamcrest.Matchers.*;
@@ -51,6 +57,12 @@ class TaskControllerIntegrationTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MappingJackson2CborHttpMessageConverter cborConverter;
+
     @BeforeAll
     static void beforeAll() {
         postgresContainer.start();
@@ -193,6 +205,329 @@ class TaskControllerIntegrationTest {
                 .andExpect(content().string("Task API is running"));
     }
 
+    @Test
+    @Order(10)
+    @DisplayName("Should create a batch of tasks in request order")
+    void shouldCreateTaskBatch() throws Exception {
+        List<TaskCreateRequest> requests = List.of(
+            new TaskCreateRequest("Batch 1", "First"),
+            new TaskCreateRequest("Batch 2", "Second"),
+            new TaskCreateRequest("Batch 3", "Third"));
+
+        mockMvc.perform(post("/api/tasks/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(requests)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$", hasSize(3)))
+                .andExpect(jsonPath("$[0].title").value("Batch 1"))
+                .andExpect(jsonPath("$[2].title").value("Batch 3"))
+                .andExpect(jsonPath("$[*].id", everyItem(notNullValue())))
+                .andExpect(jsonPath("$[*].createdAt", everyItem(notNullValue())));
+    }
+
+    @Test
+    @Order(11)
+    @DisplayName("Should reject a batch when any item is invalid")
+    void shouldRejectInvalidTaskBatch() throws Exception {
+        List<TaskCreateRequest> requests = List.of(
+            new TaskCreateRequest("Valid", "Description"),
+            new TaskCreateRequest("", "Description"));
+
+        mockMvc.perform(post("/api/tasks/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(requests)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors['[1].title']").value("Title cannot be empty"));
+    }
+
+    @Test
+    @Order(12)
+    @DisplayName("Should bulk complete tasks and report missing ids")
+    void shouldBulkCompleteTasks() throws Exception {
+        Task task1 = createTaskInDB("Task 1", "Description 1");
+        Task task2 = createTaskInDB("Task 2", "Description 2");
+
+        mockMvc.perform(put("/api/tasks/complete")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(
+                    new TaskBulkCompleteRequest(List.of(task1.getId(), task2.getId(), 999999L), null))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.completedCount").value(2))
+                .andExpect(jsonPath("$.completed", hasSize(2)))
+                .andExpect(jsonPath("$.completed[*].completed", everyItem(is(true))))
+                .andExpect(jsonPath("$.notFound", contains(999999)));
+
+        mockMvc.perform(get("/api/tasks"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(0)));
+    }
+
+    @Test
+    @Order(13)
+    @DisplayName("Should delete all tasks and report the count")
+    void shouldDeleteAllTasks() throws Exception {
+        createTaskInDB("Task 1", "Description 1");
+        createTaskInDB("Task 2", "Description 2");
+        createTaskInDB("Task 3", "Description 3");
+
+        mockMvc.perform(delete("/api/tasks").param("chunkSize", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.deleted").value(3))
+                .andExpect(jsonPath("$.elapsedMillis").exists());
+
+        mockMvc.perform(delete("/api/tasks"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.deleted").value(0));
+    }
+
+    @Test
+    @Order(14)
+    @DisplayName("Should page through all tasks with a cursor")
+    void shouldPageThroughTasks() throws Exception {
+        for (int i = 1; i <= 3; i++) {
+            createTaskInDB("Task " + i, "Description " + i);
+        }
+
+        String body = mockMvc.perform(get("/api/tasks/page").param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.tasks", hasSize(2)))
+                .andExpect(jsonPath("$.tasks[0].title").value("Task 3"))
+                .andExpect(jsonPath("$.nextCursor").isNotEmpty())
+                .andReturn().getResponse().getContentAsString();
+        String cursor = objectMapper.readTree(body).get("nextCursor").asText();
+
+        mockMvc.perform(get("/api/tasks/page").param("size", "2").param("cursor", cursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.tasks", hasSize(1)))
+                .andExpect(jsonPath("$.tasks[0].title").value("Task 1"))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+
+        mockMvc.perform(get("/api/tasks/page").param("size", "101"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @Order(15)
+    @DisplayName("Should export all tasks as newline-delimited JSON")
+    void shouldExportTasksAsNdjson() throws Exception {
+        Task task1 = createTaskInDB("Task 1", "Description 1");
+        Task task2 = createTaskInDB("Task 2", "Description 2");
+
+        MvcResult result = mockMvc.perform(get("/api/tasks/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+
+        String[] lines = body.split("\n");
+        Assertions.assertEquals(2, lines.length);
+        Assertions.assertEquals(task1.getId(), objectMapper.readValue(lines[0], TaskResponse.class).getId());
+        Assertions.assertEquals(task2.getId(), objectMapper.readValue(lines[1], TaskResponse.class).getId());
+    }
+
+    @Test
+    @Order(16)
+    @DisplayName("Should answer a matching If-None-Match with 304 until tasks change")
+    void shouldServeRecentTasksConditionally() throws Exception {
+        createTaskInDB("Task 1", "Description 1");
+
+        String etag = mockMvc.perform(get("/api/tasks"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andExpect(header().string("Cache-Control", "no-cache"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/api/tasks").header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        mockMvc.perform(post("/api/tasks")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new TaskCreateRequest("Task 2", "Description 2"))))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(get("/api/tasks").header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", not(etag)))
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].title").value("Task 2"));
+    }
+
+    @Test
+    @Order(17)
+    @DisplayName("Should stream committed task changes as server-sent events")
+    void shouldStreamTaskChanges() throws Exception {
+        MvcResult stream = mockMvc.perform(get("/api/tasks/stream"))
+                .andExpect(request().asyncStarted())
+                .andExpect(header().string("X-Accel-Buffering", "no"))
+                .andReturn();
+
+        mockMvc.perform(post("/api/tasks")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new TaskCreateRequest("Streamed", "Description"))))
+                .andExpect(status().isCreated());
+
+        long deadline = System.currentTimeMillis() + 5000;
+        String events = stream.getResponse().getContentAsString();
+        while (!events.contains("event:created") && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            events = stream.getResponse().getContentAsString();
+        }
+        Assertions.assertTrue(events.contains("event:created"), events);
+        Assertions.assertTrue(events.contains("\"title\":\"Streamed\""), events);
+    }
+
+    @Test
+    @Order(18)
+    @DisplayName("Should search tasks by relevance with a cursor")
+    void shouldSearchTasks() throws Exception {
+        createTaskInDB("Buy groceries", "Milk and bread");
+        createTaskInDB("Plan trip", "Pack groceries for the road");
+        createTaskInDB("Call plumber", "Kitchen sink");
+
+        String body = mockMvc.perform(get("/api/tasks/search").param("q", "groceries").param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.tasks", hasSize(1)))
+                .andExpect(jsonPath("$.tasks[0].title").value("Buy groceries"))
+                .andExpect(jsonPath("$.nextCursor").isNotEmpty())
+                .andExpect(jsonPath("$.truncated").value(false))
+                .andExpect(jsonPath("$.includesArchived").value(false))
+                .andReturn().getResponse().getContentAsString();
+        String cursor = objectMapper.readTree(body).get("nextCursor").asText();
+
+        mockMvc.perform(get("/api/tasks/search").param("q", "groceries").param("size", "1").param("cursor", cursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.tasks", hasSize(1)))
+                .andExpect(jsonPath("$.tasks[0].title").value("Plan trip"))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+
+        mockMvc.perform(get("/api/tasks/search").param("q", "\"kitchen sink\" -groceries"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.tasks[*].title", contains("Call plumber")));
+
+        mockMvc.perform(get("/api/tasks/search").param("q", " "))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @Order(19)
+    @DisplayName("Should get tasks by id after they are archived")
+    void shouldGetArchivedTaskById() throws Exception {
+        Task task = createTaskInDB("Archive me", "Completed long ago");
+        mockMvc.perform(put("/api/tasks/{id}/complete", task.getId()))
+                .andExpect(status().isOk());
+        LocalDateTime now = LocalDateTime.now();
+        transactionTemplate.executeWithoutResult(status ->
+                taskRepository.archiveCompletedBefore(now.plusMinutes(1), now, 100));
+
+        assertThat(taskRepository.findById(task.getId())).isEmpty();
+        mockMvc.perform(get("/api/tasks/{id}", task.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("Archive me"))
+                .andExpect(jsonPath("$.completed").value(true));
+        mockMvc.perform(put("/api/tasks/{id}/complete", task.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.completed").value(true));
+        mockMvc.perform(get("/api/tasks/{id}", 999999L))
+                .andExpect(status().isNotFound());
+
+        transactionTemplate.executeWithoutResult(status ->
+                taskRepository.deleteAllArchived(TaskCreateRequest.DEFAULT_OWNER));
+    }
+
+    @Test
+    @Order(20)
+    @DisplayName("Should create and read tasks as CBOR when asked for it")
+    void shouldNegotiateCbor() throws Exception {
+        ObjectMapper cborMapper = cborConverter.getObjectMapper();
+        TaskCreateRequest request = new TaskCreateRequest("CBOR task", "Sent and received as CBOR");
+
+        MvcResult created = mockMvc.perform(post("/api/tasks")
+                        .contentType(MediaType.APPLICATION_CBOR)
+                        .accept(MediaType.APPLICATION_CBOR)
+                        .content(cborMapper.writeValueAsBytes(request)))
+                .andExpect(status().isCreated())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn();
+        TaskResponse task = cborMapper.readValue(created.getResponse().getContentAsByteArray(), TaskResponse.class);
+        assertThat(task.getTitle()).isEqualTo("CBOR task");
+        assertThat(task.getCreatedAt()).isNotNull();
+
+        MvcResult fetched = mockMvc.perform(get("/api/tasks/{id}", task.getId()).accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn();
+        assertThat(cborMapper.readValue(fetched.getResponse().getContentAsByteArray(), TaskResponse.class))
+                .isEqualTo(task);
+
+        MvcResult recent = mockMvc.perform(get("/api/tasks").accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andExpect(header().stringValues("Vary", hasItem("Accept")))
+                .andReturn();
+        assertThat(cborMapper.readValue(recent.getResponse().getContentAsByteArray(), TaskResponse[].class))
+                .containsExactly(task);
+        mockMvc.perform(get("/api/tasks"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$[0].createdAt").isString());
+    }
+
+    @Test
+    @Order(21)
+    @DisplayName("Should return errors as CBOR to CBOR callers")
+    void shouldReturnCborErrors() throws Exception {
+        ObjectMapper cborMapper = cborConverter.getObjectMapper();
+
+        MvcResult invalid = mockMvc.perform(post("/api/tasks")
+                        .contentType(MediaType.APPLICATION_CBOR)
+                        .accept(MediaType.APPLICATION_CBOR)
+                        .content(cborMapper.writeValueAsBytes(new TaskCreateRequest("", "Description"))))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn();
+        assertThat(cborMapper.readTree(invalid.getResponse().getContentAsByteArray()).at("/errors/title").isMissingNode())
+                .isFalse();
+
+        MvcResult missing = mockMvc.perform(get("/api/tasks/{id}", 999999L).accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isNotFound())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn();
+        assertThat(cborMapper.readTree(missing.getResponse().getContentAsByteArray()).get("status").asInt())
+                .isEqualTo(404);
+    }
+
+    @Test
+    @Order(22)
+    @DisplayName("Should keep each owner's tasks to its own list")
+    void shouldSeparateOwners() throws Exception {
+        Task own = createTaskInDB("Default task", "Of the default owner");
+        mockMvc.perform(post("/api/tasks")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new TaskCreateRequest("Team task", "Of team-a", "team-a"))))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.owner").value("team-a"));
+
+        mockMvc.perform(get("/api/tasks").param("owner", "team-a"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].title", contains("Team task")));
+        mockMvc.perform(get("/api/tasks"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].title", contains("Default task")));
+        mockMvc.perform(get("/api/tasks/{id}", own.getId()).param("owner", "team-a"))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/tasks").param("owner", "not an owner"))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(delete("/api/tasks").param("owner", "team-a"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.deleted").value(1));
+    }
+
     /**
      * Helper method to create a task in the database
      */
@@ -201,6 +536,7 @@ class TaskControllerIntegrationTest {
         task.setTitle(title);
         task.setDescription(description);
         task.setCompleted(false);
+        task.setOwner(TaskCreateRequest.DEFAULT_OWNER);
         return taskRepository.save(task);
     }
 }
@@ -0,0 +1,144 @@
+package com.todoapp.backend.controller;
+
+import com.todoapp.backend.dto.TaskResponse;
+import com.todoapp.backend.event.TaskChangedEvent;
+import com.todoapp.backend.event.TaskEventBroadcaster;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Opens GET /api/tasks/stream over real sockets with more clients that never
+ * read than there are dispatch threads, plus one client that reads, publishes
+ * events too large for the socket buffers and checks that the reading client
+ * still receives all of them while the stalled clients are evicted.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:stream-test;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.show_sql=false",
+        "todo.events.dispatch-threads=2",
+        "todo.events.buffer-size=1000",
+        "todo.events.send-timeout=500ms",
+        // Longer than the test, so only the send timeout can free the stalled clients.
+        "server.tomcat.connection-timeout=5m"})
+@DisplayName("Task stream endpoint Tests")
+class TaskStreamEndpointTest {
+
+    private static final String OWNER = "stream-test";
+    private static final int STALLED_CLIENTS = 4;
+    private static final int EVENTS = 40;
+    // About 200 KB of JSON per event, 8 MB per client in total.
+    private static final int TASKS_PER_EVENT = 1000;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TaskEventBroadcaster broadcaster;
+
+    private final List<Socket> sockets = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() throws IOException {
+        for (Socket socket : sockets) {
+            socket.close();
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep streaming to a reading client while more clients stall than there are dispatch threads")
+    void stream_ShouldNotStallOnClientsThatStopReading() throws Exception {
+        for (int i = 0; i < STALLED_CLIENTS; i++) {
+            subscribe();
+        }
+        Socket reader = subscribe();
+        CompletableFuture<Integer> received = CompletableFuture.supplyAsync(() -> countCreatedEvents(reader));
+        awaitSubscribers(STALLED_CLIENTS + 1);
+
+        List<TaskResponse> tasks = LongStream.range(0, TASKS_PER_EVENT).mapToObj(TaskStreamEndpointTest::task).toList();
+        for (int i = 0; i < EVENTS; i++) {
+            broadcaster.onTaskChanged(TaskChangedEvent.created(OWNER, tasks));
+        }
+
+        // Without the send timeout the stalled clients hold both dispatch threads until the test ends.
+        assertThat(received.get(30, TimeUnit.SECONDS)).isEqualTo(EVENTS);
+        // The reader may finish before every stalled send has reached the timeout.
+        awaitEvictions(STALLED_CLIENTS);
+    }
+
+    private Socket subscribe() throws IOException {
+        Socket socket = new Socket();
+        sockets.add(socket);
+        // A small receive window so that the server's writes block soon.
+        socket.setReceiveBufferSize(4096);
+        socket.connect(new InetSocketAddress("localhost", port));
+        OutputStream out = socket.getOutputStream();
+        out.write(("GET /api/tasks/stream?owner=" + OWNER + " HTTP/1.1\r\nHost: localhost\r\n"
+                + "Accept: text/event-stream\r\n\r\n").getBytes(StandardCharsets.US_ASCII));
+        out.flush();
+        return socket;
+    }
+
+    private int countCreatedEvents(Socket socket) {
+        int events = 0;
+        try {
+            BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+            String line;
+            while (events < EVENTS && (line = reader.readLine()) != null) {
+                if (line.equals("event:created")) {
+                    events++;
+                }
+            }
+        } catch (IOException ex) {
+            // Closed before every event arrived.
+        }
+        return events;
+    }
+
+    private void awaitSubscribers(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (broadcaster.getSubscriberCount() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(broadcaster.getSubscriberCount()).isEqualTo(expected);
+    }
+
+    private void awaitEvictions(long expected) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (broadcaster.getEvictionCount() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(broadcaster.getEvictionCount()).isEqualTo(expected);
+    }
+
+    private static TaskResponse task(long id) {
+        LocalDateTime now = LocalDateTime.now();
+        return new TaskResponse(id, "Streamed task " + id, "Published by the stream endpoint test "
+                + "to fill the socket buffers of clients that stopped reading", false, now, now, OWNER);
+    }
+}
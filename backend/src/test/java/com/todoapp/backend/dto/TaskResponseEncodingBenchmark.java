@@ -0,0 +1,70 @@
+package com.todoapp.backend.dto;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.todoapp.backend.config.CborConfiguration;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writing and reading a task list as JSON and as CBOR, with the mappers the
+ * application uses for each. Prints the encoded size of each list once per trial.
+ * 5 tasks is the GET /api/tasks response; 100 is the largest page.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TaskResponseEncodingBenchmark {
+
+    @Param({"json", "cbor"})
+    private String format;
+
+    @Param({"5", "100"})
+    private int size;
+
+    private ObjectWriter writer;
+    private ObjectReader reader;
+    private List<TaskResponse> tasks;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() throws IOException {
+        // Same settings as the ObjectMapper Spring Boot configures for the application.
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        ObjectMapper mapper = format.equals("cbor")
+                ? new CborConfiguration().cborHttpMessageConverter(builder).getObjectMapper()
+                : builder.build();
+        writer = mapper.writerFor(List.class);
+        reader = mapper.readerFor(TaskResponse[].class);
+        tasks = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+        for (long id = 1; id <= size; id++) {
+            tasks.add(new TaskResponse(id, "Task " + id, "Description of task " + id, false,
+                    now.minusSeconds(id), now.minusSeconds(id), TaskCreateRequest.DEFAULT_OWNER));
+        }
+        encoded = writer.writeValueAsBytes(tasks);
+        System.out.printf("%n%s, %d tasks: %d bytes%n", format, size, encoded.length);
+    }
+
+    @Benchmark
+    public byte[] writeTaskList() throws IOException {
+        return writer.writeValueAsBytes(tasks);
+    }
+
+    @Benchmark
+    public TaskResponse[] readTaskList() throws IOException {
+        return reader.readValue(encoded);
+    }
+}
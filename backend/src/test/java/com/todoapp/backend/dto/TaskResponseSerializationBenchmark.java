@@ -0,0 +1,51 @@
+package com.todoapp.backend.dto;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of writing a task list as JSON, including ISO LocalDateTime formatting.
+ * 5 tasks is the GET /api/tasks response; 100 is the largest page.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TaskResponseSerializationBenchmark {
+
+    @Param({"5", "100"})
+    private int size;
+
+    private ObjectWriter writer;
+    private List<TaskResponse> tasks;
+
+    @Setup
+    public void setUp() {
+        // Same date handling as the ObjectMapper Spring Boot configures for the application.
+        writer = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build()
+                .writerFor(List.class);
+        tasks = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+        for (long id = 1; id <= size; id++) {
+            tasks.add(new TaskResponse(id, "Task " + id, "Description of task " + id, false,
+                    now.minusSeconds(id), now.minusSeconds(id), TaskCreateRequest.DEFAULT_OWNER));
+        }
+    }
+
+    @Benchmark
+    public byte[] writeTaskList() throws JsonProcessingException {
+        return writer.writeValueAsBytes(tasks);
+    }
+}
@@ -0,0 +1,240 @@
+package com.todoapp.backend.event;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.todoapp.backend.dto.TaskResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Drives TaskEventBroadcaster with thousands of in-memory subscribers,
+ * including ones that stall or fail, and checks that every healthy subscriber
+ * receives every event in order while publishing never waits on a client.
+ */
+@DisplayName("TaskEventBroadcaster Tests")
+class TaskEventBroadcasterTest {
+
+    private static final int SUBSCRIBERS = 5_000;
+    private static final int EVENTS = 100;
+    private static final int BUFFER_SIZE = 32;
+    private static final String OWNER = "default";
+    private static final Duration SEND_TIMEOUT = Duration.ofSeconds(5);
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private TaskEventBroadcaster broadcaster;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        broadcaster.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should deliver every event in order to thousands of subscribers and evict a stalled one")
+    void onTaskChanged_ShouldFanOutAndEvictSlowConsumer() throws InterruptedException {
+        broadcaster = new TaskEventBroadcaster(objectMapper, BUFFER_SIZE, 4, Duration.ofHours(1), SEND_TIMEOUT, 64);
+        CountDownLatch delivered = new CountDownLatch(SUBSCRIBERS);
+        List<RecordingSink> sinks = new ArrayList<>();
+        for (int i = 0; i < SUBSCRIBERS; i++) {
+            RecordingSink sink = new RecordingSink(delivered);
+            sinks.add(sink);
+            broadcaster.subscribe(OWNER, sink);
+        }
+        StalledSink stalled = new StalledSink();
+        broadcaster.subscribe(OWNER, stalled);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < EVENTS; i++) {
+            broadcaster.onTaskChanged(TaskChangedEvent.created(task(i)));
+        }
+        long publishMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assertThat(delivered.await(30, TimeUnit.SECONDS)).isTrue();
+        assertThat(sinks).allSatisfy(sink -> {
+            assertThat(sink.received.get()).isEqualTo(EVENTS);
+            assertThat(sink.outOfOrder.get()).isZero();
+        });
+        assertThat(stalled.closed.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(broadcaster.getSubscriberCount()).isEqualTo(SUBSCRIBERS);
+        assertThat(broadcaster.getEvictionCount()).isEqualTo(1);
+        // Publishing is queueing only; a stalled client must not hold it up.
+        assertThat(publishMillis).isLessThan(10_000);
+    }
+
+    @Test
+    @DisplayName("Should keep delivering when more clients stall than there are dispatch threads")
+    void onTaskChanged_ShouldEvictStalledSendsAndKeepDelivering() throws InterruptedException {
+        int stalledCount = 4;
+        int healthyCount = 100;
+        // Room for every event, so stalled subscribers are evicted by the send timeout, not the buffer.
+        broadcaster = new TaskEventBroadcaster(objectMapper, EVENTS * 2, 2, Duration.ofHours(1),
+                Duration.ofMillis(200), 64);
+        List<StalledSink> stalled = new ArrayList<>();
+        for (int i = 0; i < stalledCount; i++) {
+            StalledSink sink = new StalledSink();
+            stalled.add(sink);
+            broadcaster.subscribe(OWNER, sink);
+        }
+        CountDownLatch delivered = new CountDownLatch(healthyCount);
+        List<RecordingSink> sinks = new ArrayList<>();
+        for (int i = 0; i < healthyCount; i++) {
+            RecordingSink sink = new RecordingSink(delivered);
+            sinks.add(sink);
+            broadcaster.subscribe(OWNER, sink);
+        }
+
+        for (int i = 0; i < EVENTS; i++) {
+            broadcaster.onTaskChanged(TaskChangedEvent.created(task(i)));
+        }
+
+        // The stalled sends are never released during the test.
+        assertThat(delivered.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(sinks).allSatisfy(sink -> assertThat(sink.received.get()).isEqualTo(EVENTS));
+        for (StalledSink sink : stalled) {
+            assertThat(sink.closed.await(5, TimeUnit.SECONDS)).isTrue();
+        }
+        assertThat(broadcaster.getEvictionCount()).isEqualTo(stalledCount);
+        assertThat(broadcaster.getSubscriberCount()).isEqualTo(healthyCount);
+    }
+
+    @Test
+    @DisplayName("Should drop subscribers that cancel or whose connection fails")
+    void subscribe_ShouldRemoveCancelledAndFailedSubscribers() throws InterruptedException {
+        broadcaster = new TaskEventBroadcaster(objectMapper, BUFFER_SIZE, 2, Duration.ofHours(1), SEND_TIMEOUT, 64);
+        TaskEventBroadcaster.Subscription cancelled =
+                broadcaster.subscribe(OWNER, new RecordingSink(new CountDownLatch(1)));
+        CountDownLatch failed = new CountDownLatch(1);
+        broadcaster.subscribe(OWNER, new RecordingSink(new CountDownLatch(1)) {
+            @Override
+            public void send(long id, String name, String data) throws IOException {
+                failed.countDown();
+                throw new IOException("Broken pipe");
+            }
+        });
+
+        cancelled.cancel();
+        broadcaster.onTaskChanged(TaskChangedEvent.deletedAll(OWNER));
+
+        assertThat(failed.await(5, TimeUnit.SECONDS)).isTrue();
+        awaitSubscriberCount(0);
+        assertThat(broadcaster.getEvictionCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should deliver events only to subscribers of the same owner")
+    void onTaskChanged_ShouldNotReachOtherOwners() throws InterruptedException {
+        broadcaster = new TaskEventBroadcaster(objectMapper, BUFFER_SIZE, 1, Duration.ofHours(1), SEND_TIMEOUT, 64);
+        List<String> names = new CopyOnWriteArrayList<>();
+        CountDownLatch deleted = new CountDownLatch(1);
+        broadcaster.subscribe("team-a", new RecordingSink(new CountDownLatch(1)) {
+            @Override
+            public void send(long id, String name, String data) {
+                names.add(name);
+                deleted.countDown();
+            }
+        });
+
+        broadcaster.onTaskChanged(TaskChangedEvent.created(task(1)));
+        broadcaster.onTaskChanged(TaskChangedEvent.deletedAll("team-a"));
+
+        assertThat(deleted.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(names).containsExactly("deleted");
+    }
+
+    @Test
+    @DisplayName("Should send heartbeats to idle subscribers")
+    void heartbeat_ShouldReachIdleSubscribers() throws InterruptedException {
+        broadcaster = new TaskEventBroadcaster(objectMapper, BUFFER_SIZE, 1, Duration.ofMillis(20), SEND_TIMEOUT, 64);
+        CountDownLatch heartbeats = new CountDownLatch(3);
+        broadcaster.subscribe(OWNER, new RecordingSink(new CountDownLatch(1)) {
+            @Override
+            public void heartbeat() {
+                heartbeats.countDown();
+            }
+        });
+
+        assertThat(heartbeats.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    private void awaitSubscriberCount(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (broadcaster.getSubscriberCount() != expected && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(broadcaster.getSubscriberCount()).isEqualTo(expected);
+    }
+
+    private static TaskResponse task(long id) {
+        LocalDateTime now = LocalDateTime.now();
+        return new TaskResponse(id, "Task " + id, "Description", false, now, now, OWNER);
+    }
+
+    private static class RecordingSink implements TaskEventBroadcaster.Sink {
+
+        final AtomicInteger received = new AtomicInteger();
+        final AtomicInteger outOfOrder = new AtomicInteger();
+        private final CountDownLatch done;
+        private long lastId;
+
+        RecordingSink(CountDownLatch done) {
+            this.done = done;
+        }
+
+        @Override
+        public void send(long id, String name, String data) throws IOException {
+            if (id <= lastId || !"created".equals(name) || !data.startsWith("[{")) {
+                outOfOrder.incrementAndGet();
+            }
+            lastId = id;
+            if (received.incrementAndGet() == EVENTS) {
+                done.countDown();
+            }
+        }
+
+        @Override
+        public void heartbeat() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    private class StalledSink implements TaskEventBroadcaster.Sink {
+
+        final CountDownLatch closed = new CountDownLatch(1);
+
+        @Override
+        public void send(long id, String name, String data) {
+            try {
+                release.await();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @Override
+        public void heartbeat() {
+        }
+
+        @Override
+        public void close() {
+            closed.countDown();
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.todoapp.backend.exception;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.todoapp.backend.controller.TaskController;
+import com.todoapp.backend.dto.TaskCreateRequest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of building the error body in GlobalExceptionHandler for a 404, a 400 and
+ * a failed @Valid create request with two field errors. The handler's logging is
+ * switched off so the score covers body construction only.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ErrorResponseBenchmark {
+
+    private GlobalExceptionHandler handler;
+    private WebRequest request;
+    private ResourceNotFoundException notFound;
+    private BadRequestException badRequest;
+    private MethodArgumentNotValidException invalidCreate;
+
+    @Setup
+    public void setUp() {
+        ((Logger) LoggerFactory.getLogger(GlobalExceptionHandler.class)).setLevel(Level.OFF);
+        handler = new GlobalExceptionHandler(new SimpleMeterRegistry());
+        request = new ServletWebRequest(new MockHttpServletRequest("PUT", "/api/tasks/42/complete"));
+        notFound = new ResourceNotFoundException("Task", 42L);
+        badRequest = new BadRequestException("Invalid cursor: abc");
+        TaskCreateRequest body = new TaskCreateRequest("", "x".repeat(600));
+        BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(body, "taskCreateRequest");
+        bindingResult.rejectValue("title", "NotBlank", "Title cannot be empty");
+        bindingResult.rejectValue("description", "Size", "Description must be at most 500 characters");
+        invalidCreate = new MethodArgumentNotValidException(
+                new MethodParameter(createTaskMethod(), 0), bindingResult);
+    }
+
+    @Benchmark
+    public ResponseEntity<ErrorResponse> notFound() {
+        return handler.handleResourceNotFoundException(notFound, request);
+    }
+
+    @Benchmark
+    public ResponseEntity<ErrorResponse> badRequest() {
+        return handler.handleBadRequestException(badRequest, request);
+    }
+
+    @Benchmark
+    public ResponseEntity<Map<String, Object>> validationError() {
+        return handler.handleValidationExceptions(invalidCreate, request);
+    }
+
+    private static Method createTaskMethod() {
+        try {
+            return TaskController.class.getMethod("createTask", TaskCreateRequest.class);
+        } catch (NoSuchMethodException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
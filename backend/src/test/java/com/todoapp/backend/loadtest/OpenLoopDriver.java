@@ -0,0 +1,161 @@
+package com.todoapp.backend.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Sends requests at a fixed arrival rate regardless of how fast responses come
+ * back (open loop), picking endpoints at random by weight. Latency is measured
+ * from each request's scheduled send time, so time spent queued behind a slow
+ * server or a lagging sender counts against it instead of being hidden
+ * (coordinated omission).
+ */
+class OpenLoopDriver {
+
+    private static final long HIGHEST_LATENCY_MICROS = TimeUnit.MINUTES.toMicros(5);
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    @RequiredArgsConstructor
+    @Getter
+    enum Endpoint {
+        CREATE("POST /api/tasks"),
+        LIST("GET /api/tasks"),
+        COMPLETE("PUT /api/tasks/{id}/complete");
+
+        private final String label;
+    }
+
+    /**
+     * Latencies of successful requests in microseconds, plus the failed request count.
+     */
+    @Getter
+    static class EndpointResult {
+        private final Histogram latencies = new ConcurrentHistogram(HIGHEST_LATENCY_MICROS, 3);
+        private final AtomicLong errors = new AtomicLong();
+    }
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final URI baseUri;
+    private final Map<Endpoint, Integer> mix;
+    private final int totalWeight;
+    private final Queue<Long> activeIds;
+    private final Random random = new Random(42);
+
+    /**
+     * @param baseUri URI of the task API, e.g. http://localhost:8080/api/tasks
+     * @param mix Relative weight of each endpoint
+     * @param activeIds Ids of active tasks; completes take from it and creates add to it
+     */
+    OpenLoopDriver(URI baseUri, Map<Endpoint, Integer> mix, Queue<Long> activeIds) {
+        this.baseUri = baseUri;
+        this.mix = mix;
+        this.totalWeight = mix.values().stream().mapToInt(Integer::intValue).sum();
+        this.activeIds = activeIds;
+    }
+
+    /**
+     * Runs one step at the given rate and waits for every request sent to finish.
+     * @param rate Requests per second
+     * @param duration How long to send for
+     * @return Results per endpoint that received traffic
+     */
+    Map<Endpoint, EndpointResult> run(int rate, Duration duration) throws InterruptedException {
+        Map<Endpoint, EndpointResult> results = new EnumMap<>(Endpoint.class);
+        for (Endpoint endpoint : Endpoint.values()) {
+            results.put(endpoint, new EndpointResult());
+        }
+        AtomicLong inFlight = new AtomicLong();
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / rate;
+        long requests = duration.toNanos() / intervalNanos;
+        long start = System.nanoTime();
+
+        for (long i = 0; i < requests; i++) {
+            long scheduled = start + i * intervalNanos;
+            long wait;
+            while ((wait = scheduled - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            Long id = null;
+            Endpoint endpoint = pick();
+            if (endpoint == Endpoint.COMPLETE && (id = activeIds.poll()) == null) {
+                endpoint = Endpoint.LIST;
+            }
+            EndpointResult result = results.get(endpoint);
+            Endpoint sent = endpoint;
+            inFlight.incrementAndGet();
+            client.sendAsync(request(endpoint, id), HttpResponse.BodyHandlers.ofString())
+                    .whenComplete((response, ex) -> {
+                        long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - scheduled);
+                        if (ex != null || response.statusCode() >= 400) {
+                            result.errors.incrementAndGet();
+                        } else {
+                            result.latencies.recordValue(Math.min(micros, HIGHEST_LATENCY_MICROS));
+                            if (sent == Endpoint.CREATE) {
+                                rememberCreated(response.body());
+                            }
+                        }
+                        inFlight.decrementAndGet();
+                    });
+        }
+
+        long deadline = System.nanoTime() + REQUEST_TIMEOUT.toNanos();
+        while (inFlight.get() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        results.values().removeIf(result -> result.latencies.getTotalCount() == 0 && result.errors.get() == 0);
+        return results;
+    }
+
+    private Endpoint pick() {
+        int ticket = random.nextInt(totalWeight);
+        for (Map.Entry<Endpoint, Integer> entry : mix.entrySet()) {
+            ticket -= entry.getValue();
+            if (ticket < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalStateException("Empty endpoint mix");
+    }
+
+    private HttpRequest request(Endpoint endpoint, Long id) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder().timeout(REQUEST_TIMEOUT);
+        return switch (endpoint) {
+            case CREATE -> builder.uri(baseUri)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(
+                            "{\"title\":\"Load test task\",\"description\":\"Created by the load test\"}"))
+                    .build();
+            case LIST -> builder.uri(baseUri).GET().build();
+            case COMPLETE -> builder.uri(URI.create(baseUri + "/" + id + "/complete"))
+                    .PUT(HttpRequest.BodyPublishers.noBody())
+                    .build();
+        };
+    }
+
+    private void rememberCreated(String body) {
+        try {
+            activeIds.add(objectMapper.readTree(body).get("id").asLong());
+        } catch (Exception ex) {
+            // The create succeeded; the task just will not be completed later.
+        }
+    }
+}
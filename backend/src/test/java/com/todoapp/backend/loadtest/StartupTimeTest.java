@@ -0,0 +1,167 @@
+package com.todoapp.backend.loadtest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.condition.EnabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Startup time and memory of the packaged application: the executable jar as
+ * the Docker image ran it before, the extracted jar with Spring AOT, the same
+ * with the CDS archive. Each variant is started
+ * startuptest.runs times as a separate process with the prod profile the AOT
+ * builds are processed with, against the database from application.yaml (or
+ * SPRING_DATASOURCE_URL); prints the median and best time
+ * from launch until /api/tasks/health answers 200, and the median resident set
+ * size at that moment and after 200 GET /api/tasks.
+ *
+ * Skipped unless startuptest.runs is set. Build the variants first, then run
+ * with the same JDK that built the CDS archive:
+ * ./mvnw -Pcds package -DskipTests (jvm, aot, cds)
+ * ./mvnw test -Dtest=StartupTimeTest -Djacoco.skip=true -Dstartuptest.runs=5
+ * Variants whose files are missing are skipped.
+ */
+@EnabledIfSystemProperty(named = "startuptest.runs", matches = "\\d+")
+@EnabledOnOs(OS.LINUX)
+@DisplayName("Startup time Test")
+class StartupTimeTest {
+
+    private static final String ROW_FORMAT = "%-8s %14s %14s %14s %16s%n";
+    private static final String PROFILES = "prod";
+    private static final String JAR = "backend-0.0.1-SNAPSHOT.jar";
+    private static final String ARCHIVE = "backend.jsa";
+    private static final Path TARGET = Path.of("target");
+    private static final Path CDS = TARGET.resolve("cds");
+    private static final Duration TIMEOUT = Duration.ofSeconds(120);
+    private static final int REQUESTS = 200;
+
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+
+    @Test
+    @DisplayName("Should report time to healthy and resident memory per build")
+    void runStartupTimeTest() throws Exception {
+        int runs = Integer.getInteger("startuptest.runs");
+        String java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+        List<Build> builds = List.of(
+                new Build("jvm", TARGET, JAR, List.of(java, "-jar", JAR)),
+                new Build("aot", CDS, JAR, List.of(java, "-Dspring.aot.enabled=true", "-jar", JAR)),
+                // The archive records the class path relative to the directory of the training run.
+                new Build("cds", CDS, ARCHIVE, List.of(java, "-XX:SharedArchiveFile=" + ARCHIVE,
+                        "-Dspring.aot.enabled=true", "-jar", JAR)));
+
+        System.out.printf(ROW_FORMAT, "Build", "Healthy p50", "Healthy min", "RSS MB", "RSS MB loaded");
+        boolean measured = false;
+        for (Build build : builds) {
+            if (!build.exists()) {
+                System.out.printf(ROW_FORMAT, build.name(), "-", "-", "-", "-");
+                continue;
+            }
+            long[] millis = new long[runs];
+            long[] rss = new long[runs];
+            long[] loadedRss = new long[runs];
+            for (int run = 0; run < runs; run++) {
+                long[] result = start(build);
+                millis[run] = result[0];
+                rss[run] = result[1];
+                loadedRss[run] = result[2];
+            }
+            System.out.printf(ROW_FORMAT, build.name(), median(millis) + " ms",
+                    Arrays.stream(millis).min().getAsLong() + " ms", median(rss), median(loadedRss));
+            measured = true;
+        }
+        assertThat(measured).as("no build found under target/").isTrue();
+    }
+
+    /**
+     * Starts the build and stops it once measured.
+     * @return Milliseconds to healthy, RSS in MB when healthy and RSS in MB after the requests
+     */
+    private long[] start(Build build) throws IOException, InterruptedException {
+        int port = freePort();
+        List<String> arguments = new ArrayList<>(build.command());
+        arguments.add("--server.port=" + port);
+        arguments.add("--spring.profiles.active=" + PROFILES);
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(arguments)
+                .directory(build.directory().toFile())
+                .redirectErrorStream(true)
+                .redirectOutput(TARGET.resolve("startuptest.log").toFile())
+                .start();
+        try {
+            URI base = URI.create("http://localhost:" + port + "/api/tasks");
+            while (!isHealthy(base)) {
+                assertThat(process.isAlive()).as("exited, see target/startuptest.log").isTrue();
+                assertThat(System.nanoTime() - start).as("not healthy within " + TIMEOUT)
+                        .isLessThan(TIMEOUT.toNanos());
+                Thread.sleep(10);
+            }
+            long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            long rss = residentMegabytes(process);
+            for (int i = 0; i < REQUESTS; i++) {
+                client.send(HttpRequest.newBuilder(base).build(), HttpResponse.BodyHandlers.discarding());
+            }
+            return new long[] {millis, rss, residentMegabytes(process)};
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+            }
+        }
+    }
+
+    private boolean isHealthy(URI base) throws InterruptedException {
+        try {
+            HttpRequest request = HttpRequest.newBuilder(base.resolve("/api/tasks/health")).build();
+            return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200;
+        } catch (IOException ex) {
+            return false;
+        }
+    }
+
+    private static long residentMegabytes(Process process) throws IOException {
+        return Files.readAllLines(Path.of("/proc", String.valueOf(process.pid()), "status")).stream()
+                .filter(line -> line.startsWith("VmRSS:"))
+                .map(line -> Long.parseLong(line.replaceAll("\\D", "")) / 1024)
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    /**
+     * A command started in the given directory, measured when the file it runs exists there.
+     */
+    private record Build(String name, Path directory, String file, List<String> command) {
+
+        boolean exists() {
+            return Files.exists(directory.resolve(file));
+        }
+    }
+
+    private static long median(long[] values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+}
@@ -0,0 +1,264 @@
+package com.todoapp.backend.loadtest;
+
+import com.todoapp.backend.dto.TaskCreateRequest;
+import com.todoapp.backend.loadtest.OpenLoopDriver.Endpoint;
+import com.todoapp.backend.loadtest.OpenLoopDriver.EndpointResult;
+import com.todoapp.backend.repository.TaskBulkLoader;
+import com.zaxxer.hikari.HikariDataSource;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogWriter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Load test of the task API: boots the backend against the configured local
+ * database, seeds tasks, then drives each arrival rate in turn with a mix of
+ * creates, list reads and completes. Prints p50/p99/p99.9 and errors per
+ * endpoint and writes HdrHistogram output to target/loadtest/<timestamp>/:
+ * one .hgrm percentile file per rate and endpoint, and results.hlog with all
+ * histograms tagged endpoint@rate for comparing builds. On PostgreSQL also
+ * prints the database's committed transactions per second at each rate, and
+ * everywhere the heap after GC, RSS and peak threads of the JVM.
+ *
+ * Skipped unless loadtest.rates is set, e.g.
+ * ./mvnw test -Dtest=TaskApiLoadTest -Djacoco.skip=true -Dloadtest.rates=200,400,800
+ * Optional: loadtest.duration (30s), loadtest.warmup (10s), loadtest.seed (10000),
+ * loadtest.mix (create:10,list:80,complete:10), loadtest.commit-delay (e.g.
+ * 100ms; every commit sleeps this long first, simulating a database that has
+ * slowed down), spring.datasource.* to point at another database and
+ * spring.profiles.active=reactive (with spring.r2dbc.*) to measure the reactive
+ * stack. Seeded and created tasks are left in place, so use a scratch database
+ * when comparing runs.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        // Per-request and per-statement logging would dominate the measurement.
+        "logging.level.com.todoapp.backend=WARN",
+        "logging.level.org.hibernate.SQL=WARN",
+        "spring.jpa.properties.hibernate.show_sql=false"
+})
+@EnabledIfSystemProperty(named = "loadtest.rates", matches = ".+")
+@DisplayName("Task API Load Test")
+class TaskApiLoadTest {
+
+    private static final String ROW_FORMAT = "%-30s %8s %10s %8s %10s %10s %10s %10s%n";
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TaskBulkLoader taskBulkLoader;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * Hands Hikari a DataSource whose connections sleep loadtest.commit-delay
+     * before each commit, so every transaction holds its connection that much
+     * longer as it would on a slow disk.
+     */
+    @TestConfiguration
+    static class CommitDelayConfiguration {
+
+        @Bean
+        static BeanPostProcessor commitDelay(@Value("${loadtest.commit-delay:0ms}") Duration delay) {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                    if (bean instanceof HikariDataSource hikari && !delay.isZero()) {
+                        DataSource target = new DriverManagerDataSource(
+                                hikari.getJdbcUrl(), hikari.getUsername(), hikari.getPassword());
+                        hikari.setDataSource(new DelegatingDataSource(target) {
+                            @Override
+                            public Connection getConnection() throws SQLException {
+                                return delayCommits(super.getConnection(), delay);
+                            }
+
+                            @Override
+                            public Connection getConnection(String username, String password) throws SQLException {
+                                return delayCommits(super.getConnection(username, password), delay);
+                            }
+                        });
+                    }
+                    return bean;
+                }
+            };
+        }
+
+        private static Connection delayCommits(Connection connection, Duration delay) {
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                    new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+                        if (method.getName().equals("commit")) {
+                            Thread.sleep(delay.toMillis());
+                        }
+                        try {
+                            return method.invoke(connection, args);
+                        } catch (InvocationTargetException ex) {
+                            throw ex.getCause();
+                        }
+                    });
+        }
+    }
+
+    @Test
+    @DisplayName("Should report latency percentiles per endpoint at each arrival rate")
+    void runLoadTest() throws Exception {
+        int[] rates = Arrays.stream(System.getProperty("loadtest.rates").split(","))
+                .map(String::trim)
+                .mapToInt(Integer::parseInt)
+                .toArray();
+        Duration duration = Duration.parse("PT" + System.getProperty("loadtest.duration", "30s"));
+        Duration warmup = Duration.parse("PT" + System.getProperty("loadtest.warmup", "10s"));
+        int seed = Integer.getInteger("loadtest.seed", 10_000);
+        Map<Endpoint, Integer> mix = parseMix(System.getProperty("loadtest.mix", "create:10,list:80,complete:10"));
+
+        Queue<Long> activeIds = seed(seed);
+        OpenLoopDriver driver = new OpenLoopDriver(URI.create("http://localhost:" + port + "/api/tasks"), mix, activeIds);
+        if (!warmup.isZero()) {
+            System.out.printf("Warming up at %d req/s for %s%n", rates[0], warmup);
+            driver.run(rates[0], warmup);
+        }
+
+        Path outputDir = Path.of("target", "loadtest",
+                LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")));
+        Files.createDirectories(outputDir);
+        try (PrintStream log = new PrintStream(Files.newOutputStream(outputDir.resolve("results.hlog")))) {
+            HistogramLogWriter logWriter = new HistogramLogWriter(log);
+            logWriter.outputLogFormatVersion();
+            logWriter.outputLegend();
+
+            System.out.printf(ROW_FORMAT, "Endpoint", "Rate", "Requests", "Errors", "p50 ms", "p99 ms", "p99.9 ms", "max ms");
+            for (int rate : rates) {
+                Long commitsBefore = commitCount();
+                Map<Endpoint, EndpointResult> results = driver.run(rate, duration);
+                assertThat(results).isNotEmpty();
+                for (Map.Entry<Endpoint, EndpointResult> entry : results.entrySet()) {
+                    report(entry.getKey(), rate, entry.getValue(), outputDir, logWriter);
+                }
+                if (commitsBefore != null) {
+                    long commits = commitCount() - commitsBefore;
+                    System.out.printf("%-30s %8d %10d commits, %.0f/s%n", "(database)", rate, commits,
+                            commits / (duration.toMillis() / 1000.0));
+                }
+                reportMemory(rate);
+            }
+        }
+        System.out.println("Histograms written to " + outputDir.toAbsolutePath());
+    }
+
+    private Queue<Long> seed(int count) {
+        List<TaskCreateRequest> tasks = IntStream.range(0, count)
+                .mapToObj(i -> new TaskCreateRequest("Seeded task " + i, "Seeded by the load test"))
+                .toList();
+        transactionTemplate.executeWithoutResult(status ->
+                taskBulkLoader.load(TaskCreateRequest.DEFAULT_OWNER, tasks.iterator()));
+        // Newest first, so completes hit the tasks GET /api/tasks returns.
+        return new ConcurrentLinkedQueue<>(jdbcTemplate.queryForList(
+                "SELECT id FROM task WHERE completed = FALSE ORDER BY created_at DESC, id DESC LIMIT ?",
+                Long.class, count));
+    }
+
+    /**
+     * Transactions committed in the current database so far, or null when it is
+     * not PostgreSQL. Backends report their counts within about a second, so
+     * wait that long for the previous rate's commits to show up.
+     */
+    private Long commitCount() throws InterruptedException {
+        String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName());
+        if (!"PostgreSQL".equals(product)) {
+            return null;
+        }
+        Thread.sleep(1_500);
+        return jdbcTemplate.queryForObject(
+                "SELECT xact_commit FROM pg_stat_database WHERE datname = current_database()", Long.class);
+    }
+
+    /**
+     * Heap left after a full collection, resident set size (Linux only) and the
+     * most threads alive so far. Driver and server share the JVM, so the figures
+     * compare builds and stacks rather than size a deployment.
+     */
+    private static void reportMemory(int rate) throws IOException {
+        System.gc();
+        long heap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+        Path status = Path.of("/proc/self/status");
+        String rss = !Files.exists(status) ? "n/a" : Files.readAllLines(status).stream()
+                .filter(line -> line.startsWith("VmRSS:"))
+                .map(line -> String.valueOf(Long.parseLong(line.replaceAll("\\D", "")) / 1024))
+                .findFirst().orElse("n/a");
+        System.out.printf("%-30s %8d %10d MB heap after GC, %s MB RSS, %d peak threads%n", "(memory)", rate,
+                heap / (1024 * 1024), rss, ManagementFactory.getThreadMXBean().getPeakThreadCount());
+    }
+
+    private static void report(Endpoint endpoint, int rate, EndpointResult result, Path outputDir,
+                               HistogramLogWriter logWriter) throws IOException {
+        Histogram latencies = result.getLatencies();
+        System.out.printf(ROW_FORMAT, endpoint.getLabel(), rate,
+                latencies.getTotalCount() + result.getErrors().get(), result.getErrors().get(),
+                millis(latencies.getValueAtPercentile(50)),
+                millis(latencies.getValueAtPercentile(99)),
+                millis(latencies.getValueAtPercentile(99.9)),
+                millis(latencies.getMaxValue()));
+
+        latencies.setTag(endpoint.name().toLowerCase() + "@" + rate);
+        logWriter.outputIntervalHistogram(latencies);
+        Path percentiles = outputDir.resolve("rate-" + rate + "-" + endpoint.name().toLowerCase() + ".hgrm");
+        try (PrintStream out = new PrintStream(Files.newOutputStream(percentiles))) {
+            // Recorded in microseconds, written in milliseconds.
+            latencies.outputPercentileDistribution(out, 1000.0);
+        }
+    }
+
+    private static Map<Endpoint, Integer> parseMix(String mix) {
+        Map<Endpoint, Integer> weights = new EnumMap<>(Endpoint.class);
+        for (String part : mix.split(",")) {
+            String[] entry = part.trim().split(":");
+            weights.put(Endpoint.valueOf(entry[0].trim().toUpperCase()), Integer.parseInt(entry[1].trim()));
+        }
+        return weights;
+    }
+
+    private static String millis(long micros) {
+        return String.format("%.2f", micros / 1000.0);
+    }
+}
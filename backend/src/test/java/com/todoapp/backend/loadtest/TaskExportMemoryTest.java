@@ -0,0 +1,169 @@
+package com.todoapp.backend.loadtest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.condition.EnabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Memory of GET /api/tasks/export on a list larger than the heap. Starts the
+ * packaged jar as a separate process with a small heap (exporttest.xmx, default
+ * 64m) that exits on OutOfMemoryError, imports exporttest.rows tasks for a
+ * scratch owner through POST /api/tasks/import, streams them back and checks
+ * that every task arrives while the process stays up. Prints the export size
+ * and time and the peak resident set size, then deletes the owner's tasks.
+ *
+ * Skipped unless exporttest.rows is set. Package first, then:
+ * ./mvnw package -DskipTests
+ * ./mvnw test -Dtest=TaskExportMemoryTest -Djacoco.skip=true -Dexporttest.rows=2000000
+ * Runs against the database from application.yaml (or SPRING_DATASOURCE_URL).
+ */
+@EnabledIfSystemProperty(named = "exporttest.rows", matches = "\\d+")
+@EnabledOnOs(OS.LINUX)
+@DisplayName("Export memory Test")
+class TaskExportMemoryTest {
+
+    private static final String JAR = "backend-0.0.1-SNAPSHOT.jar";
+    private static final Path TARGET = Path.of("target");
+    private static final String OWNER = "export-memory-test";
+    private static final Duration STARTUP_TIMEOUT = Duration.ofSeconds(120);
+
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+
+    @Test
+    @DisplayName("Should export more tasks than fit in the heap")
+    void runExportMemoryTest() throws Exception {
+        long rows = Long.getLong("exporttest.rows");
+        String heap = System.getProperty("exporttest.xmx", "64m");
+        assertThat(TARGET.resolve(JAR)).as("package the application first").exists();
+
+        int port = freePort();
+        String java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+        Process process = new ProcessBuilder(List.of(java, "-Xmx" + heap, "-XX:+ExitOnOutOfMemoryError",
+                "-jar", JAR, "--server.port=" + port, "--spring.profiles.active=prod"))
+                .directory(TARGET.toFile())
+                .redirectErrorStream(true)
+                .redirectOutput(TARGET.resolve("exporttest.log").toFile())
+                .start();
+        URI base = URI.create("http://localhost:" + port + "/api/tasks");
+        try {
+            awaitHealthy(process, base);
+            HttpRequest upload = HttpRequest.newBuilder(base.resolve("/api/tasks/import?owner=" + OWNER))
+                    .header("Content-Type", "application/x-ndjson")
+                    .POST(HttpRequest.BodyPublishers.ofInputStream(() -> new TaskLines(rows)))
+                    .build();
+            HttpResponse<String> imported = client.send(upload, HttpResponse.BodyHandlers.ofString());
+            assertThat(imported.statusCode()).as(imported.body()).isEqualTo(200);
+
+            long start = System.nanoTime();
+            HttpResponse<InputStream> export = client.send(
+                    HttpRequest.newBuilder(base.resolve("/api/tasks/export?owner=" + OWNER)).build(),
+                    HttpResponse.BodyHandlers.ofInputStream());
+            long lines = 0;
+            long bytes = 0;
+            try (BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(export.body(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    lines++;
+                    bytes += line.length() + 1;
+                }
+            }
+            long seconds = TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - start);
+
+            System.out.printf("Exported %d tasks, %d MB in %d s with -Xmx%s; peak RSS %d MB%n",
+                    lines, bytes >> 20, seconds, heap, peakResidentMegabytes(process));
+            assertThat(process.isAlive()).as("exited, see target/exporttest.log").isTrue();
+            assertThat(lines).isEqualTo(rows);
+        } finally {
+            if (process.isAlive()) {
+                client.send(HttpRequest.newBuilder(base.resolve("/api/tasks?owner=" + OWNER + "&chunkSize=50000"))
+                        .DELETE().build(), HttpResponse.BodyHandlers.discarding());
+            }
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+            }
+        }
+    }
+
+    private void awaitHealthy(Process process, URI base) throws InterruptedException {
+        long start = System.nanoTime();
+        while (true) {
+            try {
+                HttpRequest request = HttpRequest.newBuilder(base.resolve("/api/tasks/health")).build();
+                if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return;
+                }
+            } catch (IOException ex) {
+                // Not listening yet.
+            }
+            assertThat(process.isAlive()).as("exited, see target/exporttest.log").isTrue();
+            assertThat(System.nanoTime() - start).as("not healthy within " + STARTUP_TIMEOUT)
+                    .isLessThan(STARTUP_TIMEOUT.toNanos());
+            Thread.sleep(100);
+        }
+    }
+
+    private static long peakResidentMegabytes(Process process) throws IOException {
+        return Files.readAllLines(Path.of("/proc", String.valueOf(process.pid()), "status")).stream()
+                .filter(line -> line.startsWith("VmHWM:"))
+                .map(line -> Long.parseLong(line.replaceAll("\\D", "")) / 1024)
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    /**
+     * NDJSON upload of the given number of tasks, generated as it is read.
+     */
+    private static final class TaskLines extends InputStream {
+
+        private final long rows;
+        private long written;
+        private byte[] line = new byte[0];
+        private int position;
+
+        private TaskLines(long rows) {
+            this.rows = rows;
+        }
+
+        @Override
+        public int read() {
+            if (position == line.length) {
+                if (written == rows) {
+                    return -1;
+                }
+                written++;
+                line = ("{\"title\":\"Exported task " + written + "\",\"description\":\"Written by the export "
+                        + "memory test to fill a list larger than the heap\"}\n").getBytes(StandardCharsets.UTF_8);
+                position = 0;
+            }
+            return line[position++];
+        }
+    }
+}
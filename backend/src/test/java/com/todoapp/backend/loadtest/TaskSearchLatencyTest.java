@@ -0,0 +1,191 @@
+package com.todoapp.backend.loadtest;
+
+import com.todoapp.backend.dto.TaskCreateRequest;
+import com.todoapp.backend.dto.TaskSearchResponse;
+import com.todoapp.backend.repository.TaskBulkLoader;
+import com.todoapp.backend.service.TaskService;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Latency of GET /api/tasks/search at the service level over a generated
+ * dataset. Titles and descriptions draw words from a Zipf distribution over a
+ * 50k word vocabulary (common English words, then "word51" to "word50000") and
+ * one tag per task from 100k uniform ones ("tag12345"), so the queries range
+ * from a handful of matches to most of the table. The rows are split evenly
+ * between searchtest.owners owners and the queries search the first of them,
+ * the default owner. For each query prints the number of the owner's matches
+ * and p50/p99 of the first page and of the fifth page reached through the cursor.
+ *
+ * Skipped unless searchtest.rows is set, e.g.
+ * ./mvnw test -Dtest=TaskSearchLatencyTest -Djacoco.skip=true -Dsearchtest.rows=10000000
+ * -Dspring.datasource.url=jdbc:postgresql://localhost:5432/searchdb
+ * Generates the rows only when the table holds fewer, so later runs reuse them;
+ * use a scratch database. Optional: searchtest.owners (1), searchtest.iterations (200), and
+ * todo.search.max-candidates=0 to rank every match.
+ */
+@SpringBootTest(properties = {
+        "logging.level.com.todoapp.backend=WARN",
+        "logging.level.org.hibernate.SQL=WARN",
+        "spring.jpa.properties.hibernate.show_sql=false"
+})
+@EnabledIfSystemProperty(named = "searchtest.rows", matches = "\\d+")
+@DisplayName("Task search latency Test")
+class TaskSearchLatencyTest {
+
+    private static final String ROW_FORMAT = "%-28s %10s %12s %12s %12s %12s%n";
+    private static final int PAGE_SIZE = 20;
+    private static final int DEEP_PAGE = 5;
+    private static final int TAGS = 100_000;
+    private static final int VOCABULARY = 50_000;
+
+    // The most frequent words, most frequent first.
+    private static final String[] WORDS = {
+            "review", "update", "call", "email", "report", "meeting", "plan", "fix", "order", "check",
+            "send", "prepare", "clean", "book", "pay", "schedule", "write", "buy", "team", "client",
+            "invoice", "budget", "draft", "design", "test", "deploy", "backup", "kitchen", "garden", "doctor",
+            "dentist", "insurance", "passport", "groceries", "milk", "bread", "birthday", "gift", "flight", "hotel",
+            "car", "bike", "library", "laundry", "plumber", "electrician", "tax", "mortgage", "vaccine", "recital"
+    };
+
+    private static final List<String> QUERIES = List.of(
+            "tag4242",
+            "word20000",
+            "word2000",
+            "recital",
+            "plumber invoice",
+            "\"buy groceries\"",
+            "dentist -insurance",
+            "meeting",
+            "review");
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskBulkLoader taskBulkLoader;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Should report search latency percentiles per query")
+    void runSearchLatencyTest() {
+        long rows = Long.getLong("searchtest.rows");
+        int owners = Integer.getInteger("searchtest.owners", 1);
+        int iterations = Integer.getInteger("searchtest.iterations", 200);
+        generate(rows, owners);
+
+        System.out.printf(ROW_FORMAT, "Query", "Matches", "p50 ms", "p99 ms", "p50 ms p" + DEEP_PAGE,
+                "p99 ms p" + DEEP_PAGE);
+        for (String query : QUERIES) {
+            Long matches = jdbcTemplate.queryForObject("SELECT count(*) FROM task WHERE owner = ? "
+                    + "AND search_vector @@ websearch_to_tsquery('english', ?)", Long.class,
+                    TaskCreateRequest.DEFAULT_OWNER, query);
+            Histogram firstPage = new Histogram(TimeUnit.SECONDS.toMicros(60), 3);
+            Histogram deepPage = new Histogram(TimeUnit.SECONDS.toMicros(60), 3);
+            for (int i = 0; i < iterations; i++) {
+                String cursor = null;
+                for (int page = 1; page <= DEEP_PAGE; page++) {
+                    long start = System.nanoTime();
+                    TaskSearchResponse response = taskService.searchTasks(
+                            TaskCreateRequest.DEFAULT_OWNER, query, cursor, PAGE_SIZE);
+                    long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start);
+                    if (page == 1) {
+                        firstPage.recordValue(micros);
+                        assertThat(response.getTasks()).hasSize((int) Math.min(matches, PAGE_SIZE));
+                    } else if (page == DEEP_PAGE) {
+                        deepPage.recordValue(micros);
+                    }
+                    cursor = response.getNextCursor();
+                    if (cursor == null) {
+                        break;
+                    }
+                }
+            }
+            System.out.printf(ROW_FORMAT, query, matches,
+                    millis(firstPage.getValueAtPercentile(50)), millis(firstPage.getValueAtPercentile(99)),
+                    millis(deepPage.getValueAtPercentile(50)), millis(deepPage.getValueAtPercentile(99)));
+        }
+    }
+
+    private void generate(long rows, int owners) {
+        long existing = jdbcTemplate.queryForObject("SELECT count(*) FROM task", Long.class);
+        if (existing >= rows) {
+            return;
+        }
+        System.out.printf("Generating %d tasks for %d owner(s)%n", rows - existing, owners);
+        long start = System.nanoTime();
+        Random random = new Random(42);
+        double[] cumulative = zipfCumulative(VOCABULARY);
+        for (int owner = 0; owner < owners; owner++) {
+            Iterator<TaskCreateRequest> tasks = tasks(random, cumulative, (rows - existing) / owners);
+            String name = owner == 0 ? TaskCreateRequest.DEFAULT_OWNER : "owner-" + owner;
+            transactionTemplate.executeWithoutResult(status -> taskBulkLoader.load(name, tasks));
+        }
+        jdbcTemplate.execute("VACUUM ANALYZE task");
+        System.out.printf("Generated in %d s%n", TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - start));
+    }
+
+    private static Iterator<TaskCreateRequest> tasks(Random random, double[] cumulative, long count) {
+        return new Iterator<>() {
+            private long remaining = count;
+
+            @Override
+            public boolean hasNext() {
+                return remaining > 0;
+            }
+
+            @Override
+            public TaskCreateRequest next() {
+                remaining--;
+                String title = words(3) + " tag" + random.nextInt(TAGS);
+                return new TaskCreateRequest(title, words(10));
+            }
+
+            private String words(int count) {
+                StringBuilder text = new StringBuilder();
+                for (int i = 0; i < count; i++) {
+                    int index = Arrays.binarySearch(cumulative, random.nextDouble());
+                    int rank = index >= 0 ? index : -index - 1;
+                    text.append(i == 0 ? "" : " ").append(rank < WORDS.length ? WORDS[rank] : "word" + (rank + 1));
+                }
+                return text.toString();
+            }
+        };
+    }
+
+    private static double[] zipfCumulative(int size) {
+        double[] cumulative = new double[size];
+        double total = 0;
+        for (int rank = 1; rank <= size; rank++) {
+            total += 1.0 / rank;
+            cumulative[rank - 1] = total;
+        }
+        for (int i = 0; i < size; i++) {
+            cumulative[i] /= total;
+        }
+        return cumulative;
+    }
+
+    private static String millis(long micros) {
+        return micros == 0 ? "-" : String.format("%.2f", micros / 1000.0);
+    }
+}
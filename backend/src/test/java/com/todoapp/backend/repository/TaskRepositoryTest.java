@@ -5,6 +5,12 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -15,9 +21,15 @@ import static org.assertj.core.api.Assertions.assertThat;
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
 class TaskRepositoryTest {
 
+    private static final String OWNER = "default";
+    private static final String OTHER_OWNER = "team-b";
+
     @Autowired
     private TaskRepository taskRepository;
 
+    @Autowired
+    private TestEntityManager entityManager;
+
     @Test
     void shouldSaveAndRetrieveTask() {
         // Given
@@ -25,6 +37,7 @@ class TaskRepositoryTest {
         task.setTitle("Test Task");
         task.setDescription("Test Description");
         task.setCompleted(false);
+        task.setOwner(OWNER);
 
         // When
         Task savedTask = taskRepository.save(task);
@@ -34,4 +47,195 @@ class TaskRepositoryTest {
         assertThat(savedTask.getTitle()).isEqualTo("Test Task");
         assertThat(savedTask.getCreatedAt()).isNotNull();
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldReturnOnlyActiveTasksNewestFirst() {
+        // Given
+        Task oldest = saveTask("Oldest", false);
+        saveTask("Done", true);
+        Task newest = saveTask("Newest", false);
+
+        // When
+        List<Task> recent = taskRepository.findTop5ByOwnerAndCompletedFalseOrderByCreatedAtDesc(OWNER);
+
+        // Then
+        assertThat(recent).extracting(Task::getId)
+                .containsExactly(newest.getId(), oldest.getId());
+    }
+
+    @Test
+    void shouldCompleteActiveTaskInOneStatement() {
+        // Given
+        Task task = saveTask("Active", false);
+
+        // When
+        Optional<Task> completed = taskRepository.completeIfActive(OWNER, task.getId());
+        Optional<Task> completedAgain = taskRepository.completeIfActive(OWNER, task.getId());
+
+        // Then
+        assertThat(completed).hasValueSatisfying(t -> {
+            assertThat(t.getId()).isEqualTo(task.getId());
+            assertThat(t.getCompleted()).isTrue();
+        });
+        assertThat(completedAgain).isEmpty();
+        assertThat(taskRepository.completeIfActive(OWNER, -1L)).isEmpty();
+    }
+
+    @Test
+    void shouldBulkCompleteActiveTasksByIdAndCutoff() {
+        // Given
+        Task first = saveTask("First", false);
+        Task second = saveTask("Second", false);
+        Task done = saveTask("Done", true);
+        Task last = saveTask("Last", false);
+
+        // When
+        List<Task> byIds = taskRepository.completeAllActiveByIds(OWNER, List.of(first.getId(), done.getId()));
+        List<Task> byCutoff = taskRepository.completeActiveChunkCreatedBefore(OWNER, last.getCreatedAt(), 10);
+
+        // Then
+        assertThat(byIds).extracting(Task::getId).containsExactly(first.getId());
+        assertThat(byCutoff).extracting(Task::getId).containsExactly(second.getId());
+        assertThat(taskRepository.findExistingIds(OWNER, List.of(first.getId(), -1L))).containsExactly(first.getId());
+    }
+
+    @Test
+    void shouldCompleteAtMostTheLimitOfTasksCreatedBeforeCutoff() {
+        // Given
+        for (int i = 0; i < 5; i++) {
+            saveTask("Task " + i, false);
+        }
+        LocalDateTime cutoff = LocalDateTime.now().plusMinutes(1);
+
+        // When
+        List<Task> firstChunk = taskRepository.completeActiveChunkCreatedBefore(OWNER, cutoff, 3);
+        List<Task> secondChunk = taskRepository.completeActiveChunkCreatedBefore(OWNER, cutoff, 3);
+        List<Task> thirdChunk = taskRepository.completeActiveChunkCreatedBefore(OWNER, cutoff, 3);
+
+        // Then
+        assertThat(firstChunk).hasSize(3).allMatch(Task::getCompleted);
+        assertThat(secondChunk).hasSize(2).doesNotContainAnyElementsOf(firstChunk);
+        assertThat(thirdChunk).isEmpty();
+    }
+
+    @Test
+    void shouldWalkKeysetPagesWithoutGapsOrDuplicates() {
+        // Given
+        List<Long> expectedCompletedIds = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            Task task = saveTask("Task " + i, i % 2 == 0);
+            if (task.getCompleted()) {
+                expectedCompletedIds.add(0, task.getId());
+            }
+        }
+
+        // When
+        List<Long> pagedIds = new ArrayList<>();
+        List<Task> page = taskRepository.findPage(OWNER, true, null, null, 2);
+        while (!page.isEmpty()) {
+            page.forEach(task -> pagedIds.add(task.getId()));
+            Task last = page.get(page.size() - 1);
+            page = taskRepository.findPage(OWNER, true, last.getCreatedAt(), last.getId(), 2);
+        }
+
+        // Then
+        assertThat(pagedIds).containsExactlyElementsOf(expectedCompletedIds);
+        assertThat(taskRepository.findPage(OWNER, null, null, null, 10)).hasSize(7);
+    }
+
+    @Test
+    void shouldRankSearchMatchesAndPageByRank() {
+        // Given
+        Task inTitle = saveTask("Buy groceries", "Milk", false);
+        Task inDescription = saveTask("Errands", "Pick up groceries", true);
+        saveTask("Call plumber", "Kitchen sink", false);
+        Task secondInTitle = saveTask("Groceries again", "More milk", false);
+
+        // When
+        List<Long> pagedIds = new ArrayList<>();
+        List<RankedTask> page = taskRepository.search(OWNER, "GROCERIES", null, null, 2).getMatches();
+        while (!page.isEmpty()) {
+            page.forEach(match -> pagedIds.add(match.getTask().getId()));
+            RankedTask last = page.get(page.size() - 1);
+            page = taskRepository.search(OWNER, "GROCERIES", last.getRank(), last.getTask().getId(), 2).getMatches();
+        }
+
+        // Then
+        assertThat(pagedIds).containsExactly(secondInTitle.getId(), inTitle.getId(), inDescription.getId());
+        assertThat(taskRepository.search(OWNER, "groceries milk", null, null, 10).getMatches())
+                .extracting(match -> match.getTask().getId())
+                .containsExactly(secondInTitle.getId(), inTitle.getId());
+        assertThat(taskRepository.search(OWNER, "100%", null, null, 10).getMatches()).isEmpty();
+        assertThat(taskRepository.search(OWNER, "groceries", null, null, 10).isTruncated()).isFalse();
+    }
+
+    @Test
+    void shouldOnlyReadAndWriteTheGivenOwnersTasks() {
+        // Given
+        Task own = saveTask(OWNER, "Groceries", "Own", false);
+        Task other = saveTask(OTHER_OWNER, "Groceries", "Other", false);
+
+        // When
+        Optional<Task> completedOther = taskRepository.completeIfActive(OWNER, other.getId());
+        List<Task> completedByCutoff = taskRepository.completeActiveChunkCreatedBefore(OTHER_OWNER,
+                LocalDateTime.now().plusMinutes(1), 10);
+
+        // Then
+        assertThat(completedOther).isEmpty();
+        assertThat(completedByCutoff).extracting(Task::getId).containsExactly(other.getId());
+        assertThat(taskRepository.findByIdAndOwner(own.getId(), OTHER_OWNER)).isEmpty();
+        assertThat(taskRepository.findTop5ByOwnerAndCompletedFalseOrderByCreatedAtDesc(OWNER))
+                .extracting(Task::getId).containsExactly(own.getId());
+        assertThat(taskRepository.findPage(OTHER_OWNER, null, null, null, 10))
+                .extracting(Task::getId).containsExactly(other.getId());
+        assertThat(taskRepository.search(OWNER, "groceries", null, null, 10).getMatches())
+                .extracting(match -> match.getTask().getId()).containsExactly(own.getId());
+        assertThat(taskRepository.findExistingIds(OWNER, List.of(own.getId(), other.getId())))
+                .containsExactly(own.getId());
+    }
+
+    @Test
+    void shouldMoveCompletedTasksPastCutoffToArchiveInBatches() {
+        // Given
+        Task first = saveTask("First done", true);
+        Task second = saveTask("Second done", true);
+        Task active = saveTask("Active", false);
+        LocalDateTime now = LocalDateTime.now();
+
+        // When
+        int tooRecent = taskRepository.archiveCompletedBefore(now.minusDays(1), now, 1);
+        int firstBatch = taskRepository.archiveCompletedBefore(now.plusMinutes(1), now, 1);
+        int secondBatch = taskRepository.archiveCompletedBefore(now.plusMinutes(1), now, 1);
+        int lastBatch = taskRepository.archiveCompletedBefore(now.plusMinutes(1), now, 1);
+        entityManager.clear();
+
+        // Then
+        assertThat(List.of(tooRecent, firstBatch, secondBatch, lastBatch)).containsExactly(0, 1, 1, 0);
+        assertThat(taskRepository.findAll()).extracting(Task::getId).containsExactly(active.getId());
+        assertThat(taskRepository.findArchivedById(OWNER, first.getId())).hasValueSatisfying(t -> {
+            assertThat(t.getTitle()).isEqualTo("First done");
+            assertThat(t.getCompleted()).isTrue();
+            assertThat(t.getCreatedAt()).isEqualTo(first.getCreatedAt());
+        });
+        assertThat(taskRepository.findArchivedById(OWNER, active.getId())).isEmpty();
+        assertThat(taskRepository.findArchivedIds(OWNER, List.of(first.getId(), second.getId(), active.getId())))
+                .containsExactlyInAnyOrder(first.getId(), second.getId());
+    }
+
+    private Task saveTask(String title, boolean completed) {
+        return saveTask(title, "Description", completed);
+    }
+
+    private Task saveTask(String title, String description, boolean completed) {
+        return saveTask(OWNER, title, description, completed);
+    }
+
+    private Task saveTask(String owner, String title, String description, boolean completed) {
+        Task task = new Task();
+        task.setTitle(title);
+        task.setDescription(description);
+        task.setCompleted(completed);
+        task.setOwner(owner);
+        return taskRepository.saveAndFlush(task);
+    }
+}
@@ -0,0 +1,49 @@
+package com.todoapp.backend.repository;
+
+import com.todoapp.backend.entity.Task;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Search with todo.search.max-candidates set: only the most recent matches are
+ * ranked, and the one extra candidate read shows that older ones were left out.
+ */
+@DataJpaTest(properties = "todo.search.max-candidates=2")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+class TaskSearchCandidatesTest {
+
+    private static final String OWNER = "default";
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Test
+    void shouldRankOnlyTheMostRecentCandidatesAndReportTruncation() {
+        // Given
+        Task oldestInTitle = saveTask("Groceries", "Milk");
+        Task olderInDescription = saveTask("Errands", "Pick up groceries");
+        Task newestInDescription = saveTask("Errands", "More groceries");
+
+        // When / Then
+        SearchMatches groceries = taskRepository.search(OWNER, "groceries", null, null, 10);
+        assertThat(groceries.getMatches())
+                .extracting(match -> match.getTask().getId())
+                .containsExactly(newestInDescription.getId(), olderInDescription.getId())
+                .doesNotContain(oldestInTitle.getId());
+        assertThat(groceries.isTruncated()).isTrue();
+        assertThat(taskRepository.search(OWNER, "milk", null, null, 10).isTruncated()).isFalse();
+    }
+
+    private Task saveTask(String title, String description) {
+        Task task = new Task();
+        task.setTitle(title);
+        task.setDescription(description);
+        task.setCompleted(false);
+        task.setOwner(OWNER);
+        return taskRepository.saveAndFlush(task);
+    }
+}
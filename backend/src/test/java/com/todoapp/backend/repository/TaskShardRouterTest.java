@@ -0,0 +1,91 @@
+package com.todoapp.backend.repository;
+
+import com.todoapp.backend.config.ShardRoutingDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for TaskShardRouter and the ShardRoutingDataSource it binds.
+ */
+@DisplayName("TaskShardRouter Unit Tests")
+class TaskShardRouterTest {
+
+    private final TaskShardRouter router = new TaskShardRouter(3);
+
+    @AfterEach
+    void tearDown() {
+        ShardRoutingDataSource.unbind();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Should assign every owner to the same shard each time and spread owners over all shards")
+    void shardOf_ShouldBeStableAndSpread() {
+        List<Integer> shards = IntStream.range(0, 300).mapToObj(i -> router.shardOf("team-" + i)).toList();
+
+        assertThat(router.shardOf("team-1")).isEqualTo(shards.get(1));
+        assertThat(new TaskShardRouter(3).shardOf("team-1")).isEqualTo(shards.get(1));
+        assertThat(shards).containsOnly(0, 1, 2);
+        assertThat(shards.stream().filter(shard -> shard == 0).count()).isBetween(60L, 140L);
+    }
+
+    @Test
+    @DisplayName("Should route connections to the bound shard only for the call outside a transaction")
+    void onShard_WithoutTransaction_ShouldBindForTheCall() throws SQLException {
+        Connection[] connections = {mock(Connection.class), mock(Connection.class), mock(Connection.class)};
+        ShardRoutingDataSource routing = new ShardRoutingDataSource(List.of(
+                dataSource(connections[0]), dataSource(connections[1]), dataSource(connections[2])));
+
+        Connection onShard = router.onShard(2, routing::getConnection);
+
+        assertThat(onShard).isSameAs(connections[2]);
+        assertThat(ShardRoutingDataSource.boundShard()).isNull();
+        assertThat(routing.getConnection()).isSameAs(connections[0]);
+    }
+
+    @Test
+    @DisplayName("Should keep the shard bound until the transaction completes and refuse another one")
+    void onShard_InTransaction_ShouldBindUntilCompletion() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        router.onShard(1, () -> null);
+
+        assertThat(ShardRoutingDataSource.boundShard()).isEqualTo(1);
+        assertThat(router.onShard(1, () -> "same shard")).isEqualTo("same shard");
+        assertThatThrownBy(() -> router.onShard(2, () -> null)).isInstanceOf(IllegalStateException.class);
+
+        TransactionSynchronizationUtils.invokeAfterCompletion(
+                TransactionSynchronizationManager.getSynchronizations(), 0);
+        assertThat(ShardRoutingDataSource.boundShard()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should not bind anything with a single database")
+    void onShard_WithOneShard_ShouldOnlyRunAction() {
+        TaskShardRouter single = new TaskShardRouter(1);
+
+        assertThat(single.shardOf("team-a")).isZero();
+        assertThat(single.onShardOf("team-a", ShardRoutingDataSource::boundShard)).isNull();
+    }
+
+    private static DataSource dataSource(Connection connection) throws SQLException {
+        DataSource dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        return dataSource;
+    }
+}
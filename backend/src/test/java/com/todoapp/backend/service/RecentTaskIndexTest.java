@@ -0,0 +1,151 @@
+package com.todoapp.backend.service;
+
+import com.todoapp.backend.dto.TaskResponse;
+import com.todoapp.backend.entity.Task;
+import com.todoapp.backend.event.TaskChangedEvent;
+import com.todoapp.backend.repository.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks RecentTaskIndex against the repository query, which acts as the oracle.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+@DisplayName("RecentTaskIndex Tests")
+class RecentTaskIndexTest {
+
+    private static final int CAPACITY = 8;
+    private static final String OWNER = "default";
+    private static final String OTHER_OWNER = "team-b";
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    private RecentTaskIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new RecentTaskIndex(taskRepository, true, CAPACITY, 2);
+    }
+
+    @Test
+    @DisplayName("Should load an owner's tasks on its first read")
+    void getRecent_FirstRead_ShouldLoadOwnersTasks() {
+        TaskResponse own = create(OWNER, "Own");
+        create(OTHER_OWNER, "Other");
+
+        assertThat(index.getRecent(OWNER, 5)).hasValueSatisfying(recent ->
+                assertThat(recent).extracting(TaskResponse::getId).containsExactly(own.getId()));
+    }
+
+    @Test
+    @DisplayName("Should only update the event's owner and not index more than max-owners owners")
+    void onTaskChanged_ShouldOnlyUpdateEventsOwner() {
+        assertThat(index.getRecent(OWNER, 5)).hasValue(List.of());
+        assertThat(index.getRecent(OTHER_OWNER, 5)).hasValue(List.of());
+
+        index.onTaskChanged(TaskChangedEvent.created(create(OTHER_OWNER, "Other")));
+
+        assertThat(index.getRecent(OWNER, 5)).hasValue(List.of());
+        assertThat(index.getRecent(OTHER_OWNER, 5)).hasValueSatisfying(recent -> assertThat(recent).hasSize(1));
+        assertThat(index.getRecent("team-c", 5)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should match the repository query through random creates and completes")
+    void getRecent_ShouldMatchRepositoryOracle() {
+        Random random = new Random(42);
+        List<TaskResponse> active = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            active.add(create(OWNER, "Warm " + i));
+        }
+
+        for (int step = 0; step < 200; step++) {
+            if (active.isEmpty() || random.nextInt(3) > 0) {
+                TaskResponse created = create(OWNER, "Task " + step);
+                active.add(created);
+                index.onTaskChanged(TaskChangedEvent.created(created));
+            } else {
+                TaskResponse completed = complete(active.remove(random.nextInt(active.size())));
+                index.onTaskChanged(TaskChangedEvent.completed(completed));
+            }
+
+            assertThat(index.getRecent(OWNER, 5)).hasValueSatisfying(recent ->
+                    assertThat(recent).extracting(TaskResponse::getId).containsExactlyElementsOf(oracle()));
+        }
+    }
+
+    @Test
+    @DisplayName("Should be empty but answerable after all tasks are deleted")
+    void onTaskChanged_DeletedAll_ShouldClearIndex() {
+        create(OWNER, "Task");
+        assertThat(index.getRecent(OWNER, 5)).hasValueSatisfying(recent -> assertThat(recent).hasSize(1));
+
+        taskRepository.deleteAll();
+        index.onTaskChanged(TaskChangedEvent.deletedAll(OWNER));
+
+        assertThat(index.getRecent(OWNER, 5)).hasValue(List.of());
+    }
+
+    @Test
+    @DisplayName("Should never answer a concurrent read with a partly reloaded index")
+    void getRecent_DuringReload_ShouldReturnCompleteResult() throws InterruptedException {
+        for (int i = 0; i < 5; i++) {
+            create(OWNER, "Task " + i);
+        }
+        assertThat(index.getRecent(OWNER, 5)).hasValueSatisfying(recent -> assertThat(recent).hasSize(5));
+
+        AtomicBoolean reloading = new AtomicBoolean(true);
+        List<Integer> partial = new CopyOnWriteArrayList<>();
+        Thread reader = new Thread(() -> {
+            while (reloading.get()) {
+                index.getRecent(OWNER, 5).filter(recent -> recent.size() != 5)
+                        .ifPresent(recent -> partial.add(recent.size()));
+            }
+        });
+        reader.start();
+        for (int i = 0; i < 500; i++) {
+            index.onTaskChanged(TaskChangedEvent.imported(OWNER));
+        }
+        reloading.set(false);
+        reader.join();
+
+        assertThat(partial).isEmpty();
+    }
+
+    private List<Long> oracle() {
+        return taskRepository.findByOwnerAndCompletedFalse(OWNER, PageRequest.of(0, 5, RecentTaskIndex.NEWEST_FIRST))
+                .stream()
+                .map(Task::getId)
+                .toList();
+    }
+
+    private TaskResponse create(String owner, String title) {
+        Task task = new Task();
+        task.setOwner(owner);
+        task.setTitle(title);
+        task.setDescription("Description");
+        task.setCompleted(false);
+        return TaskServiceImplementation.convertToResponse(taskRepository.saveAndFlush(task));
+    }
+
+    private TaskResponse complete(TaskResponse response) {
+        Task task = taskRepository.findById(response.getId()).orElseThrow();
+        task.setCompleted(true);
+        return TaskServiceImplementation.convertToResponse(taskRepository.saveAndFlush(task));
+    }
+}
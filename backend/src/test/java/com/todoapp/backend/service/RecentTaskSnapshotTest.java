@@ -0,0 +1,152 @@
+package com.todoapp.backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.todoapp.backend.config.CborConfiguration;
+import com.todoapp.backend.config.ReplicaRoutingDataSource;
+import com.todoapp.backend.dto.TaskResponse;
+import com.todoapp.backend.event.TaskChangedEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for RecentTaskSnapshot.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RecentTaskSnapshot Unit Tests")
+class RecentTaskSnapshotTest {
+
+    private static final String OWNER = "default";
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final MappingJackson2CborHttpMessageConverter cborConverter = new CborConfiguration()
+            .cborHttpMessageConverter(Jackson2ObjectMapperBuilder.json());
+
+    @Mock
+    private TaskService taskService;
+
+    @Test
+    @DisplayName("Should reuse the serialized body until a change is committed")
+    void get_ShouldRebuildOnlyAfterChange() {
+        RecentTaskSnapshot snapshot = new RecentTaskSnapshot(taskService, objectMapper, cborConverter, true, 10);
+        when(taskService.getRecentTasks(OWNER))
+                .thenReturn(List.of(task(1L, "First")))
+                .thenReturn(List.of(task(2L, "Second"), task(1L, "First")));
+
+        RecentTaskSnapshot.Snapshot first = snapshot.get(OWNER);
+        RecentTaskSnapshot.Snapshot unchanged = snapshot.get(OWNER);
+        snapshot.onTaskChanged(TaskChangedEvent.created(task(2L, "Second")));
+        RecentTaskSnapshot.Snapshot changed = snapshot.get(OWNER);
+
+        assertThat(unchanged).isSameAs(first);
+        assertThat(changed.getEtag()).isNotEqualTo(first.getEtag());
+        assertThat(new String(changed.getBody())).contains("Second");
+        verify(taskService, times(2)).getRecentTasks(OWNER);
+    }
+
+    @Test
+    @DisplayName("Should derive the ETag from the content")
+    void get_ShouldKeepEtagForSameContent() {
+        RecentTaskSnapshot snapshot = new RecentTaskSnapshot(taskService, objectMapper, cborConverter, true, 10);
+        when(taskService.getRecentTasks(OWNER)).thenReturn(List.of(task(1L, "First")));
+
+        String etag = snapshot.get(OWNER).getEtag();
+        snapshot.onTaskChanged(TaskChangedEvent.deletedAll(OWNER));
+
+        assertThat(snapshot.get(OWNER).getEtag()).isEqualTo(etag).startsWith("\"").endsWith("\"");
+    }
+
+    @Test
+    @DisplayName("Should keep one body per owner and rebuild only the changed owner's")
+    void get_ShouldKeepSnapshotPerOwner() {
+        RecentTaskSnapshot snapshot = new RecentTaskSnapshot(taskService, objectMapper, cborConverter, true, 10);
+        when(taskService.getRecentTasks(OWNER)).thenReturn(List.of(task(1L, "First")));
+        when(taskService.getRecentTasks("team-b")).thenReturn(List.of());
+
+        RecentTaskSnapshot.Snapshot own = snapshot.get(OWNER);
+        RecentTaskSnapshot.Snapshot other = snapshot.get("team-b");
+        snapshot.onTaskChanged(TaskChangedEvent.deletedAll("team-b"));
+
+        assertThat(snapshot.get(OWNER)).isSameAs(own);
+        assertThat(new String(other.getBody())).isEqualTo("[]");
+        snapshot.get("team-b");
+        verify(taskService, times(1)).getRecentTasks(OWNER);
+        verify(taskService, times(2)).getRecentTasks("team-b");
+    }
+
+    @Test
+    @DisplayName("Should rebuild on every call when disabled")
+    void get_WhenDisabled_ShouldAlwaysRebuild() {
+        RecentTaskSnapshot snapshot = new RecentTaskSnapshot(taskService, objectMapper, cborConverter, false, 10);
+        when(taskService.getRecentTasks(OWNER)).thenReturn(List.of(task(1L, "First")));
+
+        snapshot.get(OWNER);
+        snapshot.get(OWNER);
+
+        verify(taskService, times(2)).getRecentTasks(OWNER);
+    }
+
+    @Test
+    @DisplayName("Should keep a CBOR body with its own ETag that decodes to the same tasks")
+    void getCbor_ShouldServeSameTasksAsCbor() throws Exception {
+        RecentTaskSnapshot snapshot = new RecentTaskSnapshot(taskService, objectMapper, cborConverter, true, 10);
+        List<TaskResponse> tasks = List.of(task(2L, "Second"), task(1L, "First"));
+        when(taskService.getRecentTasks(OWNER)).thenReturn(tasks);
+
+        RecentTaskSnapshot.Snapshot json = snapshot.get(OWNER);
+        RecentTaskSnapshot.Snapshot cbor = snapshot.getCbor(OWNER);
+
+        assertThat(snapshot.getCbor(OWNER)).isSameAs(cbor);
+        assertThat(cbor.getEtag()).isNotEqualTo(json.getEtag());
+        assertThat(cbor.getBody().length).isLessThan(json.getBody().length);
+        assertThat(cborConverter.getObjectMapper().readValue(cbor.getBody(), TaskResponse[].class))
+                .containsExactlyElementsOf(tasks);
+    }
+
+    @Test
+    @DisplayName("Should build the body from the primary when replicas are enabled")
+    void get_ShouldReadFromPrimary() throws Exception {
+        Connection primary = mock(Connection.class);
+        DataSource replica = mock(DataSource.class);
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(dataSource(primary),
+                List.of(replica), Duration.ofMinutes(1));
+        RecentTaskSnapshot snapshot = new RecentTaskSnapshot(taskService, objectMapper, cborConverter, true, 10);
+        List<Connection> connections = new ArrayList<>();
+        when(taskService.getRecentTasks(OWNER)).thenAnswer(invocation -> {
+            connections.add(routing.getConnection());
+            return List.of();
+        });
+
+        snapshot.get(OWNER);
+
+        assertThat(connections).containsExactly(primary);
+        verifyNoInteractions(replica);
+    }
+
+    private static DataSource dataSource(Connection connection) throws SQLException {
+        DataSource dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        return dataSource;
+    }
+
+    private static TaskResponse task(Long id, String title) {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 0, 0).plusMinutes(id);
+        return new TaskResponse(id, title, "Description", false, createdAt, createdAt, OWNER);
+    }
+}
@@ -0,0 +1,108 @@
+package com.todoapp.backend.service;
+
+import com.todoapp.backend.dto.TaskResponse;
+import com.todoapp.backend.repository.TaskRepository;
+import com.todoapp.backend.repository.TaskShardRouter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Archives completed tasks through TaskArchiver against H2 and checks that only
+ * tasks completed before the cutoff move, one transaction per batch, and that
+ * archived tasks are still served by id.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+@Import({TaskServiceImplementation.class, RecentTaskIndex.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("TaskArchiver Tests")
+class TaskArchiverTest {
+
+    private static final int DUE = 2_500;
+    private static final int BATCH_SIZE = 1_000;
+    private static final String OWNER = "default";
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private TaskArchiver archiver;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        // Ids 1..DUE completed 60 days ago; the rest completed today or still active. All of the default owner.
+        transactionTemplate.executeWithoutResult(status -> entityManager.createNativeQuery(
+                "INSERT INTO task (id, title, description, completed, created_at, updated_at) "
+                        + "SELECT X, CONCAT('Task ', X), 'Description', X <= " + (DUE + 10) + ", "
+                        + "DATEADD('DAY', -90, CURRENT_TIMESTAMP), "
+                        + "CASE WHEN X <= " + DUE + " THEN DATEADD('DAY', -60, CURRENT_TIMESTAMP) "
+                        + "ELSE CURRENT_TIMESTAMP END "
+                        + "FROM SYSTEM_RANGE(1, " + (DUE + 20) + ")")
+                .executeUpdate());
+        archiver = new TaskArchiver(taskRepository, transactionTemplate, new TaskShardRouter(1), meterRegistry,
+                Duration.ofDays(30), Duration.ofHours(1), BATCH_SIZE, Duration.ZERO);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        archiver.shutdown();
+        taskService.deleteAllTasks(OWNER);
+    }
+
+    @Test
+    @DisplayName("Should move only tasks completed before the cutoff, in batches")
+    void archive_ShouldMoveDueTasksInBatches() throws InterruptedException {
+        long archived = archiver.archive();
+
+        assertThat(archived).isEqualTo(DUE);
+        assertThat(statistics.getTransactionCount()).isEqualTo((DUE + BATCH_SIZE - 1) / BATCH_SIZE);
+        assertThat(meterRegistry.get(TaskArchiver.ARCHIVED_COUNTER).counter().count()).isEqualTo(DUE);
+        assertThat(taskRepository.count()).isEqualTo(20);
+        assertThat(archiver.archive()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should keep archived tasks reachable by id")
+    void archive_ShouldKeepTasksReachableById() throws InterruptedException {
+        archiver.archive();
+
+        TaskResponse archived = taskService.getTask(OWNER, 1L);
+        assertThat(archived.getTitle()).isEqualTo("Task 1");
+        assertThat(archived.getCompleted()).isTrue();
+        assertThat(taskService.completeTask(OWNER, 1L).getId()).isEqualTo(1L);
+        assertThat(taskService.getTask(OWNER, (long) DUE + 20).getCompleted()).isFalse();
+    }
+}
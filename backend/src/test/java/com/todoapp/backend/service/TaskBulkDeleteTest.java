@@ -0,0 +1,94 @@
+package com.todoapp.backend.service;
+
+import com.todoapp.backend.dto.TaskCreateRequest;
+import com.todoapp.backend.dto.TaskDeleteResponse;
+import com.todoapp.backend.repository.TaskRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Deletes 50k tasks through the service and checks, via Hibernate statistics,
+ * that no Task entity is loaded and that the number of statements depends on
+ * the chunk size only, not on the number of rows. Application memory therefore
+ * stays flat regardless of table size, unlike JpaRepository.deleteAll(), which
+ * materializes every row.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+@Import({TaskServiceImplementation.class, RecentTaskIndex.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("Bulk delete Tests")
+class TaskBulkDeleteTest {
+
+    private static final int ROWS = 50_000;
+    private static final int CHUNK_SIZE = 5_000;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        transactionTemplate.executeWithoutResult(status -> entityManager.createNativeQuery(
+                "INSERT INTO task (id, title, description, completed, created_at) "
+                        + "SELECT X, CONCAT('Task ', X), 'Description', FALSE, CURRENT_TIMESTAMP "
+                        + "FROM SYSTEM_RANGE(1, " + ROWS + ")")
+                .executeUpdate());
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("Should delete 50k tasks in one statement without loading entities")
+    void deleteAllTasks_ShouldNotLoadEntities() {
+        TaskDeleteResponse response = taskService.deleteAllTasks(TaskCreateRequest.DEFAULT_OWNER);
+
+        assertThat(response.getDeleted()).isEqualTo(ROWS);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(statistics.getEntityDeleteCount()).isZero();
+        // One statement for the tasks and one for the archive.
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(taskRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should delete 50k tasks in chunks without loading entities")
+    void deleteAllTasksInChunks_ShouldNotLoadEntities() {
+        TaskDeleteResponse response = taskService.deleteAllTasksInChunks(TaskCreateRequest.DEFAULT_OWNER, CHUNK_SIZE);
+
+        assertThat(response.getDeleted()).isEqualTo(ROWS);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        // One statement and transaction per full chunk, then one finding no tasks and one for the archive.
+        int chunks = ROWS / CHUNK_SIZE + 2;
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(chunks);
+        assertThat(statistics.getTransactionCount()).isEqualTo(chunks);
+        assertThat(taskRepository.count()).isZero();
+    }
+}
@@ -0,0 +1,78 @@
+package com.todoapp.backend.service;
+
+import com.todoapp.backend.dto.TaskCreateRequest;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Exports 20k tasks, twenty times the JDBC fetch size, through the service and
+ * checks that the persistence context never holds more than the task currently
+ * being written, so export memory is independent of table size. The same export
+ * of more tasks than fit in a small heap is TaskExportMemoryTest in the load tests.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+@Import({TaskServiceImplementation.class, RecentTaskIndex.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("Export Tests")
+class TaskExportTest {
+
+    private static final int ROWS = 20_000;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate.executeWithoutResult(status -> entityManager.createNativeQuery(
+                "INSERT INTO task (id, title, description, completed, created_at) "
+                        + "SELECT X, CONCAT('Task ', X), 'Description', MOD(X, 2) = 0, CURRENT_TIMESTAMP "
+                        + "FROM SYSTEM_RANGE(1, " + ROWS + ")")
+                .executeUpdate());
+    }
+
+    @AfterEach
+    void tearDown() {
+        taskService.deleteAllTasks(TaskCreateRequest.DEFAULT_OWNER);
+    }
+
+    @Test
+    @DisplayName("Should stream every task in id order with at most one managed entity")
+    void exportTasks_ShouldKeepPersistenceContextBounded() {
+        AtomicLong lastId = new AtomicLong();
+        AtomicInteger maxManagedEntities = new AtomicInteger();
+
+        long exported = taskService.exportTasks(TaskCreateRequest.DEFAULT_OWNER, task -> {
+            assertThat(task.getId()).isGreaterThan(lastId.get());
+            lastId.set(task.getId());
+            int managed = entityManager.unwrap(Session.class).getStatistics().getEntityCount();
+            maxManagedEntities.accumulateAndGet(managed, Math::max);
+        });
+
+        assertThat(exported).isEqualTo(ROWS);
+        assertThat(lastId.get()).isEqualTo(ROWS);
+        assertThat(maxManagedEntities.get()).isLessThanOrEqualTo(1);
+    }
+}
@@ -0,0 +1,237 @@
+package com.todoapp.backend.service;
+
+import com.todoapp.backend.dto.TaskCreateRequest;
+import com.todoapp.backend.entity.Task;
+import com.todoapp.backend.exception.ServiceUnavailableException;
+import com.todoapp.backend.repository.TaskRepository;
+import com.todoapp.backend.repository.TaskShardRouter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.spy;
+
+/**
+ * Creates tasks concurrently through TaskGroupCommitter against H2 and checks
+ * that every caller gets its own saved task back while the writes share far
+ * fewer transactions than there are tasks.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+@Import({TaskServiceImplementation.class, RecentTaskIndex.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("TaskGroupCommitter Tests")
+class TaskGroupCommitterTest {
+
+    private static final int CALLERS = 32;
+    private static final int TASKS_PER_CALLER = 25;
+    private static final int BATCH_SIZE = 50;
+    private static final String SLOW_OWNER = "slow-owner";
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private TaskGroupCommitter committer;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        committer = new TaskGroupCommitter(taskRepository, transactionTemplate, new TaskShardRouter(1), meterRegistry,
+                BATCH_SIZE, Duration.ofMillis(20), 10_000, Duration.ofSeconds(30));
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        committer.shutdown();
+        taskService.deleteAllTasks(TaskCreateRequest.DEFAULT_OWNER);
+        taskService.deleteAllTasks(SLOW_OWNER);
+    }
+
+    @Test
+    @DisplayName("Should return each caller its saved task from shared transactions")
+    void save_ShouldCoalesceConcurrentCreates() throws Exception {
+        ExecutorService callers = Executors.newFixedThreadPool(CALLERS);
+        List<Future<List<Task>>> results = new ArrayList<>();
+        try {
+            for (int caller = 0; caller < CALLERS; caller++) {
+                String prefix = "Caller " + caller + " task ";
+                results.add(callers.submit(() -> {
+                    List<Task> saved = new ArrayList<>();
+                    for (int i = 0; i < TASKS_PER_CALLER; i++) {
+                        saved.add(committer.save(newTask(prefix + i)));
+                    }
+                    return saved;
+                }));
+            }
+            for (int caller = 0; caller < CALLERS; caller++) {
+                List<Task> saved = results.get(caller).get();
+                assertThat(saved).hasSize(TASKS_PER_CALLER);
+                for (int i = 0; i < TASKS_PER_CALLER; i++) {
+                    assertThat(saved.get(i).getId()).isNotNull();
+                    assertThat(saved.get(i).getTitle()).isEqualTo("Caller " + caller + " task " + i);
+                }
+            }
+        } finally {
+            callers.shutdownNow();
+        }
+
+        int total = CALLERS * TASKS_PER_CALLER;
+        assertThat(taskRepository.count()).isEqualTo(total);
+        DistributionSummary batchSizes = meterRegistry.get(TaskGroupCommitter.BATCH_SIZE_SUMMARY).summary();
+        assertThat((long) batchSizes.totalAmount()).isEqualTo(total);
+        assertThat(batchSizes.max()).isLessThanOrEqualTo(BATCH_SIZE);
+        assertThat(statistics.getTransactionCount()).isLessThan(total / 4);
+    }
+
+    @Test
+    @DisplayName("Should reject creates once shut down")
+    void save_WhenShutDown_ShouldThrowServiceUnavailable() throws InterruptedException {
+        committer.shutdown();
+
+        assertThatThrownBy(() -> committer.save(newTask("Late")))
+                .isInstanceOf(ServiceUnavailableException.class);
+    }
+
+    @Test
+    @DisplayName("Should fail the batch whose write throws and keep writing later batches")
+    void save_WhenBatchThrows_ShouldFailItAndKeepWriting() throws InterruptedException {
+        committer.shutdown();
+        TaskShardRouter shardRouter = spy(new TaskShardRouter(1));
+        doThrow(new IllegalStateException("No shard")).when(shardRouter).shardOf("broken-owner");
+        committer = new TaskGroupCommitter(taskRepository, transactionTemplate, shardRouter, meterRegistry,
+                BATCH_SIZE, Duration.ofMillis(1), 10_000, Duration.ofSeconds(30));
+
+        assertThatThrownBy(() -> committer.save(newTask("Broken", "broken-owner")))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("No shard");
+        Task saved = committer.save(newTask("After the failure"));
+
+        assertThat(saved.getId()).isNotNull();
+        assertThat(taskRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should answer 503 for a task still queued at the commit timeout and not write it")
+    void save_WhenCommitTimesOutBeforeClaim_ShouldThrowServiceUnavailable() throws Exception {
+        committer.shutdown();
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        TaskShardRouter shardRouter = spy(new TaskShardRouter(1));
+        doAnswer(invocation -> {
+            writing.countDown();
+            release.await();
+            return invocation.callRealMethod();
+        }).when(shardRouter).shardOf(SLOW_OWNER);
+        committer = new TaskGroupCommitter(taskRepository, transactionTemplate, shardRouter, meterRegistry,
+                1, Duration.ofMillis(1), 10_000, Duration.ofMillis(200));
+        ExecutorService caller = Executors.newSingleThreadExecutor();
+        try {
+            Future<Task> slow = caller.submit(() -> committer.save(newTask("Slow", SLOW_OWNER)));
+            assertThat(writing.await(5, TimeUnit.SECONDS)).isTrue();
+
+            assertThatThrownBy(() -> committer.save(newTask("Queued")))
+                    .isInstanceOf(ServiceUnavailableException.class);
+            release.countDown();
+            assertThat(slow.get(5, TimeUnit.SECONDS).getId()).isNotNull();
+        } finally {
+            release.countDown();
+            caller.shutdownNow();
+        }
+        committer.shutdown();
+
+        assertThat(taskRepository.findAll()).extracting(Task::getTitle).containsExactly("Slow");
+    }
+
+    @Test
+    @DisplayName("Should wait past the commit timeout for a transaction already under way")
+    void save_WhenTransactionStallsPastCommitTimeout_ShouldReturnSavedTask() throws Exception {
+        committer.shutdown();
+        CountDownLatch inserted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        TransactionTemplate stalling = new TransactionTemplate(transactionTemplate.getTransactionManager()) {
+            @Override
+            public <T> T execute(TransactionCallback<T> action) {
+                return super.execute(status -> {
+                    T result = action.doInTransaction(status);
+                    inserted.countDown();
+                    try {
+                        release.await();
+                    } catch (InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return result;
+                });
+            }
+        };
+        committer = new TaskGroupCommitter(taskRepository, stalling, new TaskShardRouter(1), meterRegistry,
+                1, Duration.ofMillis(1), 10_000, Duration.ofMillis(200));
+        ExecutorService caller = Executors.newSingleThreadExecutor();
+        try {
+            Future<Task> slow = caller.submit(() -> committer.save(newTask("Slow")));
+            assertThat(inserted.await(5, TimeUnit.SECONDS)).isTrue();
+
+            Thread.sleep(500);
+            assertThat(slow.isDone()).isFalse();
+            release.countDown();
+
+            Task saved = slow.get(5, TimeUnit.SECONDS);
+            assertThat(saved.getId()).isNotNull();
+            assertThat(taskRepository.findAll()).extracting(Task::getId).containsExactly(saved.getId());
+        } finally {
+            release.countDown();
+            caller.shutdownNow();
+        }
+    }
+
+    private static Task newTask(String title) {
+        return newTask(title, TaskCreateRequest.DEFAULT_OWNER);
+    }
+
+    private static Task newTask(String title, String owner) {
+        Task task = new Task();
+        task.setTitle(title);
+        task.setDescription("Description");
+        task.setCompleted(false);
+        task.setOwner(owner);
+        return task;
+    }
+}
@@ -0,0 +1,130 @@
+package com.todoapp.backend.service;
+
+import com.todoapp.backend.dto.TaskImportResponse;
+import com.todoapp.backend.entity.Task;
+import com.todoapp.backend.exception.BadRequestException;
+import com.todoapp.backend.repository.TaskBulkLoader;
+import com.todoapp.backend.repository.TaskRepository;
+import com.todoapp.backend.repository.TaskShardRouter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Imports NDJSON and CSV uploads through the batched-INSERT path of
+ * TaskBulkLoader and checks that invalid lines are skipped and reported.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+@Import({TaskImportServiceImplementation.class, TaskBulkLoader.class, TaskShardRouter.class, RecentTaskIndex.class})
+@ImportAutoConfiguration({JacksonAutoConfiguration.class, ValidationAutoConfiguration.class})
+@DisplayName("Import Tests")
+class TaskImportTest {
+
+    private static final String OWNER = "team-a";
+
+    @Autowired
+    private TaskImportService taskImportService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Test
+    @DisplayName("Should import valid NDJSON lines and report invalid ones")
+    void importTasks_Ndjson() {
+        String upload = """
+                {"title":"First","description":"One"}
+
+                {"title":"","description":"Blank title"}
+                {"title":"Second","description":"Two"}
+                {"title":"Broken"
+                {"title":"%s","description":"Too long"}
+                {"title":"Third","description":"Other owner","owner":"team-b"}
+                """.formatted("x".repeat(101));
+
+        TaskImportResponse response = taskImportService.importTasks(
+                OWNER, input(upload), TaskImportService.Format.NDJSON);
+
+        assertThat(response.getImported()).isEqualTo(2);
+        assertThat(response.getRejected()).isEqualTo(4);
+        assertThat(response.getErrors())
+                .extracting(TaskImportResponse.LineError::getLine)
+                .containsExactly(3L, 5L, 6L, 7L);
+        assertThat(response.getErrors().get(0).getMessage()).startsWith("title:");
+        assertThat(response.getErrors().get(1).getMessage()).startsWith("Malformed JSON");
+        assertThat(response.getErrors().get(3).getMessage()).startsWith("owner:");
+        assertThat(taskRepository.findAll())
+                .extracting(Task::getTitle)
+                .containsExactlyInAnyOrder("First", "Second");
+        assertThat(taskRepository.findAll()).allSatisfy(task -> {
+            assertThat(task.getCompleted()).isFalse();
+            assertThat(task.getCreatedAt()).isNotNull();
+            assertThat(task.getOwner()).isEqualTo(OWNER);
+        });
+    }
+
+    @Test
+    @DisplayName("Should import CSV rows with quoted fields and report invalid ones")
+    void importTasks_Csv() {
+        String upload = """
+                description,title
+                "Has a comma, and ""quotes\""",Quoted
+                Missing title,
+                Too,many,columns
+                Plain,Simple
+                """;
+
+        TaskImportResponse response = taskImportService.importTasks(OWNER, input(upload), TaskImportService.Format.CSV);
+
+        assertThat(response.getImported()).isEqualTo(2);
+        assertThat(response.getRejected()).isEqualTo(2);
+        assertThat(response.getErrors())
+                .extracting(TaskImportResponse.LineError::getLine)
+                .containsExactly(3L, 4L);
+        assertThat(taskRepository.findAll())
+                .extracting(Task::getDescription)
+                .containsExactlyInAnyOrder("Has a comma, and \"quotes\"", "Plain");
+    }
+
+    @Test
+    @DisplayName("Should reject a CSV upload without the required header")
+    void importTasks_CsvWithoutHeader() {
+        assertThatThrownBy(() -> taskImportService.importTasks(
+                        OWNER, input("name\nTask\n"), TaskImportService.Format.CSV))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    @DisplayName("Should list only the first rejected lines but count all of them")
+    void importTasks_CapsReportedErrors() {
+        String upload = IntStream.range(0, 250)
+                .mapToObj(i -> "{\"title\":\"\",\"description\":\"Invalid\"}")
+                .collect(Collectors.joining("\n"));
+
+        TaskImportResponse response = taskImportService.importTasks(
+                OWNER, input(upload), TaskImportService.Format.NDJSON);
+
+        assertThat(response.getImported()).isZero();
+        assertThat(response.getRejected()).isEqualTo(250);
+        assertThat(response.getErrors()).hasSize(TaskImportServiceImplementation.MAX_REPORTED_ERRORS);
+    }
+
+    private static InputStream input(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,36 @@
+package com.todoapp.backend.service;
+
+import com.todoapp.backend.dto.TaskCreateRequest;
+import com.todoapp.backend.dto.TaskResponse;
+import com.todoapp.backend.entity.Task;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of turning a Task entity into its response DTO through the Lombok builder,
+ * as done for every task in every response.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TaskResponseConversionBenchmark {
+
+    private Task task;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        task = new Task(42L, "Write benchmarks", "Measure the request hot path", false, now, now,
+                TaskCreateRequest.DEFAULT_OWNER);
+    }
+
+    @Benchmark
+    public TaskResponse convertToResponse() {
+        return TaskServiceImplementation.convertToResponse(task);
+    }
+}
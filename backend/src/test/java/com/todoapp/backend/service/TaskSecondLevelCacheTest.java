@@ -0,0 +1,138 @@
+package com.todoapp.backend.service;
+
+import com.todoapp.backend.dto.TaskCreateRequest;
+import com.todoapp.backend.dto.TaskResponse;
+import com.todoapp.backend.repository.TaskBulkLoader;
+import com.todoapp.backend.repository.TaskRepository;
+import com.todoapp.backend.repository.TaskShardRouter;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the read paths the second-level cache targets, getRecentTasks and
+ * completeTask on an already completed task (which looks the task up by id),
+ * and reports the cache hit rates and the statements sent to the database
+ * against the same calls without a cache. Also checks that every write path,
+ * including the native and JDBC ones Hibernate cannot see, invalidates cached
+ * entities and query results. The provider is a test dependency, so this
+ * runs in every build against the l2cache profile's configuration.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+@ActiveProfiles("l2cache")
+@Import({TaskServiceImplementation.class, RecentTaskIndex.class, TaskBulkLoader.class, TaskShardRouter.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("Second-level cache Tests")
+class TaskSecondLevelCacheTest {
+
+    private static final int ROUNDS = 1_000;
+    private static final String OWNER = TaskCreateRequest.DEFAULT_OWNER;
+    // Uncached, each round runs the top-5 query, the conditional UPDATE and findById.
+    private static final int UNCACHED_STATEMENTS_PER_ROUND = 3;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskBulkLoader taskBulkLoader;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    void tearDown() {
+        taskService.deleteAllTasks(OWNER);
+    }
+
+    @Test
+    @DisplayName("Should serve repeated reads from the cache and send far fewer statements")
+    void repeatedReads_ShouldHitCache() {
+        List<TaskResponse> tasks = taskService.createTasks(IntStream.range(0, 20)
+                .mapToObj(i -> new TaskCreateRequest("Task " + i, "Description " + i))
+                .toList());
+        List<Long> completedIds = tasks.subList(0, 5).stream().map(TaskResponse::getId).toList();
+        completedIds.forEach(id -> taskService.completeTask(OWNER, id));
+        statistics.clear();
+
+        for (int i = 0; i < ROUNDS; i++) {
+            assertThat(taskService.getRecentTasks(OWNER)).hasSize(5);
+            Long id = completedIds.get(i % completedIds.size());
+            assertThat(taskService.completeTask(OWNER, id).getCompleted()).isTrue();
+        }
+
+        long entityHits = statistics.getSecondLevelCacheHitCount();
+        long entityMisses = statistics.getSecondLevelCacheMissCount();
+        long queryHits = statistics.getQueryCacheHitCount();
+        long queryMisses = statistics.getQueryCacheMissCount();
+        long statements = statistics.getPrepareStatementCount();
+        long uncachedStatements = (long) ROUNDS * UNCACHED_STATEMENTS_PER_ROUND;
+        System.out.printf("Second-level cache: entity hit rate %.1f%% (%d/%d), top-5 query hit rate %.1f%% (%d/%d), "
+                        + "%d statements vs %d uncached (-%.0f%%)%n",
+                percent(entityHits, entityHits + entityMisses), entityHits, entityHits + entityMisses,
+                percent(queryHits, queryHits + queryMisses), queryHits, queryHits + queryMisses,
+                statements, uncachedStatements, 100 - percent(statements, uncachedStatements));
+
+        assertThat(percent(entityHits, entityHits + entityMisses)).isGreaterThan(99);
+        assertThat(percent(queryHits, queryHits + queryMisses)).isGreaterThan(99);
+        // What remains is the conditional UPDATE, which must reach the database.
+        assertThat(statements).isLessThan(uncachedStatements / 2);
+    }
+
+    @Test
+    @DisplayName("Should invalidate cached tasks and query results on every write path")
+    void writes_ShouldInvalidateCache() {
+        TaskResponse task = taskService.createTask(new TaskCreateRequest("Cached", "Cached task"));
+        assertThat(taskService.getRecentTasks(OWNER)).extracting(TaskResponse::getId).containsExactly(task.getId());
+        assertThat(taskRepository.findById(task.getId())).get().extracting("completed").isEqualTo(false);
+
+        // Native UPDATE ... RETURNING
+        taskService.completeTask(OWNER, task.getId());
+        assertThat(taskService.getRecentTasks(OWNER)).isEmpty();
+        assertThat(taskRepository.findById(task.getId())).get().extracting("completed").isEqualTo(true);
+
+        // JDBC batch insert
+        transactionTemplate.executeWithoutResult(status -> taskBulkLoader.load(OWNER,
+                List.of(new TaskCreateRequest("Imported", "Imported task")).iterator()));
+        assertThat(taskService.getRecentTasks(OWNER)).extracting(TaskResponse::getTitle).containsExactly("Imported");
+
+        // Bulk JPQL delete
+        taskService.deleteAllTasks(OWNER);
+        assertThat(taskService.getRecentTasks(OWNER)).isEmpty();
+        assertThat(taskRepository.findById(task.getId())).isEmpty();
+    }
+
+    private static double percent(long part, long total) {
+        return total == 0 ? 0 : 100.0 * part / total;
+    }
+}
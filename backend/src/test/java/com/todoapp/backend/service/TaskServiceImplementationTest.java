@@ -1,10 +1,20 @@
 package com.todoapp.backend.service;
 
+import com.todoapp.backend.dto.TaskBulkCompleteRequest;
+import com.todoapp.backend.dto.TaskBulkCompleteResponse;
 import com.todoapp.backend.dto.TaskCreateRequest;
+import com.todoapp.backend.dto.TaskDeleteResponse;
+import com.todoapp.backend.dto.TaskPageResponse;
 import com.todoapp.backend.dto.TaskResponse;
+import com.todoapp.backend.dto.TaskSearchResponse;
 import com.todoapp.backend.entity.Task;
+import com.todoapp.backend.event.TaskChangedEvent;
+import com.todoapp.backend.exception.BadRequestException;
 import com.todoapp.backend.exception.ResourceNotFoundException;
+import com.todoapp.backend.repository.RankedTask;
+import com.todoapp.backend.repository.SearchMatches;
 import com.todoapp.backend.repository.TaskRepository;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -13,16 +23,25 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 /**
@@ -33,9 +52,26 @@ import static org.mockito.Mockito.*;
 @DisplayName("TaskService Unit Tests")
 class TaskServiceImplementationTest {
 
+    private static final String OWNER = TaskCreateRequest.DEFAULT_OWNER;
+
     @Mock
     private TaskRepository taskRepository;
 
+    @Mock
+    private RecentTaskIndex recentTaskIndex;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private ObjectProvider<TaskGroupCommitter> taskGroupCommitter;
+
     @InjectMocks
     private TaskServiceImplementation taskService;
 
@@ -50,6 +86,7 @@ class TaskServiceImplementationTest {
         testTask.setCompleted(false);
         testTask.setCreatedAt(LocalDateTime.now());
         testTask.setUpdatedAt(LocalDateTime.now());
+        testTask.setOwner(OWNER);
     }
 
     @Test
@@ -57,6 +94,7 @@ class TaskServiceImplementationTest {
     void createTask_ShouldReturnCreatedTask() {
         // Given
         TaskCreateRequest request = new TaskCreateRequest("New Task", "New Description");
+        runTransactionsInline();
         when(taskRepository.save(any(Task.class))).thenReturn(testTask);
 
         // When
@@ -70,6 +108,69 @@ class TaskServiceImplementationTest {
         ArgumentCaptor<Task> taskCaptor = ArgumentCaptor.forClass(Task.class);
         verify(taskRepository, times(1)).save(taskCaptor.capture());
         assertThat(taskCaptor.getValue().getCompleted()).isFalse();
+        assertThat(taskCaptor.getValue().getOwner()).isEqualTo(OWNER);
+    }
+
+    @Test
+    @DisplayName("Should hand the task to the group committer when enabled")
+    void createTask_WithGroupCommit_ShouldNotOpenOwnTransaction() {
+        // Given
+        TaskGroupCommitter committer = mock(TaskGroupCommitter.class);
+        when(taskGroupCommitter.getIfAvailable()).thenReturn(committer);
+        when(committer.save(any(Task.class))).thenReturn(testTask);
+
+        // When
+        TaskResponse response = taskService.createTask(new TaskCreateRequest("New Task", "New Description"));
+
+        // Then
+        assertThat(response.getId()).isEqualTo(1L);
+        verifyNoInteractions(transactionTemplate);
+        verify(taskRepository, never()).save(any(Task.class));
+        verify(eventPublisher).publishEvent(any(TaskChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("Should create a batch of tasks in request order")
+    void createTasks_ShouldSaveAllAndReturnInOrder() {
+        // Given
+        List<TaskCreateRequest> requests = List.of(
+                new TaskCreateRequest("First", "Description"),
+                new TaskCreateRequest("Second", "Description"));
+        when(taskRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        List<TaskResponse> responses = taskService.createTasks(requests);
+
+        // Then
+        assertThat(responses).extracting(TaskResponse::getTitle).containsExactly("First", "Second");
+        assertThat(responses).extracting(TaskResponse::getCompleted).containsOnly(false);
+        verify(taskRepository).flush();
+        verify(eventPublisher).publishEvent(any(TaskChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("Should reject a batch of tasks of different owners")
+    void createTasks_WithMixedOwners_ShouldThrowException() {
+        List<TaskCreateRequest> requests = List.of(
+                new TaskCreateRequest("First", "Description"),
+                new TaskCreateRequest("Second", "Description", "team-b"));
+
+        assertThatThrownBy(() -> taskService.createTasks(requests))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("same owner");
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    @DisplayName("Should not return a task of another owner")
+    void getTask_OfOtherOwner_ShouldThrowNotFound() {
+        // Given
+        when(taskRepository.findByIdAndOwner(1L, "team-b")).thenReturn(Optional.empty());
+        when(taskRepository.findArchivedById("team-b", 1L)).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThatThrownBy(() -> taskService.getTask("team-b", 1L))
+                .isInstanceOf(ResourceNotFoundException.class);
     }
 
     @Test
@@ -77,61 +178,303 @@ class TaskServiceImplementationTest {
     void getRecentTasks_ShouldReturnTop5Tasks() {
         // Given
         List<Task> tasks = Arrays.asList(testTask, testTask, testTask);
-        when(taskRepository.findTop5ByCompletedFalseOrderByCreatedAtDesc()).thenReturn(tasks);
+        when(taskRepository.findTop5ByOwnerAndCompletedFalseOrderByCreatedAtDesc(OWNER)).thenReturn(tasks);
 
         // When
-        List<TaskResponse> responses = taskService.getRecentTasks();
+        List<TaskResponse> responses = taskService.getRecentTasks(OWNER);
 
         // Then
         assertThat(responses).hasSize(3);
-        verify(taskRepository, times(1)).findTop5ByCompletedFalseOrderByCreatedAtDesc();
+        verify(taskRepository, times(1)).findTop5ByOwnerAndCompletedFalseOrderByCreatedAtDesc(OWNER);
     }
 
     @Test
     @DisplayName("Should return empty list when no tasks exist")
     void getRecentTasks_WithNoTasks_ShouldReturnEmptyList() {
         // Given
-        when(taskRepository.findTop5ByCompletedFalseOrderByCreatedAtDesc())
+        when(taskRepository.findTop5ByOwnerAndCompletedFalseOrderByCreatedAtDesc(OWNER))
             .thenReturn(Collections.emptyList());
 
         // When
-        List<TaskResponse> responses = taskService.getRecentTasks();
+        List<TaskResponse> responses = taskService.getRecentTasks(OWNER);
 
         // Then
         assertThat(responses).isEmpty();
     }
 
+    @Test
+    @DisplayName("Should serve recent tasks from the index without querying the repository")
+    void getRecentTasks_WithWarmIndex_ShouldNotQueryRepository() {
+        // Given
+        TaskResponse indexed = TaskResponse.builder().id(1L).title("Indexed").build();
+        when(recentTaskIndex.getRecent(OWNER, 5)).thenReturn(Optional.of(List.of(indexed)));
+
+        // When
+        List<TaskResponse> responses = taskService.getRecentTasks(OWNER);
+
+        // Then
+        assertThat(responses).containsExactly(indexed);
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    @DisplayName("Should publish a completed event after marking a task as completed")
+    void completeTask_ShouldPublishCompletedEvent() {
+        // Given
+        testTask.setCompleted(true);
+        when(taskRepository.completeIfActive(OWNER, 1L)).thenReturn(Optional.of(testTask));
+
+        // When
+        taskService.completeTask(OWNER, 1L);
+
+        // Then
+        ArgumentCaptor<TaskChangedEvent> eventCaptor = ArgumentCaptor.forClass(TaskChangedEvent.class);
+        verify(eventPublisher).publishEvent(eventCaptor.capture());
+        assertThat(eventCaptor.getValue().getType()).isEqualTo(TaskChangedEvent.Type.COMPLETED);
+        assertThat(eventCaptor.getValue().getTasks()).extracting(TaskResponse::getId).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("Should return a next cursor that resumes after the last task of the page")
+    void getTasks_WithMoreResults_ShouldReturnNextCursor() {
+        // Given
+        LocalDateTime createdAt = testTask.getCreatedAt();
+        Task second = new Task(2L, "Second", "Description", false, createdAt.minusSeconds(1), null, OWNER);
+        Task third = new Task(3L, "Third", "Description", false, createdAt.minusSeconds(2), null, OWNER);
+        when(taskRepository.findPage(OWNER, null, null, null, 3)).thenReturn(List.of(testTask, second, third));
+
+        // When
+        TaskPageResponse page = taskService.getTasks(OWNER, null, null, 2);
+        taskService.getTasks(OWNER, null, page.getNextCursor(), 2);
+
+        // Then
+        assertThat(page.getTasks()).extracting(TaskResponse::getId).containsExactly(1L, 2L);
+        verify(taskRepository).findPage(OWNER, null, second.getCreatedAt(), 2L, 3);
+    }
+
+    @Test
+    @DisplayName("Should return no cursor on the last page")
+    void getTasks_OnLastPage_ShouldReturnNullCursor() {
+        // Given
+        when(taskRepository.findPage(OWNER, false, null, null, 6)).thenReturn(List.of(testTask));
+
+        // When
+        TaskPageResponse page = taskService.getTasks(OWNER, false, null, 5);
+
+        // Then
+        assertThat(page.getTasks()).hasSize(1);
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should return a search cursor that resumes after the last match of the page")
+    void searchTasks_WithMoreResults_ShouldReturnNextCursor() {
+        // Given
+        Task second = new Task(2L, "Second", "Description", false, testTask.getCreatedAt(), null, OWNER);
+        Task third = new Task(3L, "Third", "Description", false, testTask.getCreatedAt(), null, OWNER);
+        when(taskRepository.search(OWNER, "test", null, null, 3)).thenReturn(new SearchMatches(List.of(
+                new RankedTask(testTask, 0.6f), new RankedTask(second, 0.1f / 3), new RankedTask(third, 0.01f)),
+                true));
+        when(taskRepository.search(OWNER, "test", 0.1f / 3, 2L, 3))
+                .thenReturn(new SearchMatches(List.of(new RankedTask(third, 0.01f)), true));
+
+        // When
+        TaskSearchResponse page = taskService.searchTasks(OWNER, "test", null, 2);
+        taskService.searchTasks(OWNER, "test", page.getNextCursor(), 2);
+
+        // Then
+        assertThat(page.getTasks()).extracting(TaskResponse::getId).containsExactly(1L, 2L);
+        assertThat(page.isTruncated()).isTrue();
+        assertThat(page.isIncludesArchived()).isFalse();
+        verify(taskRepository).search(OWNER, "test", 0.1f / 3, 2L, 3);
+    }
+
+    @Test
+    @DisplayName("Should reject a malformed cursor")
+    void getTasks_WithInvalidCursor_ShouldThrowException() {
+        assertThatThrownBy(() -> taskService.getTasks(OWNER, null, "not-a-cursor", 5))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("Invalid cursor");
+    }
+
     @Test
     @DisplayName("Should mark task as completed")
     void completeTask_ShouldMarkTaskAsCompleted() {
         // Given
-        when(taskRepository.findById(1L)).thenReturn(Optional.of(testTask));
-        when(taskRepository.save(any(Task.class))).thenReturn(testTask);
+        testTask.setCompleted(true);
+        when(taskRepository.completeIfActive(OWNER, 1L)).thenReturn(Optional.of(testTask));
 
         // When
-        TaskResponse response = taskService.completeTask(1L);
+        TaskResponse response = taskService.completeTask(OWNER, 1L);
 
         // Then
         assertThat(response).isNotNull();
-        ArgumentCaptor<Task> taskCaptor = ArgumentCaptor.forClass(Task.class);
-        verify(taskRepository).save(taskCaptor.capture());
-        assertThat(taskCaptor.getValue().getCompleted()).isTrue();
+        assertThat(response.getCompleted()).isTrue();
+        verify(taskRepository, never()).findByIdAndOwner(any(), any());
+        verify(taskRepository, never()).save(any(Task.class));
+    }
+
+    @Test
+    @DisplayName("Should return an already completed task unchanged")
+    void completeTask_WhenAlreadyCompleted_ShouldReturnTaskWithoutEvent() {
+        // Given
+        testTask.setCompleted(true);
+        when(taskRepository.completeIfActive(OWNER, 1L)).thenReturn(Optional.empty());
+        when(taskRepository.findByIdAndOwner(1L, OWNER)).thenReturn(Optional.of(testTask));
+
+        // When
+        TaskResponse response = taskService.completeTask(OWNER, 1L);
+
+        // Then
+        assertThat(response.getCompleted()).isTrue();
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("Should bulk complete tasks by id and report missing ids")
+    void completeTasks_ByIds_ShouldReportNotFound() {
+        // Given
+        testTask.setCompleted(true);
+        runTransactionsInline();
+        when(taskRepository.completeAllActiveByIds(eq(OWNER), anyCollection())).thenReturn(List.of(testTask));
+        when(taskRepository.findExistingIds(eq(OWNER), anyCollection())).thenReturn(List.of(2L));
+
+        // When
+        TaskBulkCompleteResponse response = taskService.completeTasks(OWNER,
+                new TaskBulkCompleteRequest(List.of(1L, 2L, 3L), null));
+
+        // Then
+        assertThat(response.getCompletedCount()).isEqualTo(1);
+        assertThat(response.getCompleted()).extracting(TaskResponse::getId).containsExactly(1L);
+        assertThat(response.getNotFound()).containsExactly(3L);
+        verify(eventPublisher).publishEvent(any(TaskChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("Should return an archived task unchanged")
+    void completeTask_WhenArchived_ShouldReturnArchivedTask() {
+        // Given
+        testTask.setCompleted(true);
+        when(taskRepository.completeIfActive(OWNER, 1L)).thenReturn(Optional.empty());
+        when(taskRepository.findByIdAndOwner(1L, OWNER)).thenReturn(Optional.empty());
+        when(taskRepository.findArchivedById(OWNER, 1L)).thenReturn(Optional.of(testTask));
+
+        // When
+        TaskResponse response = taskService.completeTask(OWNER, 1L);
+
+        // Then
+        assertThat(response.getId()).isEqualTo(1L);
+        assertThat(response.getCompleted()).isTrue();
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("Should not report archived ids as missing when bulk completing")
+    void completeTasks_ByIds_ShouldNotReportArchivedIds() {
+        // Given
+        runTransactionsInline();
+        when(taskRepository.completeAllActiveByIds(eq(OWNER), anyCollection())).thenReturn(List.of());
+        when(taskRepository.findExistingIds(eq(OWNER), anyCollection())).thenReturn(List.of(1L));
+        when(taskRepository.findArchivedIds(eq(OWNER), anyCollection())).thenReturn(List.of(2L));
+
+        // When
+        TaskBulkCompleteResponse response = taskService.completeTasks(OWNER,
+                new TaskBulkCompleteRequest(List.of(1L, 2L, 3L), null));
+
+        // Then
+        assertThat(response.getCompleted()).isEmpty();
+        assertThat(response.getNotFound()).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("Should bulk complete tasks created before a cutoff in chunks and only count them")
+    void completeTasks_ByCutoff_ShouldCompleteInChunks() {
+        // Given
+        LocalDateTime cutoff = LocalDateTime.now();
+        int chunkSize = TaskServiceImplementation.COMPLETE_CHUNK_SIZE;
+        runTransactionsInline();
+        when(taskRepository.completeActiveChunkCreatedBefore(OWNER, cutoff, chunkSize))
+                .thenReturn(Collections.nCopies(chunkSize, testTask), List.of(testTask));
+
+        // When
+        TaskBulkCompleteResponse response = taskService.completeTasks(OWNER,
+                new TaskBulkCompleteRequest(null, cutoff));
+
+        // Then
+        assertThat(response.getCompletedCount()).isEqualTo(chunkSize + 1);
+        assertThat(response.getCompleted()).isNull();
+        assertThat(response.getNotFound()).isEmpty();
+        verify(transactionTemplate, times(2)).execute(any());
+        verify(eventPublisher, times(2)).publishEvent(any(TaskChangedEvent.class));
+        verify(taskRepository, never()).findExistingIds(eq(OWNER), anyCollection());
     }
 
     @Test
     @DisplayName("Should throw exception when completing non-existent task")
     void completeTask_WithInvalidId_ShouldThrowException() {
         // Given
-        when(taskRepository.findById(999L)).thenReturn(Optional.empty());
+        when(taskRepository.findByIdAndOwner(999L, OWNER)).thenReturn(Optional.empty());
 
         // When & Then
-        assertThatThrownBy(() -> taskService.completeTask(999L))
+        assertThatThrownBy(() -> taskService.completeTask(OWNER, 999L))
                 .isInstanceOf(ResourceNotFoundException.class)
                 .hasMessageContaining("Task not found with id: 999");
+        assertThatThrownBy(() -> taskService.getTask(OWNER, 999L))
+                .isInstanceOf(ResourceNotFoundException.class);
         
         verify(taskRepository, never()).save(any(Task.class));
     }
 
+    @Test
+    @DisplayName("Should export every streamed task and detach it")
+    void exportTasks_ShouldConvertAndDetachEachTask() {
+        // Given
+        Task second = new Task(2L, "Second", "Description", true, LocalDateTime.now(), null, OWNER);
+        when(taskRepository.streamAll(OWNER)).thenReturn(Stream.of(testTask, second));
+        List<TaskResponse> exported = new ArrayList<>();
+
+        // When
+        long count = taskService.exportTasks(OWNER, exported::add);
+
+        // Then
+        assertThat(count).isEqualTo(2);
+        assertThat(exported).extracting(TaskResponse::getId).containsExactly(1L, 2L);
+        verify(entityManager).detach(testTask);
+        verify(entityManager).detach(second);
+    }
+
+    @Test
+    @DisplayName("Should delete all tasks with one bulk statement")
+    void deleteAllTasks_ShouldUseBulkDelete() {
+        // Given
+        when(taskRepository.deleteAllInBulk(OWNER)).thenReturn(3);
+        when(taskRepository.deleteAllArchived(OWNER)).thenReturn(2);
+
+        // When
+        TaskDeleteResponse response = taskService.deleteAllTasks(OWNER);
+
+        // Then
+        assertThat(response.getDeleted()).isEqualTo(5);
+        verify(taskRepository, never()).deleteAll();
+        verify(eventPublisher).publishEvent(any(TaskChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("Should delete tasks chunk by chunk until a short chunk")
+    void deleteAllTasksInChunks_ShouldLoopUntilShortChunk() {
+        // Given
+        when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        when(taskRepository.deleteChunk(OWNER, 2)).thenReturn(2, 2, 1);
+
+        // When
+        TaskDeleteResponse response = taskService.deleteAllTasksInChunks(OWNER, 2);
+
+        // Then
+        assertThat(response.getDeleted()).isEqualTo(5);
+        verify(taskRepository, times(3)).deleteChunk(OWNER, 2);
+    }
+
     @Test
     @DisplayName("Should correctly convert Task to TaskResponse")
     void createTask_ShouldConvertToResponseDTO() {
@@ -139,6 +482,7 @@ class TaskServiceImplementationTest {
         TaskCreateRequest request = new TaskCreateRequest("Title", "Description");
         testTask.setCreatedAt(LocalDateTime.now());
         testTask.setUpdatedAt(LocalDateTime.now());
+        runTransactionsInline();
         when(taskRepository.save(any(Task.class))).thenReturn(testTask);
 
         // When
@@ -152,4 +496,9 @@ class TaskServiceImplementationTest {
         assertThat(response.getCreatedAt()).isNotNull();
         assertThat(response.getUpdatedAt()).isNotNull();
     }
-}
\ No newline at end of file
+
+    private void runTransactionsInline() {
+        when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+}
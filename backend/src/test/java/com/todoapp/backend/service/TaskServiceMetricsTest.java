@@ -0,0 +1,92 @@
+package com.todoapp.backend.service;
+
+import com.todoapp.backend.dto.TaskResponse;
+import com.todoapp.backend.repository.TaskRepository;
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Calls TaskService through the same TimedAspect the application registers and
+ * checks that every call is recorded with histogram buckets. The per-call cost
+ * of the timer is measured by TimedOperationBenchmark.
+ */
+@DisplayName("TaskService metrics Tests")
+class TaskServiceMetricsTest {
+
+    private static final int CALLS = 100;
+
+    @Test
+    @DisplayName("Should time every call with a histogram")
+    void timedOperation_ShouldRecordEveryCallWithHistogram() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        List<DistributionStatisticConfig> timerConfigs = new ArrayList<>();
+        registry.config().meterFilter(new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                timerConfigs.add(config);
+                return config;
+            }
+        });
+        TaskService timed = timed(newService(), registry);
+
+        for (int i = 0; i < CALLS; i++) {
+            assertThat(timed.getRecentTasks("default")).hasSize(1);
+        }
+
+        Timer timer = registry.get(TaskServiceImplementation.OPERATION_TIMER).tag("operation", "recent").timer();
+        assertThat(timer.count()).isEqualTo(CALLS);
+        assertThat(timerConfigs).isNotEmpty().allMatch(DistributionStatisticConfig::isPercentileHistogram);
+    }
+
+    /**
+     * Proxies the service with the TimedAspect, as the application context does.
+     */
+    static TaskService timed(TaskService taskService, SimpleMeterRegistry registry) {
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(taskService);
+        proxyFactory.addAspect(new TimedAspect(registry));
+        return proxyFactory.getProxy();
+    }
+
+    /**
+     * Served from a fixed in-memory index so the call does no I/O and no mock
+     * bookkeeping; the other collaborators are not used on this path.
+     */
+    static TaskService newService() {
+        LocalDateTime now = LocalDateTime.now();
+        Optional<List<TaskResponse>> recent = Optional.of(List.of(
+                new TaskResponse(1L, "Task", "Description", false, now, now, "default")));
+        RecentTaskIndex recentTaskIndex = new RecentTaskIndex(null, true, 50, 1) {
+            @Override
+            public Optional<List<TaskResponse>> getRecent(String owner, int limit) {
+                return recent;
+            }
+        };
+        return new TaskServiceImplementation(
+                mock(TaskRepository.class, withSettings().stubOnly()),
+                recentTaskIndex,
+                mock(ApplicationEventPublisher.class, withSettings().stubOnly()),
+                mock(TransactionTemplate.class, withSettings().stubOnly()),
+                mock(EntityManager.class, withSettings().stubOnly()),
+                mock(ObjectProvider.class, withSettings().stubOnly()));
+    }
+}
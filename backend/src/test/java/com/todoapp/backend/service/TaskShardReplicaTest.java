@@ -0,0 +1,68 @@
+package com.todoapp.backend.service;
+
+import com.todoapp.backend.dto.TaskCreateRequest;
+import com.todoapp.backend.dto.TaskResponse;
+import com.todoapp.backend.repository.TaskShardRouter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs two H2 shards, each with its own database registered once more as its
+ * replica, and checks by the Hikari pool metrics that an owner's reads are
+ * served by the replica of the owner's shard and its writes by the shard.
+ */
+@SpringBootTest(properties = {
+        "todo.shards.enabled=true",
+        "todo.shards.urls=jdbc:h2:mem:shard-replica-test-1;DB_CLOSE_DELAY=-1",
+        "todo.replicas.enabled=true",
+        "todo.replicas.urls=jdbc:h2:mem:shard-replica-test-0;DB_CLOSE_DELAY=-1",
+        "todo.replicas.shard-urls.1=jdbc:h2:mem:shard-replica-test-1;DB_CLOSE_DELAY=-1",
+        "spring.datasource.url=jdbc:h2:mem:shard-replica-test-0;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.show_sql=false"})
+@DisplayName("Sharding with replicas Tests")
+class TaskShardReplicaTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskShardRouter shardRouter;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("Should read an owner's tasks from the replica of its shard")
+    void getTask_ShouldUseReplicaOfOwnersShard() {
+        String owner = IntStream.range(0, 100).mapToObj(i -> "team-" + i)
+                .filter(candidate -> shardRouter.shardOf(candidate) == 1)
+                .findFirst().orElseThrow();
+        TaskResponse created = taskService.createTask(new TaskCreateRequest("Groceries", "Buy milk", owner));
+        long shardCheckouts = checkouts("shard-1");
+        long otherReplicaCheckouts = checkouts("shard-0-replica-1");
+
+        assertThat(taskService.getTask(owner, created.getId()).getOwner()).isEqualTo(owner);
+
+        assertThat(checkouts("shard-1-replica-1")).isEqualTo(1);
+        assertThat(checkouts("shard-1")).isEqualTo(shardCheckouts);
+        assertThat(checkouts("shard-0-replica-1")).isEqualTo(otherReplicaCheckouts);
+        taskService.deleteAllTasks(owner);
+    }
+
+    private long checkouts(String pool) {
+        Timer timer = meterRegistry.find("hikaricp.connections.acquire").tag("pool", pool).timer();
+        return timer == null ? 0 : timer.count();
+    }
+}
@@ -0,0 +1,156 @@
+package com.todoapp.backend.service;
+
+import com.todoapp.backend.config.ShardIdRanges;
+import com.todoapp.backend.config.ShardRoutingDataSource;
+import com.todoapp.backend.dto.TaskBulkCompleteRequest;
+import com.todoapp.backend.dto.TaskCreateRequest;
+import com.todoapp.backend.dto.TaskResponse;
+import com.todoapp.backend.exception.ResourceNotFoundException;
+import com.todoapp.backend.repository.TaskShardRouter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Runs the application on three in-memory H2 databases as shards and checks,
+ * by reading each database directly, that every owner's tasks are written to
+ * its shard only, within the shard's id range, and that the service reads and
+ * changes one owner's tasks at a time. The second-level cache is on, as it
+ * relies on ids not repeating across shards.
+ */
+@SpringBootTest(properties = {
+        "todo.shards.enabled=true",
+        "todo.shards.urls=jdbc:h2:mem:shard-test-1;DB_CLOSE_DELAY=-1,jdbc:h2:mem:shard-test-2;DB_CLOSE_DELAY=-1",
+        "spring.datasource.url=jdbc:h2:mem:shard-test-0;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.show_sql=false"})
+@ActiveProfiles("l2cache")
+@DisplayName("Sharding Tests")
+class TaskShardingTest {
+
+    private static final int SHARDS = 3;
+    private static final int CREATES_PER_OWNER = 60;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskImportService taskImportService;
+
+    @Autowired
+    private TaskShardRouter shardRouter;
+
+    @Autowired
+    private ShardRoutingDataSource shardDataSource;
+
+    // One owner per shard, in shard order, and a second owner sharing shard 0.
+    private final List<String> owners = new ArrayList<>();
+    private String neighbour;
+
+    @BeforeEach
+    void setUp() {
+        for (int shard = 0; shard < SHARDS; shard++) {
+            int target = shard;
+            owners.add(IntStream.range(0, 100).mapToObj(i -> "team-" + i)
+                    .filter(owner -> shardRouter.shardOf(owner) == target)
+                    .findFirst().orElseThrow());
+        }
+        neighbour = IntStream.range(0, 100).mapToObj(i -> "neighbour-" + i)
+                .filter(owner -> shardRouter.shardOf(owner) == 0)
+                .findFirst().orElseThrow();
+    }
+
+    @AfterEach
+    void tearDown() {
+        owners.forEach(taskService::deleteAllTasks);
+        taskService.deleteAllTasks(neighbour);
+    }
+
+    @Test
+    @DisplayName("Should write each owner's tasks to its own shard only")
+    void createTasks_ShouldLandOnOwnersShard() {
+        // Interleaved past the id allocation size, so every shard refills its id pool.
+        for (int i = 0; i < CREATES_PER_OWNER; i++) {
+            for (String owner : owners) {
+                taskService.createTask(new TaskCreateRequest("Task " + i, "Created alone", owner));
+            }
+        }
+        for (String owner : owners) {
+            taskService.createTasks(List.of(
+                    new TaskCreateRequest("First", "Created in a batch", owner),
+                    new TaskCreateRequest("Second", "Created in a batch", owner)));
+            taskImportService.importTasks(owner, ndjson("{\"title\":\"Imported\",\"description\":\"Imported\"}"),
+                    TaskImportService.Format.NDJSON);
+        }
+
+        assertThat(shardRouter.getShardCount()).isEqualTo(SHARDS);
+        for (int shard = 0; shard < SHARDS; shard++) {
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(shardDataSource.getShard(shard));
+            assertThat(jdbcTemplate.queryForList("SELECT owner FROM task", String.class))
+                    .hasSize(CREATES_PER_OWNER + 3)
+                    .containsOnly(owners.get(shard));
+            long first = ShardIdRanges.first(shard);
+            long last = ShardIdRanges.last(shard);
+            assertThat(jdbcTemplate.queryForList("SELECT id FROM task", Long.class))
+                    .allSatisfy(id -> assertThat(id).isBetween(first, last));
+        }
+    }
+
+    @Test
+    @DisplayName("Should only read and change the given owner's tasks")
+    void ownerOperations_ShouldNotSeeOtherOwners() {
+        List<TaskResponse> created = new ArrayList<>();
+        for (String owner : owners) {
+            created.add(taskService.createTask(new TaskCreateRequest("Groceries", "Buy milk", owner)));
+        }
+        TaskResponse neighbours = taskService.createTask(new TaskCreateRequest("Groceries", "Buy bread", neighbour));
+        TaskResponse first = created.get(0);
+        TaskResponse second = created.get(1);
+
+        // Every shard numbers its tasks within its own range.
+        for (int shard = 0; shard < SHARDS; shard++) {
+            assertThat(created.get(shard).getId()).isBetween(ShardIdRanges.first(shard), ShardIdRanges.last(shard));
+        }
+        assertThat(taskService.getTask(owners.get(1), second.getId()).getOwner()).isEqualTo(owners.get(1));
+        assertThatThrownBy(() -> taskService.getTask(owners.get(0), neighbours.getId()))
+                .isInstanceOf(ResourceNotFoundException.class);
+
+        assertThat(taskService.completeTask(owners.get(1), second.getId()).getCompleted()).isTrue();
+        assertThat(taskService.getTask(owners.get(0), first.getId()).getCompleted()).isFalse();
+        assertThat(taskService.completeTasks(neighbour, new TaskBulkCompleteRequest(List.of(first.getId()), null))
+                .getNotFound()).containsExactly(first.getId());
+
+        assertThat(taskService.getRecentTasks(owners.get(0))).extracting(TaskResponse::getId)
+                .containsExactly(first.getId());
+        assertThat(taskService.getRecentTasks(owners.get(1))).isEmpty();
+        assertThat(taskService.getTasks(neighbour, null, null, 10).getTasks()).extracting(TaskResponse::getId)
+                .containsExactly(neighbours.getId());
+        assertThat(taskService.searchTasks(owners.get(2), "groceries", null, 10).getTasks())
+                .extracting(TaskResponse::getOwner).containsExactly(owners.get(2));
+
+        assertThat(taskService.deleteAllTasks(neighbour).getDeleted()).isEqualTo(1);
+        assertThat(taskService.getRecentTasks(owners.get(0))).hasSize(1);
+    }
+
+    private static InputStream ndjson(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
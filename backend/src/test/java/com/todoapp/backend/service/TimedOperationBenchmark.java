@@ -0,0 +1,47 @@
+package com.todoapp.backend.service;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.todoapp.backend.dto.TaskResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the @Timed histogram on a service call: getRecentTasks served from a
+ * stubbed index, called directly and through the TimedAspect proxy. The
+ * difference is what every timed operation adds to a request.
+ * The service's logging is switched off so the score covers the call only.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+// The aspect's reflective path takes several seconds to settle.
+@Warmup(iterations = 8, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TimedOperationBenchmark {
+
+    private TaskService direct;
+    private TaskService timed;
+
+    @Setup
+    public void setUp() {
+        ((Logger) LoggerFactory.getLogger(TaskServiceImplementation.class)).setLevel(Level.OFF);
+        direct = TaskServiceMetricsTest.newService();
+        timed = TaskServiceMetricsTest.timed(TaskServiceMetricsTest.newService(), new SimpleMeterRegistry());
+    }
+
+    @Benchmark
+    public List<TaskResponse> direct() {
+        return direct.getRecentTasks("default");
+    }
+
+    @Benchmark
+    public List<TaskResponse> timed() {
+        return timed.getRecentTasks("default");
+    }
+}
@@ -1,14 +1,37 @@
-import { useState, useEffect, useCallback } from 'react';
+import { useState, useEffect, useCallback, useRef } from 'react';
 import taskService from '../services/taskService';
 
+const MAX_TASKS = 5;
+const POLL_INTERVAL_MS = 10000;
+
+/**
+ * Merges newly created tasks into the list, keeping the newest MAX_TASKS.
+ * createdAt values are ISO strings, so they compare lexicographically.
+ */
+const mergeCreated = (tasks, created) => {
+  const ids = new Set(created.map(task => task.id));
+  return [...created.filter(task => !task.completed), ...tasks.filter(task => !ids.has(task.id))]
+    .sort((a, b) => (a.createdAt === b.createdAt ? b.id - a.id : a.createdAt < b.createdAt ? 1 : -1))
+    .slice(0, MAX_TASKS);
+};
+
 /**
  * Custom hook for managing task operations.
  * Encapsulates all task-related state and logic.
+ * Keeps the list current from the server's change stream and falls back to
+ * polling while the stream is unavailable.
  */
 const useTasks = () => {
   const [tasks, setTasks] = useState([]);
-  const [loading, setLoading] = useState(false);
+  const [loading, setLoading] = useState(true);
   const [error, setError] = useState(null);
+  const tasksRef = useRef(tasks);
+  const liveRef = useRef(false);
+  const loadedRef = useRef(false);
+
+  useEffect(() => {
+    tasksRef.current = tasks;
+  }, [tasks]);
 
   /**
    * Fetches tasks from the API
@@ -16,9 +39,10 @@ const useTasks = () => {
   const fetchTasks = useCallback(async () => {
     setLoading(true);
     setError(null);
-    
+
     try {
       const data = await taskService.getRecentTasks();
+      loadedRef.current = true;
       setTasks(data);
     } catch (err) {
       setError(err.message);
@@ -27,16 +51,49 @@ const useTasks = () => {
     }
   }, []);
 
+  /**
+   * Re-reads tasks in the background, without the loading state
+   */
+  const syncTasks = useCallback(async () => {
+    try {
+      setTasks(await taskService.getRecentTasks());
+    } catch (err) {
+      setError(err.message);
+    }
+  }, []);
+
+  /**
+   * Removes tasks from the list, refetching only when a full list drops below
+   * MAX_TASKS: only the server knows which older task moves up into it
+   */
+  const removeTasks = useCallback((ids) => {
+    const current = tasksRef.current;
+    const remaining = current.filter(task => !ids.has(task.id));
+    if (remaining.length === current.length) {
+      return;
+    }
+    tasksRef.current = remaining;
+    setTasks(remaining);
+    if (current.length === MAX_TASKS) {
+      syncTasks();
+    }
+  }, [syncTasks]);
+
   /**
    * Creates a new task
    */
   const createTask = async (taskData) => {
     setError(null);
-    
+
     try {
       const newTask = await taskService.createTask(taskData);
-      // Refresh task list after creation
-      await fetchTasks();
+      if (liveRef.current) {
+        // The created event patches the list; merging here just avoids waiting for it
+        setTasks(prevTasks => mergeCreated(prevTasks, [newTask]));
+      } else {
+        // Refresh task list after creation
+        await fetchTasks();
+      }
       return newTask;
     } catch (err) {
       setError(err.message);
@@ -49,11 +106,11 @@ const useTasks = () => {
    */
   const completeTask = async (taskId) => {
     setError(null);
-    
+
     try {
       await taskService.completeTask(taskId);
       // Remove completed task from list immediately (optimistic update)
-      setTasks(prevTasks => prevTasks.filter(task => task.id !== taskId));
+      removeTasks(new Set([taskId]));
     } catch (err) {
       setError(err.message);
       // Refresh on error to sync with server state
@@ -62,11 +119,57 @@ const useTasks = () => {
   };
 
   /**
-   * Load tasks on component mount
+   * Subscribe to task changes; poll only while the stream is down. The list
+   * is loaded when the stream opens, or right away if there is no stream.
    */
   useEffect(() => {
-    fetchTasks();
-  }, [fetchTasks]);
+    let pollTimer = null;
+
+    const startPolling = () => {
+      liveRef.current = false;
+      if (!pollTimer) {
+        pollTimer = setInterval(syncTasks, POLL_INTERVAL_MS);
+      }
+    };
+
+    const stopPolling = () => {
+      clearInterval(pollTimer);
+      pollTimer = null;
+    };
+
+    const unsubscribe = taskService.subscribeToChanges({
+      onOpen: () => {
+        liveRef.current = true;
+        stopPolling();
+        // Events missed while disconnected are not replayed
+        if (loadedRef.current) {
+          syncTasks();
+        } else {
+          fetchTasks();
+        }
+      },
+      onError: () => {
+        startPolling();
+        if (!loadedRef.current) {
+          fetchTasks();
+        }
+      },
+      onCreated: (created) => setTasks(prevTasks => mergeCreated(prevTasks, created)),
+      onCompleted: (completed) => removeTasks(new Set(completed.map(task => task.id))),
+      onDeleted: () => setTasks([]),
+      onImported: syncTasks,
+    });
+
+    if (!unsubscribe) {
+      fetchTasks();
+      startPolling();
+    }
+
+    return () => {
+      stopPolling();
+      unsubscribe?.();
+    };
+  }, [fetchTasks, syncTasks, removeTasks]);
 
   return {
     tasks,
@@ -78,4 +181,4 @@ const useTasks = () => {
   };
 };
 
-export default useTasks;
\ No newline at end of file
+export default useTasks;
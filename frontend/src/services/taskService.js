@@ -45,6 +45,32 @@ const taskService = {
       throw new Error(error.response?.data?.message || 'Failed to complete task');
     }
   },
+
+  /**
+   * Subscribes to task changes pushed by the server as Server-Sent Events.
+   * The browser reconnects automatically; onOpen fires on every (re)connect.
+   * @param {Object} handlers - onOpen, onError, onCreated, onCompleted, onDeleted, onImported
+   * @returns {Function|null} Unsubscribe function, or null if EventSource is unavailable
+   */
+  subscribeToChanges: (handlers) => {
+    if (typeof EventSource === 'undefined') {
+      return null;
+    }
+
+    const source = new EventSource(`${api.defaults.baseURL}/tasks/stream`);
+    source.onopen = () => handlers.onOpen?.();
+    source.onerror = () => handlers.onError?.();
+
+    const listen = (name, handler) => {
+      source.addEventListener(name, (event) => handler?.(JSON.parse(event.data)));
+    };
+    listen('created', handlers.onCreated);
+    listen('completed', handlers.onCompleted);
+    listen('deleted', handlers.onDeleted);
+    listen('imported', handlers.onImported);
+
+    return () => source.close();
+  },
 };
 
 export default taskService;
\ No newline at end of file